@@ -53,6 +53,7 @@
 val architecturyVersion      = project.property("architectury.version").toString()
 val appleskinVersion         = project.property("appleskin.version").toString()
 val objVersion               = project.property("obj.version").toString()
+val jmhVersion               = project.property("jmh.version").toString()
 
 plugins {
     java
@@ -78,6 +79,12 @@
             exclude(".cache/")
         }
     }
+
+    // Microbenchmarks run outside of the game, so they only get the main classes and their dependencies
+    create("jmh") {
+        compileClasspath += main.get().output + main.get().compileClasspath
+        runtimeClasspath += main.get().output + main.get().runtimeClasspath
+    }
 }
 
 group = modGroup
@@ -265,6 +272,9 @@
     }
 
     testImplementation("net.fabricmc:fabric-loader-junit:$loaderVersion")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 tasks.processResources {
@@ -322,6 +332,23 @@
     dependsOn(tasks.getByName("runGametest"))
 }
 
+// Usage: ./gradlew jmh [-Pjmh.include=<regex>]
+// Results are written to build/reports/jmh/<version>.json, which includes the commit, so runs can be compared.
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH microbenchmarks."
+
+    val results = layout.buildDirectory.file("reports/jmh/${project.version}.json")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+    project.findProperty("jmh.include")?.let { args(it.toString()) }
+
+    doFirst {
+        results.get().asFile.parentFile.mkdirs()
+    }
+}
+
 spotless {
     lineEndings = com.diffplug.spotless.LineEnding.UNIX
 
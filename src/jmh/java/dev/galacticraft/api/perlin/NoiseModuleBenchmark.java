@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.api.perlin;
+
+import dev.galacticraft.api.perlin.generator.Billowed;
+import dev.galacticraft.api.perlin.generator.Gradient;
+import dev.galacticraft.api.perlin.generator.RidgedMulti;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sampling a grid and a column point by point against the batch fill methods of each noise module.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoiseModuleBenchmark {
+    private static final int GRID = 48;
+    private static final int COLUMN = 70;
+
+    @Param({"gradient", "billowed", "ridged_multi"})
+    public String module;
+
+    private NoiseModule noise;
+    private final float[] grid = new float[GRID * GRID];
+    private final float[] column = new float[COLUMN];
+
+    @Setup
+    public void setup() {
+        this.noise = switch (this.module) {
+            case "gradient" -> new Gradient(7L, 1, 0.2F);
+            case "billowed" -> new Billowed(7L, 2, 0.25F);
+            case "ridged_multi" -> new RidgedMulti(7L, 3);
+            default -> throw new IllegalArgumentException(this.module);
+        };
+        this.noise.setFrequency(0.009F);
+    }
+
+    @Benchmark
+    public float[] pointwise2d() {
+        for (int ix = 0; ix < GRID; ix++) {
+            for (int iz = 0; iz < GRID; iz++) {
+                this.grid[ix * GRID + iz] = this.noise.getNoise(-384.0F + ix * 2.0F, 512.0F + iz * 2.0F);
+            }
+        }
+        return this.grid;
+    }
+
+    @Benchmark
+    public float[] batch2d() {
+        this.noise.fillNoise2d(this.grid, -384.0F, 512.0F, 2.0F, 2.0F, GRID, GRID);
+        return this.grid;
+    }
+
+    @Benchmark
+    public float[] pointwise3dY() {
+        for (int iy = 0; iy < COLUMN; iy++) {
+            this.column[iy] = this.noise.getNoise(-384.0F, 40.0F + iy, 512.0F);
+        }
+        return this.column;
+    }
+
+    @Benchmark
+    public float[] batch3dY() {
+        this.noise.fillNoise3dY(this.column, -384.0F, 40.0F, 512.0F, 1.0F, COLUMN);
+        return this.column;
+    }
+}
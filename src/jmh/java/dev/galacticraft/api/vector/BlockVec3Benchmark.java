@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.api.vector;
+
+import dev.galacticraft.jmh.BenchmarkBootstrap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the vector math and hashing {@link BlockVec3} is used for in neighbour walks and position sets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockVec3Benchmark {
+    private static final int COUNT = 4096;
+
+    private final BlockVec3[] vectors = new BlockVec3[COUNT];
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        Random random = new Random(3L);
+        for (int i = 0; i < COUNT; i++) {
+            this.vectors[i] = new BlockVec3(random.nextInt(512) - 256, random.nextInt(256), random.nextInt(512) - 256);
+        }
+    }
+
+    @Benchmark
+    public int neighbours() {
+        int sum = 0;
+        for (BlockVec3 vector : this.vectors) {
+            for (int side = 0; side < 6; side++) {
+                BlockVec3 neighbour = vector.newVecSide(side);
+                sum += neighbour.x + neighbour.y + neighbour.z;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arithmetic() {
+        int sum = 0;
+        BlockVec3 previous = this.vectors[COUNT - 1];
+        for (BlockVec3 vector : this.vectors) {
+            BlockVec3 result = BlockVec3.add(vector, previous).subtract(vector).scale(2).translate(1, -1, 1);
+            sum += result.distanceSquared(vector) + vector.distanceTo(previous);
+            previous = vector;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int hashSet() {
+        Set<BlockVec3> set = new HashSet<>();
+        for (BlockVec3 vector : this.vectors) {
+            set.add(vector.clone());
+        }
+        int hits = 0;
+        for (BlockVec3 vector : this.vectors) {
+            if (set.contains(vector.newVecSide(1))) hits++;
+        }
+        return hits + set.size();
+    }
+}
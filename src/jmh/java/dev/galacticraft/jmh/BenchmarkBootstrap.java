@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.jmh;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.material.Fluids;
+
+import java.util.Objects;
+
+/**
+ * Loads the vanilla registries so that benchmarks can use blocks, fluids and block states without starting a game.
+ * Galacticraft's own content is not registered, so benchmarks must stay away from anything that touches it.
+ */
+public final class BenchmarkBootstrap {
+    private static boolean initialized = false;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static void init() {
+        init(() -> {});
+    }
+
+    /**
+     * Like {@link #init()}, but runs {@code register} once the vanilla blocks and fluids exist and before the
+     * registries are frozen, so that a benchmark can register the few blocks and block entity types it builds on.
+     * Only the first call in a JVM does anything.
+     */
+    public static synchronized void init(Runnable register) {
+        if (initialized) return;
+        initialized = true;
+
+        SharedConstants.tryDetectVersion();
+        // creating the vanilla blocks and fluids registers them, but only bootstrapping freezes the registries
+        Objects.requireNonNull(Blocks.AIR);
+        Objects.requireNonNull(Fluids.EMPTY);
+        register.run();
+        Bootstrap.bootStrap();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.jmh;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link BlockGetter} backed by a map of positions, with air everywhere else.
+ */
+public class FakeBlockGetter implements BlockGetter {
+    private final Long2ObjectMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<BlockEntity> blockEntities = new Long2ObjectOpenHashMap<>();
+
+    public FakeBlockGetter() {
+        this.states.defaultReturnValue(Blocks.AIR.defaultBlockState());
+    }
+
+    public FakeBlockGetter set(BlockPos pos, BlockState state) {
+        this.states.put(pos.asLong(), state);
+        return this;
+    }
+
+    public FakeBlockGetter setBlockEntity(BlockPos pos, BlockEntity blockEntity) {
+        this.blockEntities.put(pos.asLong(), blockEntity);
+        return this;
+    }
+
+    /**
+     * Fills the walls, floor and ceiling of the box between the two corners, leaving the inside untouched.
+     */
+    public FakeBlockGetter hollowBox(BlockPos min, BlockPos max, BlockState state) {
+        for (BlockPos pos : BlockPos.betweenClosed(min, max)) {
+            if (pos.getX() == min.getX() || pos.getX() == max.getX()
+                    || pos.getY() == min.getY() || pos.getY() == max.getY()
+                    || pos.getZ() == min.getZ() || pos.getZ() == max.getZ()) {
+                this.set(pos, state);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+        return this.blockEntities.get(pos.asLong());
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return this.states.get(pos.asLong());
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return this.getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public int getHeight() {
+        return 384;
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return -64;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.api.pipe.impl;
+
+import dev.galacticraft.jmh.BenchmarkBootstrap;
+import dev.galacticraft.jmh.FakeBlockGetter;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.api.block.entity.PipeColor;
+import dev.galacticraft.mod.api.pipe.FluidPipe;
+import dev.galacticraft.mod.api.pipe.PipeNetwork;
+import dev.galacticraft.mod.content.block.special.fluidpipe.GlassFluidPipeBlock;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.fluid.base.SingleFluidStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.Fluids;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single insertion into a line of glass fluid pipes that splits the fluid between a tank above each pipe.
+ * Every invocation runs in its own aborted transaction on a new tick, so the network never runs out of capacity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipeNetworkInsertBenchmark {
+    private static final long TRANSFER_RATE = FluidConstants.BUCKET;
+
+    private static GlassFluidPipeBlock pipeBlock;
+    private static BlockEntityType<BenchmarkPipe> pipeType;
+
+    @Param({"1", "8", "64"})
+    public int tanks;
+
+    private final FluidVariant water = FluidVariant.of(Fluids.WATER);
+    private BenchmarkHost host;
+    private PipeNetworkImpl network;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init(PipeNetworkInsertBenchmark::registerPipe);
+        BlockPos origin = new BlockPos(0, 64, 0);
+
+        FakeBlockGetter blocks = new FakeBlockGetter();
+        Map<BlockPos, Storage<FluidVariant>> tanks = new HashMap<>();
+        for (int i = 0; i < this.tanks; i++) {
+            BlockPos pos = origin.east(i);
+            BlockState state = pipeBlock.defaultBlockState();
+            blocks.set(pos, state).setBlockEntity(pos, new BenchmarkPipe(pos, state));
+            tanks.put(pos.above(), SingleFluidStorage.withFixedCapacity(FluidConstants.BUCKET * 16, () -> {}));
+        }
+
+        this.host = new BenchmarkHost(blocks, tanks);
+        this.network = new PipeNetworkImpl(this.host, TRANSFER_RATE, origin);
+    }
+
+    @Benchmark
+    public long insert() {
+        this.host.tick++;
+        try (Transaction transaction = Transaction.openOuter()) {
+            return this.network.insert(this.water, TRANSFER_RATE, transaction);
+        }
+    }
+
+    private static void registerPipe() {
+        pipeBlock = Registry.register(BuiltInRegistries.BLOCK, Constant.id(Constant.Block.GLASS_FLUID_PIPE),
+                new GlassFluidPipeBlock(BlockBehaviour.Properties.of().sound(SoundType.GLASS), PipeColor.CLEAR));
+        pipeType = Registry.register(BuiltInRegistries.BLOCK_ENTITY_TYPE, Constant.id(Constant.Block.GLASS_FLUID_PIPE),
+                BlockEntityType.Builder.of(BenchmarkPipe::new, pipeBlock).build(null));
+    }
+
+    /**
+     * A glass fluid pipe that only keeps track of its network.
+     * The real block entity notifies its neighbours through the level when it joins one, and there is no level here.
+     */
+    private static final class BenchmarkPipe extends BlockEntity implements FluidPipe {
+        private final boolean[] connections = new boolean[6];
+        private @Nullable PipeNetwork network = null;
+
+        private BenchmarkPipe(BlockPos pos, BlockState state) {
+            super(pipeType, pos, state);
+        }
+
+        @Override
+        public void setNetwork(@Nullable PipeNetwork network) {
+            this.network = network;
+        }
+
+        @Override
+        public @Nullable PipeNetwork getNetwork() {
+            return this.network;
+        }
+
+        @Override
+        public Storage<FluidVariant> getInsertable() {
+            return Storage.empty();
+        }
+
+        @Override
+        public long getMaxTransferRate() {
+            return TRANSFER_RATE;
+        }
+
+        @Override
+        public void forceCreateNetwork() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean[] getConnections() {
+            return this.connections;
+        }
+
+        @Override
+        public void updateConnection(BlockState state, BlockPos pos, BlockPos neighborPos, Direction direction) {
+        }
+    }
+
+    /**
+     * Serves the network from the fake block getter, with a tick counter the benchmark advances itself.
+     */
+    private static final class BenchmarkHost implements PipeNetworkImpl.Host {
+        private final FakeBlockGetter blocks;
+        private final Map<BlockPos, Storage<FluidVariant>> tanks;
+        private int tick = 0;
+
+        private BenchmarkHost(FakeBlockGetter blocks, Map<BlockPos, Storage<FluidVariant>> tanks) {
+            this.blocks = blocks;
+            this.tanks = tanks;
+        }
+
+        @Override
+        public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+            return this.blocks.getBlockEntity(pos);
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            return this.blocks.getBlockState(pos);
+        }
+
+        @Override
+        public boolean isLoaded(BlockPos pos) {
+            return true;
+        }
+
+        @Override
+        public int getTickCount() {
+            return this.tick;
+        }
+
+        @Override
+        public @Nullable Storage<FluidVariant> findStorage(BlockPos pos, Direction side) {
+            return this.tanks.get(pos);
+        }
+
+        @Override
+        public @Nullable Level level() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.jmh.BenchmarkBootstrap;
+import dev.galacticraft.machinelib.api.filter.ResourceFilters;
+import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
+import dev.galacticraft.machinelib.api.storage.slot.FluidResourceSlot;
+import dev.galacticraft.machinelib.api.transfer.TransferType;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.fluid.base.SingleFluidStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-tick work of a refinery, once moving the fluids every tick and once in batches of
+ * {@code RefineryBlockEntity.BATCH_TICKS}. The refinery itself needs a running server, so the benchmark runs the
+ * {@link FluidConversionBatch#tick} step the refinery ticks with against machinelib's own tank and energy storages.
+ * Spreading fills a neighbouring tank in a transaction, standing in for {@code FluidSource#trySpreadFluids}.
+ * Water and lava stand in for crude oil and fuel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RefineryTickBenchmark {
+    private static final long CAPACITY = FluidConstants.BUCKET * 8;
+    private static final long PER_TICK = FluidConstants.BUCKET / 20 / 5;
+    private static final long ENERGY_PER_TICK = 120;
+    private static final long ENERGY_CAPACITY = ENERGY_PER_TICK * 1000;
+
+    @Param({"1", "20"})
+    public int batchTicks;
+
+    private final FluidVariant fuel = FluidVariant.of(Fluids.LAVA);
+    private FluidResourceSlot oilTank;
+    private FluidResourceSlot fuelTank;
+    private SingleFluidStorage neighbour;
+    private MachineEnergyStorage energy;
+    private FluidConversionBatch batch;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        this.oilTank = tank(TransferType.INPUT, Fluids.WATER);
+        this.fuelTank = tank(TransferType.OUTPUT, Fluids.LAVA);
+        this.neighbour = SingleFluidStorage.withFixedCapacity(CAPACITY, () -> {});
+        this.energy = MachineEnergyStorage.create(ENERGY_CAPACITY, ENERGY_PER_TICK * 2, 0);
+        this.batch = new FluidConversionBatch(Fluids.WATER, Fluids.LAVA, this.batchTicks);
+        this.oilTank.insert(Fluids.WATER, CAPACITY);
+        this.energy.insert(ENERGY_CAPACITY);
+    }
+
+    @Benchmark
+    public FluidConversionBatch.Result tick() {
+        FluidConversionBatch.Result result = this.batch.tick(this.oilTank, this.fuelTank, PER_TICK, this::drawEnergy, this::spreadFuel);
+        if (result == FluidConversionBatch.Result.MISSING_INPUT || result == FluidConversionBatch.Result.OUTPUT_FULL) {
+            this.refill();
+        }
+        return result;
+    }
+
+    private boolean drawEnergy() {
+        // topped up rather than running dry, so that every invocation refines like a powered refinery
+        if (!this.energy.canExtract(ENERGY_PER_TICK)) {
+            this.energy.insert(ENERGY_CAPACITY);
+        }
+        this.energy.extract(ENERGY_PER_TICK);
+        return true;
+    }
+
+    private void spreadFuel() {
+        try (Transaction transaction = Transaction.openOuter()) {
+            long inserted = this.neighbour.insert(this.fuel, this.fuelTank.getAmount(), transaction);
+            this.fuelTank.extract(Fluids.LAVA, inserted);
+            transaction.commit();
+        }
+        // the neighbour is drained right away, like a pipe network that always has room
+        this.neighbour.amount = 0;
+    }
+
+    private void refill() {
+        this.oilTank.insert(Fluids.WATER, CAPACITY - this.oilTank.getAmount());
+    }
+
+    private static FluidResourceSlot tank(TransferType type, Fluid fluid) {
+        return FluidResourceSlot.builder(type)
+                .capacity(CAPACITY)
+                .filter(ResourceFilters.ofResource(fluid))
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.jmh.BenchmarkBootstrap;
+import dev.galacticraft.jmh.FakeBlockGetter;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Blocks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the flood fill {@link SealerManager} runs for every sealer on each seal check, both for a closed room
+ * and for a room with a hole in the wall, which fills until the volume limit is hit.
+ * Each space is given a single sealer so that it gets that sealer's volume limit. A sealer block entity needs a running
+ * server, so {@code null} stands in for it; the flood fill only counts sealers and never calls them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SealerFloodFillBenchmark {
+    /**
+     * Inner edge length of the room, 10 is just under the volume a single sealer can fill.
+     */
+    @Param({"4", "7", "10"})
+    public int size;
+
+    private FakeBlockGetter sealed;
+    private FakeBlockGetter leaking;
+    private BlockPos start;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        BlockPos min = new BlockPos(0, 64, 0);
+        BlockPos max = min.offset(this.size + 1, this.size + 1, this.size + 1);
+        this.start = min.offset(1, 1, 1);
+        this.sealed = new FakeBlockGetter().hollowBox(min, max, Blocks.STONE.defaultBlockState());
+        this.leaking = new FakeBlockGetter().hollowBox(min, max, Blocks.STONE.defaultBlockState())
+                .set(max.offset(-1, -1, 0), Blocks.AIR.defaultBlockState());
+    }
+
+    @Benchmark
+    public int sealedRoom() {
+        SealerManager.SpaceToSeal space = new SealerManager.SpaceToSeal(this.start, null);
+        space.floodFill(this.sealed, new HashSet<>());
+        return space.size();
+    }
+
+    @Benchmark
+    public int leakingRoom() {
+        SealerManager.SpaceToSeal space = new SealerManager.SpaceToSeal(this.start, null);
+        space.floodFill(this.leaking, new HashSet<>());
+        return space.size();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding through the codecs in {@link StreamCodecs}, including the wide composites.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamCodecsBenchmark {
+    private static final StreamCodec<ByteBuf, Long> NULLABLE_LONG = StreamCodecs.ofNullable(StreamCodecs.LONG);
+    private static final StreamCodec<ByteBuf, Sample> SAMPLE = StreamCodecs.composite(
+            StreamCodecs.LONG, Sample::a,
+            ByteBufCodecs.VAR_INT, Sample::b,
+            ByteBufCodecs.FLOAT, Sample::c,
+            ByteBufCodecs.DOUBLE, Sample::d,
+            ByteBufCodecs.BOOL, Sample::e,
+            ByteBufCodecs.STRING_UTF8, Sample::f,
+            NULLABLE_LONG, Sample::g,
+            Sample::new
+    );
+
+    private final ByteBuf buf = Unpooled.buffer(256);
+    private final Sample sample = new Sample(Long.MAX_VALUE, 300, 0.5F, 12.25, true, "galacticraft:moon", null);
+
+    @Benchmark
+    public Long longRoundTrip() {
+        this.buf.clear();
+        StreamCodecs.LONG.encode(this.buf, 1234567890123L);
+        return StreamCodecs.LONG.decode(this.buf);
+    }
+
+    @Benchmark
+    public Long nullableRoundTrip() {
+        this.buf.clear();
+        NULLABLE_LONG.encode(this.buf, 1234567890123L);
+        NULLABLE_LONG.encode(this.buf, null);
+        NULLABLE_LONG.decode(this.buf);
+        return NULLABLE_LONG.decode(this.buf);
+    }
+
+    @Benchmark
+    public Sample compositeRoundTrip() {
+        this.buf.clear();
+        SAMPLE.encode(this.buf, this.sample);
+        return SAMPLE.decode(this.buf);
+    }
+
+    public record Sample(long a, int b, float c, double d, boolean e, String f, Long g) {
+    }
+}
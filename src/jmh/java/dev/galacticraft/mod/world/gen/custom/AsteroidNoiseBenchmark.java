@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.world.gen.custom;
+
+import dev.galacticraft.api.perlin.NoiseModule;
+import dev.galacticraft.api.perlin.generator.Billowed;
+import dev.galacticraft.api.perlin.generator.Gradient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the noise sampled by {@link AsteroidChunkGenerator} for one chunk: the density grid over the surrounding
+ * 6x6 chunks, and the skew and turbulence noise of one large asteroid overlapping the chunk.
+ * <p>
+ * The generator itself cannot be built outside of the game since it resolves Galacticraft blocks, so the noise modules
+ * are set up here the same way its constructor does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsteroidNoiseBenchmark {
+    private static final int DENSITY_SIZE = 6 * 16 / 2;
+    private static final int ASTEROID_SIZE = 25;
+    private static final int Y_SIZE = 2 * (ASTEROID_SIZE + 8 + 2);
+
+    private NoiseModule density;
+    private NoiseModule turbulence;
+    private NoiseModule skewX;
+    private NoiseModule skewY;
+    private NoiseModule skewZ;
+
+    private final float[] densityGrid = new float[DENSITY_SIZE * DENSITY_SIZE];
+    private final float[] turbulenceColumn = new float[Y_SIZE];
+    private final float[] sizeX = new float[Y_SIZE * 16];
+    private final float[] sizeY = new float[16 * 16];
+    private final float[] sizeZ = new float[16 * Y_SIZE];
+
+    @Setup
+    public void setup() {
+        Random rand = new Random(42L);
+
+        this.density = new Billowed(rand.nextLong(), 2, 0.25F);
+        this.density.setFrequency(.009F);
+        this.density.amplitude = 0.6F;
+
+        this.turbulence = new Gradient(rand.nextLong(), 1, 0.2F);
+        this.turbulence.setFrequency(.08F);
+        this.turbulence.amplitude = 0.5F;
+
+        this.skewX = new Gradient(rand.nextLong(), 1, 1);
+        this.skewX.amplitude = 8;
+        this.skewX.frequencyX = 0.005F;
+
+        this.skewY = new Gradient(rand.nextLong(), 1, 1);
+        this.skewY.amplitude = 8;
+        this.skewY.frequencyY = 0.005F;
+
+        this.skewZ = new Gradient(rand.nextLong(), 1, 1);
+        this.skewZ.amplitude = 8;
+        this.skewZ.frequencyZ = 0.005F;
+
+        float frequency = 1F / ASTEROID_SIZE;
+        this.skewX.frequencyY = frequency;
+        this.skewX.frequencyZ = frequency;
+        this.skewY.frequencyX = frequency;
+        this.skewY.frequencyZ = frequency;
+        this.skewZ.frequencyX = frequency;
+        this.skewZ.frequencyY = frequency;
+    }
+
+    @Benchmark
+    public float[] density() {
+        this.density.fillNoise2d(this.densityGrid, -48, -48, 2, 2, DENSITY_SIZE, DENSITY_SIZE);
+        return this.densityGrid;
+    }
+
+    @Benchmark
+    public float asteroid() {
+        this.skewY.fillNoise2d(this.sizeY, 131.0F, 77.0F, 1, 1, 16, 16);
+        this.skewX.fillNoise2d(this.sizeX, 19.0F, 77.0F, 1, 1, Y_SIZE, 16);
+        this.skewZ.fillNoise2d(this.sizeZ, 131.0F, 19.0F, 1, 1, 16, Y_SIZE);
+        float sum = 0;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                this.turbulence.fillNoise3dY(this.turbulenceColumn, x, 60, z, 1, Y_SIZE);
+                sum += this.turbulenceColumn[Y_SIZE / 2];
+            }
+        }
+        return sum + this.sizeX[0] + this.sizeY[0] + this.sizeZ[0];
+    }
+}
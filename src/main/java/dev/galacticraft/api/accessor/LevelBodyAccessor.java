@@ -23,6 +23,7 @@
 package dev.galacticraft.api.accessor;
 
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.api.universe.celestialbody.LevelEnvironmentProfile;
 import net.minecraft.core.Holder;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.dimension.DimensionType;
@@ -33,6 +34,10 @@ public interface LevelBodyAccessor {
         throw new RuntimeException("This should be overridden by mixin!");
     }
 
+    default LevelEnvironmentProfile galacticraft$getEnvironment() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
     default boolean galacticraft$hasDimensionTypeTag(TagKey<DimensionType> tag) {
         throw new RuntimeException("This should be overridden by mixin!");
     }
@@ -28,16 +28,41 @@
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import net.minecraft.resources.ResourceLocation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 public interface SatelliteAccessor {
     Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites();
 
+    default Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOwnedBy(UUID owner) {
+        List<CelestialBody<SatelliteConfig, SatelliteType>> owned = new ArrayList<>();
+        for (CelestialBody<SatelliteConfig, SatelliteType> satellite : this.galacticraft$getSatellites().values()) {
+            if (satellite.config().getOwnershipData().owner().equals(owner)) owned.add(satellite);
+        }
+        return owned;
+    }
+
+    default Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOrbiting(ResourceLocation parent) {
+        List<CelestialBody<SatelliteConfig, SatelliteType>> orbiting = new ArrayList<>();
+        for (CelestialBody<SatelliteConfig, SatelliteType> satellite : this.galacticraft$getSatellites().values()) {
+            if (satellite.config().getParent().map(key -> key.location().equals(parent)).orElse(false)) orbiting.add(satellite);
+        }
+        return orbiting;
+    }
+
     void galacticraft$addSatellite(CelestialBody<SatelliteConfig, SatelliteType> satellite, boolean newlyCreated);
 
     void galacticraft$removeSatellite(ResourceLocation id);
 
     void galacticraft$updateSatellite(CelestialBody<SatelliteConfig, SatelliteType> satellite);
 
+    /**
+     * Marks a satellite whose config was changed in place as needing to be saved.
+     */
+    void galacticraft$markSatelliteDirty(ResourceLocation id);
+
     void galacticraft$loadSatellites(DynamicDimensionLoadCallback.DynamicDimensionLoader dynamicDimensionLoader);
 }
@@ -94,6 +94,45 @@ public float noise2d(float x, float y) {
         return lerpX0 + v * (grad01 + u * (grad11 - grad01) - lerpX0);
     }
 
+    /**
+     * Equivalent to calling {@link #noise2d(float, float)} with a fixed {@code x} and
+     * {@code y = (y0 + n * dy) * yFrequency + yOffset} for {@code n} in {@code [0, count)}.
+     * The x half of the lattice lookup is only computed once for the whole line.
+     */
+    public void noise2dLine(float x, float y0, float dy, float yFrequency, float yOffset, float[] out, int offset, int count) {
+        int largeX = x > 0 ? (int) x : (int) x - 1;
+        x -= largeX;
+        largeX &= 255;
+        final float u = x * x * x * (x * (x * 6 - 15) + 10);
+        final float x1 = x - 1;
+        final int[] perm = this.perm;
+        final float[][] grad2d = this.grad2d;
+
+        for (int n = 0; n < count; n++) {
+            float y = (y0 + n * dy) * yFrequency + yOffset;
+            int largeY = y > 0 ? (int) y : (int) y - 1;
+            y -= largeY;
+            largeY &= 255;
+
+            final float v = y * y * y * (y * (y * 6 - 15) + 10);
+            final float y1 = y - 1;
+
+            int randY = perm[largeY] + largeX;
+            int randY1 = perm[largeY + 1] + largeX;
+            float[] grad2 = grad2d[perm[randY] & 15];
+            final float grad00 = grad2[0] * x + grad2[1] * y;
+            grad2 = grad2d[perm[randY1] & 15];
+            final float grad01 = grad2[0] * x + grad2[1] * y1;
+            grad2 = grad2d[perm[1 + randY1] & 15];
+            final float grad11 = grad2[0] * x1 + grad2[1] * y1;
+            grad2 = grad2d[perm[1 + randY] & 15];
+            final float grad10 = grad2[0] * x1 + grad2[1] * y;
+
+            final float lerpX0 = grad00 + u * (grad10 - grad00);
+            out[offset + n] = lerpX0 + v * (grad01 + u * (grad11 - grad01) - lerpX0);
+        }
+    }
+
     public float noise3d(float x, float y, float z) {
         int unitX = x > 0 ? (int) x : (int) x - 1;
         int unitY = y > 0 ? (int) y : (int) y - 1;
@@ -142,4 +181,69 @@ public float noise3d(float x, float y, float z) {
         float lerp1 = f1 + v * (f2 - f1);
         return lerp1 + w * (f3 + v * (f4 - f3) - lerp1);
     }
+
+    /**
+     * Equivalent to calling {@link #noise3d(float, float, float)} with a fixed {@code x} and {@code z} and
+     * {@code y = (y0 + n * dy) * yFrequency + yOffset} for {@code n} in {@code [0, count)}.
+     * The x and z halves of the lattice lookup are only computed once for the whole line.
+     */
+    public void noise3dLineY(float x, float z, float y0, float dy, float yFrequency, float yOffset, float[] out, int offset, int count) {
+        int unitX = x > 0 ? (int) x : (int) x - 1;
+        int unitZ = z > 0 ? (int) z : (int) z - 1;
+
+        x -= unitX;
+        z -= unitZ;
+
+        unitX &= 255;
+        unitZ &= 255;
+
+        final float u = x * x * x * (x * (x * 6 - 15) + 10);
+        final float w = z * z * z * (z * (z * 6 - 15) + 10);
+        final float x1 = x - 1;
+        final float z1 = z - 1;
+        final int[] perm = this.perm;
+        final int[][] grad3d = this.grad3d;
+        final int permZ = perm[unitZ];
+        final int permZ1 = perm[unitZ + 1];
+
+        for (int n = 0; n < count; n++) {
+            float y = (y0 + n * dy) * yFrequency + yOffset;
+            int unitY = y > 0 ? (int) y : (int) y - 1;
+            y -= unitY;
+            unitY &= 255;
+
+            final float v = y * y * y * (y * (y * 6 - 15) + 10);
+            final float y1 = y - 1;
+
+            int randZ = permZ + unitY;
+            int randZ1 = permZ1 + unitY;
+            int randYZ = perm[randZ] + unitX;
+            int randY1Z = perm[1 + randZ] + unitX;
+            int randYZ1 = perm[randZ1] + unitX;
+            int randY1Z1 = perm[1 + randZ1] + unitX;
+            int[] grad3 = grad3d[perm[randYZ] & 15];
+            final float grad000 = grad3[0] * x + grad3[1] * y + grad3[2] * z;
+            grad3 = grad3d[perm[1 + randYZ] & 15];
+            final float grad100 = grad3[0] * x1 + grad3[1] * y + grad3[2] * z;
+            grad3 = grad3d[perm[randY1Z] & 15];
+            final float grad010 = grad3[0] * x + grad3[1] * y1 + grad3[2] * z;
+            grad3 = grad3d[perm[1 + randY1Z] & 15];
+            final float grad110 = grad3[0] * x1 + grad3[1] * y1 + grad3[2] * z;
+            grad3 = grad3d[perm[randYZ1] & 15];
+            final float grad001 = grad3[0] * x + grad3[1] * y + grad3[2] * z1;
+            grad3 = grad3d[perm[1 + randYZ1] & 15];
+            final float grad101 = grad3[0] * x1 + grad3[1] * y + grad3[2] * z1;
+            grad3 = grad3d[perm[randY1Z1] & 15];
+            final float grad011 = grad3[0] * x + grad3[1] * y1 + grad3[2] * z1;
+            grad3 = grad3d[perm[1 + randY1Z1] & 15];
+            final float grad111 = grad3[0] * x1 + grad3[1] * y1 + grad3[2] * z1;
+
+            float f1 = grad000 + u * (grad100 - grad000);
+            float f2 = grad010 + u * (grad110 - grad010);
+            float f3 = grad001 + u * (grad101 - grad001);
+            float f4 = grad011 + u * (grad111 - grad011);
+            float lerp1 = f1 + v * (f2 - f1);
+            out[offset + n] = lerp1 + w * (f3 + v * (f4 - f3) - lerp1);
+        }
+    }
 }
@@ -34,6 +34,30 @@ public abstract class NoiseModule {
 
     public abstract float getNoise(float i, float j, float k);
 
+    /**
+     * Fills {@code out} with a grid of 2D samples. The sample at {@code (ix, iz)} is stored at
+     * {@code out[ix * nz + iz]} and is bit-identical to {@code getNoise(x0 + ix * dx, z0 + iz * dz)}.
+     */
+    public void fillNoise2d(float[] out, float x0, float z0, float dx, float dz, int nx, int nz) {
+        for (int ix = 0; ix < nx; ix++) {
+            float x = x0 + ix * dx;
+            int row = ix * nz;
+            for (int iz = 0; iz < nz; iz++) {
+                out[row + iz] = this.getNoise(x, z0 + iz * dz);
+            }
+        }
+    }
+
+    /**
+     * Fills {@code out} with a vertical line of 3D samples. The sample at {@code iy} is stored at {@code out[iy]}
+     * and is bit-identical to {@code getNoise(x, y0 + iy * dy, z)}.
+     */
+    public void fillNoise3dY(float[] out, float x, float y0, float z, float dy, int ny) {
+        for (int iy = 0; iy < ny; iy++) {
+            out[iy] = this.getNoise(x, y0 + iy * dy, z);
+        }
+    }
+
     public void setFrequency(float frequency) {
         this.frequencyX = frequency;
         this.frequencyY = frequency;
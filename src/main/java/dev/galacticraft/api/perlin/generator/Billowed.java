@@ -91,4 +91,24 @@ public float getNoise(float i, float j, float k) {
         }
         return val;
     }
+
+    @Override
+    public void fillNoise2d(float[] out, float x0, float z0, float dx, float dz, int nx, int nz) {
+        if (this.numOctaves != 2) {
+            super.fillNoise2d(out, x0, z0, dx, dz, nx, nz);
+            return;
+        }
+
+        final float amplitude = this.amplitude;
+        final float persistance = this.persistance;
+        for (int ix = 0; ix < nx; ix++) {
+            int row = ix * nz;
+            float i = (x0 + ix * dx) * this.frequencyX;
+            this.noiseGen.noise2dLine(i + this.offsetX, z0, dz, this.frequencyY, this.offsetY, out, row, nz);
+            for (int iz = 0; iz < nz; iz++) {
+                float j = (z0 + iz * dz) * this.frequencyY;
+                out[row + iz] = Math.abs(out[row + iz] * amplitude) + Math.abs(this.noiseGen.noise2d(i + i + this.offsetX, j + j + this.offsetY) * amplitude * persistance);
+            }
+        }
+    }
 }
@@ -97,4 +97,35 @@ public float getNoise(float i, float j, float k) {
         }
         return val;
     }
+
+    @Override
+    public void fillNoise2d(float[] out, float x0, float z0, float dx, float dz, int nx, int nz) {
+        if (this.numOctaves != 1) {
+            super.fillNoise2d(out, x0, z0, dx, dz, nx, nz);
+            return;
+        }
+
+        final float amplitude = this.amplitude;
+        for (int ix = 0; ix < nx; ix++) {
+            int row = ix * nz;
+            this.noiseGen.noise2dLine((x0 + ix * dx) * this.frequencyX + this.offsetX, z0, dz, this.frequencyY, this.offsetY, out, row, nz);
+            for (int iz = row; iz < row + nz; iz++) {
+                out[iz] *= amplitude;
+            }
+        }
+    }
+
+    @Override
+    public void fillNoise3dY(float[] out, float x, float y0, float z, float dy, int ny) {
+        if (this.numOctaves != 1) {
+            super.fillNoise3dY(out, x, y0, z, dy, ny);
+            return;
+        }
+
+        this.noiseGen.noise3dLineY(x * this.frequencyX + this.offsetX, z * this.frequencyZ + this.offsetZ, y0, dy, this.frequencyY, this.offsetY, out, 0, ny);
+        final float amplitude = this.amplitude;
+        for (int iy = 0; iy < ny; iy++) {
+            out[iy] *= amplitude;
+        }
+    }
 }
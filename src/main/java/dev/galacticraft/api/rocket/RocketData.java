@@ -34,7 +34,6 @@
 import net.minecraft.core.component.DataComponentPatch;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.FastColor;
@@ -88,8 +87,7 @@ public RocketData(
             Codec.INT.optionalFieldOf("color", 0xFFFFFFFF).forGetter(RocketData::color)
     ).apply(instance, RocketData::new));
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, RocketData> STREAM_CODEC =
-            ByteBufCodecs.fromCodecWithRegistriesTrusted(CODEC);
+    public static final StreamCodec<RegistryFriendlyByteBuf, RocketData> STREAM_CODEC = new RocketDataStreamCodec();
 
     @Contract("_, _, _, _, _, _, _, _ -> new")
     static @NotNull RocketData create(
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.api.rocket;
+
+import dev.galacticraft.api.rocket.part.*;
+import dev.galacticraft.mod.content.rocket.part.data.RocketUpgradeData;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * Compact network form of {@link RocketData}.
+ * A leading bit mask marks which fields differ from their defaults (absent part, white colour) and only those fields follow.
+ * Rocket parts are written with their own {@code EITHER_STREAM_CODEC} and the colour as a single packed ARGB int.
+ */
+final class RocketDataStreamCodec implements StreamCodec<RegistryFriendlyByteBuf, RocketData> {
+    private static final int CONE = 1;
+    private static final int BODY = 1 << 1;
+    private static final int FIN = 1 << 2;
+    private static final int BOOSTER = 1 << 3;
+    private static final int ENGINE = 1 << 4;
+    private static final int UPGRADE = 1 << 5;
+    private static final int UPGRADE_DATA = 1 << 6;
+    private static final int COLOR = 1 << 7;
+
+    private static final int DEFAULT_COLOR = 0xFFFFFFFF;
+    // upgrade data is rare and currently has a single variant, so it keeps using the codec form
+    private static final StreamCodec<ByteBuf, RocketUpgradeData> UPGRADE_DATA_CODEC = ByteBufCodecs.fromCodec(RocketUpgradeData.DIRECT_CODEC);
+
+    @Override
+    public void encode(RegistryFriendlyByteBuf buf, RocketData data) {
+        int mask = (data.cone().isPresent() ? CONE : 0)
+                | (data.body().isPresent() ? BODY : 0)
+                | (data.fin().isPresent() ? FIN : 0)
+                | (data.booster().isPresent() ? BOOSTER : 0)
+                | (data.engine().isPresent() ? ENGINE : 0)
+                | (data.upgrade().isPresent() ? UPGRADE : 0)
+                | (data.upgradeData().isPresent() ? UPGRADE_DATA : 0)
+                | (data.color() != DEFAULT_COLOR ? COLOR : 0);
+        buf.writeByte(mask);
+
+        writeOptional(buf, RocketCone.EITHER_STREAM_CODEC, data.cone());
+        writeOptional(buf, RocketBody.EITHER_STREAM_CODEC, data.body());
+        writeOptional(buf, RocketFin.EITHER_STREAM_CODEC, data.fin());
+        writeOptional(buf, RocketBooster.EITHER_STREAM_CODEC, data.booster());
+        writeOptional(buf, RocketEngine.EITHER_STREAM_CODEC, data.engine());
+        writeOptional(buf, RocketUpgrade.EITHER_STREAM_CODEC, data.upgrade());
+        writeOptional(buf, UPGRADE_DATA_CODEC, data.upgradeData());
+        if ((mask & COLOR) != 0) {
+            buf.writeInt(data.color());
+        }
+    }
+
+    @Override
+    public @NotNull RocketData decode(RegistryFriendlyByteBuf buf) {
+        int mask = buf.readUnsignedByte();
+        return new RocketData(
+                readOptional(buf, RocketCone.EITHER_STREAM_CODEC, mask, CONE),
+                readOptional(buf, RocketBody.EITHER_STREAM_CODEC, mask, BODY),
+                readOptional(buf, RocketFin.EITHER_STREAM_CODEC, mask, FIN),
+                readOptional(buf, RocketBooster.EITHER_STREAM_CODEC, mask, BOOSTER),
+                readOptional(buf, RocketEngine.EITHER_STREAM_CODEC, mask, ENGINE),
+                readOptional(buf, RocketUpgrade.EITHER_STREAM_CODEC, mask, UPGRADE),
+                readOptional(buf, UPGRADE_DATA_CODEC, mask, UPGRADE_DATA),
+                (mask & COLOR) != 0 ? buf.readInt() : DEFAULT_COLOR
+        );
+    }
+
+    private static <B extends ByteBuf, T> void writeOptional(B buf, StreamCodec<? super B, T> codec, Optional<T> value) {
+        value.ifPresent(v -> codec.encode(buf, v));
+    }
+
+    private static <B extends ByteBuf, T> Optional<T> readOptional(B buf, StreamCodec<? super B, T> codec, int mask, int bit) {
+        return (mask & bit) != 0 ? Optional.of(codec.decode(buf)) : Optional.empty();
+    }
+}
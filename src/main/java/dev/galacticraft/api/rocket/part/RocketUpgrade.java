@@ -44,6 +44,7 @@
     StreamCodec<RegistryFriendlyByteBuf, Holder<RocketUpgrade<?, ?>>> STREAM_CODEC = StreamCodecs.ofHolder(RocketRegistries.ROCKET_UPGRADE);
 
     Codec<EitherHolder<RocketUpgrade<?, ?>>> EITHER_CODEC = ResourceKey.codec(RocketRegistries.ROCKET_UPGRADE).xmap(EitherHolder::new, EitherHolder::key);
+    StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketUpgrade<?, ?>>> EITHER_STREAM_CODEC = EitherHolder.streamCodec(RocketRegistries.ROCKET_UPGRADE, STREAM_CODEC);
 
     @Contract(pure = true, value = "_, _ -> new")
     static @NotNull <C extends RocketUpgradeConfig, T extends RocketUpgradeType<C>> RocketUpgrade<C, T> create(@NotNull C config, @NotNull T type) {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.api.universe.celestialbody;
+
+import dev.galacticraft.mod.tag.GCDimensionTypeTags;
+import net.minecraft.core.Holder;
+import net.minecraft.world.level.dimension.DimensionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable snapshot of the environment of a level, resolved once from its celestial body and dimension type.
+ * Hot paths (gravity, drag, fall damage) should read these fields instead of going through the celestial body type.
+ *
+ * @param gravity    the gravity multiplier of the level ({@code 1.0} for levels without a celestial body)
+ * @param drag       the atmospheric drag factor applied to horizontal movement ({@code 0.0} without a celestial body)
+ * @param vacuum     whether the dimension type is tagged {@link GCDimensionTypeTags#VACUUM}
+ * @param space      whether the dimension type is tagged {@link GCDimensionTypeTags#SPACE}
+ * @param footprints whether the dimension type is tagged {@link GCDimensionTypeTags#FOOTPRINTS_DIMENSIONS}
+ */
+public record LevelEnvironmentProfile(float gravity, float drag, boolean vacuum, boolean space, boolean footprints) {
+    /**
+     * Creates the environment profile of a level.
+     *
+     * @param body          the celestial body of the level, if any
+     * @param dimensionType the dimension type of the level
+     * @return the environment profile of the level
+     */
+    public static @NotNull LevelEnvironmentProfile create(@Nullable Holder<CelestialBody<?, ?>> body, @NotNull Holder<DimensionType> dimensionType) {
+        float gravity = 1.0f;
+        float drag = 0.0f;
+        if (body != null) {
+            gravity = body.value().gravity();
+            drag = body.value().atmosphere().pressure() / 2000.0F;
+        }
+        return new LevelEnvironmentProfile(gravity, drag,
+                dimensionType.is(GCDimensionTypeTags.VACUUM),
+                dimensionType.is(GCDimensionTypeTags.SPACE),
+                dimensionType.is(GCDimensionTypeTags.FOOTPRINTS_DIMENSIONS));
+    }
+}
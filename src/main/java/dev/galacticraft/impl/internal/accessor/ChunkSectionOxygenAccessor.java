@@ -45,6 +45,11 @@ public interface ChunkSectionOxygenAccessor {
 
     boolean galacticraft$isEmpty();
 
+    /**
+     * {@return a counter that changes whenever any oxygen bit of this section changes}
+     */
+    int galacticraft$getOxygenVersion();
+
     @Nullable BitSet galacticraft$getBits();
 
     void galacticraft$setBits(@Nullable BitSet set);
@@ -33,6 +33,7 @@
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.CelestialTeleporter;
 import dev.galacticraft.api.universe.galaxy.Galaxy;
 import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
+import dev.galacticraft.impl.internal.TagGeneration;
 import dev.galacticraft.impl.internal.command.GCApiCommands;
 import dev.galacticraft.impl.network.GCApiPackets;
 import dev.galacticraft.impl.network.GCApiServerPacketReceivers;
@@ -40,6 +41,7 @@
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.data.gen.SatelliteChunkGenerator;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.registry.DynamicRegistries;
 import net.fabricmc.fabric.api.event.registry.DynamicRegistrySetupCallback;
@@ -81,6 +83,8 @@ public void onInitialize() {
         BuiltInRocketRegistries.initialize();
         GcApiEntityAttributes.init();
         ServerLifecycleEvents.SERVER_STARTED.register(this::onServerStarted);
+        // Level environment profiles and footprint checks cache tags, so they must be rebuilt on reload.
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> TagGeneration.increment());
 
         DynamicDimensionLoadCallback.register((minecraftServer, dynamicDimensionLoader) -> {
             ((SatelliteAccessor) minecraftServer).galacticraft$loadSatellites(dynamicDimensionLoader);
@@ -25,11 +25,12 @@
 import dev.galacticraft.api.accessor.LevelBodyAccessor;
 import dev.galacticraft.api.registry.AddonRegistries;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.api.universe.celestialbody.LevelEnvironmentProfile;
 import dev.galacticraft.api.universe.celestialbody.landable.Landable;
+import dev.galacticraft.impl.internal.TagGeneration;
+import dev.galacticraft.mod.tag.GCDimensionTypeTags;
 import net.minecraft.core.Holder;
-import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.profiling.ProfilerFiller;
@@ -50,10 +51,12 @@
 public abstract class LevelCelestialBodyMixin implements LevelBodyAccessor {
     @Unique
     private Holder<CelestialBody<?, ?>> celestialBody = null;
+    @Unique
+    private LevelEnvironmentProfile environment = null;
+    @Unique
+    private int environmentGeneration = -1;
 
-    @Shadow public abstract RegistryAccess registryAccess();
-
-    @Shadow public abstract DimensionType dimensionType();
+    @Shadow public abstract Holder<DimensionType> dimensionTypeRegistration();
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/storage/WritableLevelData;Lnet/minecraft/resources/ResourceKey;Lnet/minecraft/core/RegistryAccess;Lnet/minecraft/core/Holder;Ljava/util/function/Supplier;ZZJI)V", at = @At("RETURN"))
     private void init(WritableLevelData writableLevelData,
@@ -75,9 +78,25 @@ private void init(WritableLevelData writableLevelData,
         return this.celestialBody;
     }
 
+    @Override
+    public LevelEnvironmentProfile galacticraft$getEnvironment() {
+        int generation = TagGeneration.get();
+        if (this.environmentGeneration != generation) {
+            this.environment = LevelEnvironmentProfile.create(this.celestialBody, this.dimensionTypeRegistration());
+            this.environmentGeneration = generation;
+        }
+        return this.environment;
+    }
+
     @Override
     public boolean galacticraft$hasDimensionTypeTag(TagKey<DimensionType> tag) {
-        Registry<DimensionType> dimensionTypeRegistry = this.registryAccess().registryOrThrow(Registries.DIMENSION_TYPE);
-        return dimensionTypeRegistry.getHolder(dimensionTypeRegistry.getId(this.dimensionType())).map(reference -> reference.is(tag)).orElse(false);
+        if (tag == GCDimensionTypeTags.VACUUM) {
+            return this.galacticraft$getEnvironment().vacuum();
+        } else if (tag == GCDimensionTypeTags.SPACE) {
+            return this.galacticraft$getEnvironment().space();
+        } else if (tag == GCDimensionTypeTags.FOOTPRINTS_DIMENSIONS) {
+            return this.galacticraft$getEnvironment().footprints();
+        }
+        return this.dimensionTypeRegistration().is(tag);
     }
 }
@@ -22,20 +22,19 @@
 
 package dev.galacticraft.impl.internal.mixin;
 
-import com.google.common.collect.ImmutableMap;
-import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.DataResult;
 import dev.galacticraft.api.accessor.SatelliteAccessor;
 import dev.galacticraft.api.registry.AddonRegistries;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
 import dev.galacticraft.dynamicdimensions.impl.registry.RegistryUtil;
+import dev.galacticraft.impl.satellite.SatelliteStore;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import dev.galacticraft.mod.Constant;
 import net.minecraft.core.RegistryAccess;
-import net.minecraft.nbt.*;
+import net.minecraft.nbt.NbtOps;
 import net.minecraft.resources.RegistryOps;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.dimension.LevelStem;
@@ -50,15 +49,19 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.UUID;
 
 @Mixin(MinecraftServer.class)
 public abstract class MinecraftServerMixin implements SatelliteAccessor {
     @Unique
-    private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new HashMap<>();
+    private final SatelliteStore<CelestialBody<SatelliteConfig, SatelliteType>> satellites = new SatelliteStore<CelestialBody<SatelliteConfig, SatelliteType>>(
+            SatelliteConfig.CODEC.xmap(config -> new CelestialBody<>(SatelliteType.INSTANCE, config), CelestialBody::config),
+            satellite -> satellite.config().getOwnershipData().owner(),
+            satellite -> satellite.config().getParent().map(ResourceKey::location)
+    );
 
     @Shadow
     @Final
@@ -69,20 +72,34 @@ public abstract class MinecraftServerMixin implements SatelliteAccessor {
 
     @Override
     public @Unmodifiable Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites() {
-        return ImmutableMap.copyOf(this.satellites);
+        return this.satellites.view();
+    }
+
+    @Override
+    public @Unmodifiable Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOwnedBy(UUID owner) {
+        return this.satellites.getOwnedBy(owner);
+    }
+
+    @Override
+    public @Unmodifiable Collection<CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellitesOrbiting(ResourceLocation parent) {
+        return this.satellites.getOrbiting(parent);
     }
 
     @Override
     public void galacticraft$addSatellite(CelestialBody<SatelliteConfig, SatelliteType> satellite, boolean newlyCreated) {
         ResourceLocation id = satellite.config().getId();
         this.satellites.put(id, satellite);
+        this.galacticraft$track(id, satellite);
         RegistryUtil.registerUnfreeze(this.registryAccess().registryOrThrow(AddonRegistries.CELESTIAL_BODY), id, satellite);
         Constant.LOGGER.info("Added satellite with id {}", id);
     }
 
     @Override
     public void galacticraft$removeSatellite(ResourceLocation id) {
-        this.satellites.remove(id);
+        CelestialBody<SatelliteConfig, SatelliteType> removed = this.satellites.remove(id);
+        if (removed != null) {
+            removed.config().setChangeListener(null);
+        }
         RegistryUtil.unregister(this.registryAccess().registryOrThrow(AddonRegistries.CELESTIAL_BODY), id);
         Constant.LOGGER.info("Removed satellite with id {}", id);
     }
@@ -90,58 +107,53 @@ public abstract class MinecraftServerMixin implements SatelliteAccessor {
     @Override
     public void galacticraft$updateSatellite(CelestialBody<SatelliteConfig, SatelliteType> satellite) {
         ResourceLocation id = satellite.config().getId();
-        this.satellites.replace(id, satellite);
+        CelestialBody<SatelliteConfig, SatelliteType> previous = this.satellites.get(id);
+        if (previous != null) {
+            previous.config().setChangeListener(null);
+            this.satellites.put(id, satellite);
+            this.galacticraft$track(id, satellite);
+        }
         RegistryUtil.unregister(this.registryAccess().registryOrThrow(AddonRegistries.CELESTIAL_BODY), id);
         RegistryUtil.registerUnfreeze(this.registryAccess().registryOrThrow(AddonRegistries.CELESTIAL_BODY), id, satellite);
         Constant.LOGGER.info("Updated satellite with id {}", id);
     }
 
+    @Override
+    public void galacticraft$markSatelliteDirty(ResourceLocation id) {
+        this.satellites.markDirty(id);
+    }
+
+    @Unique
+    private void galacticraft$track(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
+        satellite.config().setChangeListener(() -> this.galacticraft$markSatelliteDirty(id));
+    }
+
     @Inject(method = "saveEverything", at = @At("RETURN"))
     private void galacticraft_saveSatellites(boolean suppressLogs, boolean bl, boolean bl2, CallbackInfoReturnable<Boolean> cir) {
+        if (!this.satellites.isDirty()) return;
         Path path = this.storageSource.getLevelPath(LevelResource.ROOT);
-        ListTag nbt = new ListTag();
-        RegistryOps<Tag> ops = RegistryOps.create(NbtOps.INSTANCE, this.registryAccess());
-        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
-            CompoundTag compound = (CompoundTag) SatelliteConfig.CODEC.encode(entry.getValue().config(), ops, new CompoundTag()).getOrThrow();
-            compound.putString("id", entry.getKey().toString());
-            nbt.add(compound);
-        }
-        CompoundTag compound = new CompoundTag();
-        compound.put("satellites", nbt);
-        try {
-            NbtIo.writeCompressed(compound, path.resolve("satellites.dat"));
-        } catch (Throwable exception) {
-            Constant.LOGGER.fatal("Failed to write satellite data!", exception);
+        int changes = this.satellites.save(path.resolve("satellites"), RegistryOps.create(NbtOps.INSTANCE, this.registryAccess()));
+        if (!suppressLogs) {
+            Constant.LOGGER.info("Saved {} satellite changes", changes);
         }
     }
 
     @Override
     public void galacticraft$loadSatellites(DynamicDimensionLoadCallback.DynamicDimensionLoader dynamicDimensionLoader) {
         Path worldFile = this.storageSource.getLevelPath(LevelResource.ROOT);
-        if (Files.exists(worldFile.resolve("satellites.dat"))) {
-            try {
-                ListTag nbt = NbtIo.readCompressed(worldFile.resolve("satellites.dat"), NbtAccounter.unlimitedHeap()).getList("satellites", Tag.TAG_COMPOUND);
-                RegistryOps<Tag> ops = RegistryOps.create(NbtOps.INSTANCE, this.registryAccess());
-                Constant.LOGGER.info("Loading {} satellites", nbt.size());
-                for (Tag compound : nbt) {
-                    assert compound instanceof CompoundTag : "Not a compound?!";
-                    ResourceLocation id = ResourceLocation.parse(((CompoundTag) compound).getString("id"));
-                    DataResult<Pair<SatelliteConfig, Tag>> decode = SatelliteConfig.CODEC.decode(ops, compound);
-                    if (decode.error().isPresent()) {
-                        Constant.LOGGER.error("Skipping satellite '{}' - {}", id, decode.error().get().message());
-                        continue;
-                    }
-                    CelestialBody<SatelliteConfig, SatelliteType> satellite = new CelestialBody<>(SatelliteType.INSTANCE, decode.getOrThrow().getFirst());
-                    this.galacticraft$addSatellite(satellite, false);
-
-                    LevelStem levelStem = satellite.config().getOptions();
-                    dynamicDimensionLoader.loadDynamicDimension(id, levelStem.generator(), levelStem.type().value());
-                }
-            } catch (Throwable exception) {
-                throw new RuntimeException("Failed to read satellite data!", exception);
-            }
-        } else {
-            Constant.LOGGER.info("File not found: satellites.dat");
+        Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> loaded;
+        try {
+            loaded = this.satellites.load(worldFile.resolve("satellites"), worldFile.resolve("satellites.dat"), RegistryOps.create(NbtOps.INSTANCE, this.registryAccess()));
+        } catch (Throwable exception) {
+            throw new RuntimeException("Failed to read satellite data!", exception);
+        }
+        Constant.LOGGER.info("Loading {} satellites", loaded.size());
+        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : loaded.entrySet()) {
+            this.galacticraft$track(entry.getKey(), entry.getValue());
+            RegistryUtil.registerUnfreeze(this.registryAccess().registryOrThrow(AddonRegistries.CELESTIAL_BODY), entry.getKey(), entry.getValue());
+
+            LevelStem levelStem = entry.getValue().config().getOptions();
+            dynamicDimensionLoader.loadDynamicDimension(entry.getKey(), levelStem.generator(), levelStem.type().value());
         }
     }
 }
@@ -83,6 +83,11 @@ public abstract class ClientPlayNetworkHandlerMixin implements ClientSatelliteAc
         this.galacticraft$addSatellite(satellite, true);
     }
 
+    @Override
+    public void galacticraft$markSatelliteDirty(ResourceLocation id) {
+        // satellites are only persisted on the server
+    }
+
     @Override
     public void addListener(SatelliteListener listener) {
         this.listeners.add(listener);
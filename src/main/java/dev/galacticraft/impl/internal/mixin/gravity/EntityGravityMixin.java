@@ -23,8 +23,6 @@
 package dev.galacticraft.impl.internal.mixin.gravity;
 
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
-import net.minecraft.core.Holder;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
@@ -41,7 +39,6 @@ public abstract class EntityGravityMixin {
 
     @ModifyExpressionValue(method = "getGravity", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;getDefaultGravity()D"))
     private double replaceGravity(double original) {
-        Holder<CelestialBody<?, ?>> holder = this.level.galacticraft$getCelestialBody();
-        return (holder != null ? holder.value().gravity() : 1.0d) * original;
+        return this.level.galacticraft$getEnvironment().gravity() * original;
     }
 }
@@ -41,6 +41,7 @@
 public abstract class LevelChunkSectionMixin implements ChunkSectionOxygenAccessor {
     private @Unique
     @Nullable BitSet bits = null;
+    private @Unique int oxygenVersion = 0;
 
     @Override
     public boolean galacticraft$isInverted(int pos) {
@@ -49,6 +50,7 @@ public abstract class LevelChunkSectionMixin implements ChunkSectionOxygenAccess
 
     @Override
     public void galacticraft$setInverted(int pos, boolean value) {
+        this.oxygenVersion++;
         if (value) {
             if (this.bits == null) this.bits = new BitSet(pos);
             this.bits.set(pos);
@@ -87,6 +89,11 @@ private void galacticraft_fromPacket(FriendlyByteBuf buf, CallbackInfo ci) {
         return this.bits == null || this.bits.isEmpty();
     }
 
+    @Override
+    public int galacticraft$getOxygenVersion() {
+        return this.oxygenVersion;
+    }
+
     @Override
     public BitSet galacticraft$getBits() {
         return this.bits;
@@ -94,6 +101,7 @@ private void galacticraft_fromPacket(FriendlyByteBuf buf, CallbackInfo ci) {
 
     @Override
     public void galacticraft$setBits(@Nullable BitSet set) {
+        this.oxygenVersion++;
         this.bits = set;
     }
 
@@ -110,6 +118,7 @@ private void galacticraft_fromPacket(FriendlyByteBuf buf, CallbackInfo ci) {
     @Override
     public void galacticraft$readOxygenPacket(@NotNull FriendlyByteBuf buf) {
         byte[] bytes = buf.readByteArray();
+        this.oxygenVersion++;
         if (bytes.length != 0) {
             this.bits = BitSet.valueOf(bytes);
         } else {
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.satellite;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import dev.galacticraft.mod.Constant;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Server-side satellite storage. Every satellite is persisted as its own file
+ * ({@code <namespace>/<path>.dat} under the storage directory) and only satellites that changed since the last save
+ * are rewritten. Each file is written to a temporary sibling first and then moved over the old one,
+ * so an interrupted save leaves either the previous or the new record - never a truncated one.
+ *
+ * @param <T> the stored satellite type
+ */
+public final class SatelliteStore<T> {
+    private static final String EXTENSION = ".dat";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final Codec<T> codec;
+    private final Function<T, UUID> owner;
+    private final Function<T, Optional<ResourceLocation>> parent;
+
+    private final Map<ResourceLocation, T> entries = new HashMap<>();
+    private final Map<ResourceLocation, T> view = Collections.unmodifiableMap(this.entries);
+    private final Map<ResourceLocation, IndexKey> indexed = new HashMap<>();
+    private final Map<UUID, Map<ResourceLocation, T>> byOwner = new HashMap<>();
+    private final Map<ResourceLocation, Map<ResourceLocation, T>> byParent = new HashMap<>();
+    private final Set<ResourceLocation> dirty = new HashSet<>();
+    private final Set<ResourceLocation> removed = new HashSet<>();
+
+    public SatelliteStore(Codec<T> codec, Function<T, UUID> owner, Function<T, Optional<ResourceLocation>> parent) {
+        this.codec = codec;
+        this.owner = owner;
+        this.parent = parent;
+    }
+
+    /**
+     * {@return a read-only live view of every stored satellite}
+     */
+    public @Unmodifiable Map<ResourceLocation, T> view() {
+        return this.view;
+    }
+
+    public @Nullable T get(ResourceLocation id) {
+        return this.entries.get(id);
+    }
+
+    public @Unmodifiable Collection<T> getOwnedBy(UUID owner) {
+        Map<ResourceLocation, T> owned = this.byOwner.get(owner);
+        return owned == null ? List.of() : Collections.unmodifiableCollection(owned.values());
+    }
+
+    public @Unmodifiable Collection<T> getOrbiting(ResourceLocation parent) {
+        Map<ResourceLocation, T> orbiting = this.byParent.get(parent);
+        return orbiting == null ? List.of() : Collections.unmodifiableCollection(orbiting.values());
+    }
+
+    public void put(ResourceLocation id, T value) {
+        this.insert(id, value);
+        this.removed.remove(id);
+        this.dirty.add(id);
+    }
+
+    public @Nullable T remove(ResourceLocation id) {
+        T value = this.entries.remove(id);
+        if (value != null) {
+            this.unindex(id);
+            this.dirty.remove(id);
+            this.removed.add(id);
+        }
+        return value;
+    }
+
+    /**
+     * Marks a satellite whose value was changed in place as needing to be saved.
+     * Owner and parent indices are refreshed as well.
+     */
+    public void markDirty(ResourceLocation id) {
+        T value = this.entries.get(id);
+        if (value != null) {
+            this.insert(id, value);
+            this.dirty.add(id);
+        }
+    }
+
+    public boolean isDirty() {
+        return !this.dirty.isEmpty() || !this.removed.isEmpty();
+    }
+
+    private void insert(ResourceLocation id, T value) {
+        this.unindex(id);
+        this.entries.put(id, value);
+        IndexKey key = new IndexKey(this.owner.apply(value), this.parent.apply(value).orElse(null));
+        this.indexed.put(id, key);
+        this.byOwner.computeIfAbsent(key.owner(), k -> new HashMap<>()).put(id, value);
+        if (key.parent() != null) {
+            this.byParent.computeIfAbsent(key.parent(), k -> new HashMap<>()).put(id, value);
+        }
+    }
+
+    private void unindex(ResourceLocation id) {
+        IndexKey key = this.indexed.remove(id);
+        if (key != null) {
+            removeIndexed(this.byOwner, key.owner(), id);
+            if (key.parent() != null) {
+                removeIndexed(this.byParent, key.parent(), id);
+            }
+        }
+    }
+
+    private static <K> void removeIndexed(Map<K, ? extends Map<ResourceLocation, ?>> index, K key, ResourceLocation id) {
+        Map<ResourceLocation, ?> entries = index.get(key);
+        if (entries != null) {
+            entries.remove(id);
+            if (entries.isEmpty()) index.remove(key);
+        }
+    }
+
+    /**
+     * Writes every changed satellite and deletes the files of removed ones.
+     * Satellites that fail to save stay dirty and are retried on the next save.
+     *
+     * @return the number of files written or deleted
+     */
+    public int save(Path directory, DynamicOps<Tag> ops) {
+        int changes = 0;
+        for (Iterator<ResourceLocation> iterator = this.removed.iterator(); iterator.hasNext(); ) {
+            ResourceLocation id = iterator.next();
+            try {
+                Files.deleteIfExists(file(directory, id));
+                iterator.remove();
+                changes++;
+            } catch (IOException e) {
+                Constant.LOGGER.error("Failed to delete satellite data for '{}'", id, e);
+            }
+        }
+
+        for (Iterator<ResourceLocation> iterator = this.dirty.iterator(); iterator.hasNext(); ) {
+            ResourceLocation id = iterator.next();
+            try {
+                Tag encoded = this.codec.encodeStart(ops, this.entries.get(id)).getOrThrow();
+                if (!(encoded instanceof CompoundTag compound)) {
+                    throw new IOException("Satellite did not encode to a compound: " + encoded);
+                }
+                compound.putString("id", id.toString());
+                writeAtomically(file(directory, id), compound);
+                iterator.remove();
+                changes++;
+            } catch (Exception e) {
+                Constant.LOGGER.error("Failed to write satellite data for '{}'", id, e);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Reads every satellite record in {@code directory}, replacing the current contents of this store.
+     * Leftover temporary files from an interrupted save are discarded.
+     * If the directory does not exist yet, satellites are migrated from the single-file {@code legacyFile} instead
+     * and marked dirty so that they are written out on the next save.
+     *
+     * @return the loaded satellites
+     */
+    public @Unmodifiable Map<ResourceLocation, T> load(Path directory, Path legacyFile, DynamicOps<Tag> ops) throws IOException {
+        this.entries.clear();
+        this.indexed.clear();
+        this.byOwner.clear();
+        this.byParent.clear();
+        this.dirty.clear();
+        this.removed.clear();
+
+        if (Files.isDirectory(directory)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(directory)) {
+                files = stream.filter(Files::isRegularFile).toList();
+            }
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_EXTENSION)) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(EXTENSION)) {
+                    CompoundTag compound;
+                    try {
+                        compound = NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap());
+                    } catch (IOException e) {
+                        Constant.LOGGER.error("Skipping unreadable satellite file '{}'", file, e);
+                        continue;
+                    }
+                    this.read(compound, ops, false);
+                }
+            }
+        } else if (Files.exists(legacyFile)) {
+            ListTag list = NbtIo.readCompressed(legacyFile, NbtAccounter.unlimitedHeap()).getList("satellites", Tag.TAG_COMPOUND);
+            for (Tag tag : list) {
+                this.read((CompoundTag) tag, ops, true);
+            }
+        }
+        return this.view;
+    }
+
+    private void read(CompoundTag compound, DynamicOps<Tag> ops, boolean dirty) {
+        ResourceLocation id = ResourceLocation.tryParse(compound.getString("id"));
+        if (id == null) {
+            Constant.LOGGER.error("Skipping satellite with invalid id '{}'", compound.getString("id"));
+            return;
+        }
+        DataResult<T> result = this.codec.parse(ops, compound);
+        if (result.error().isPresent()) {
+            Constant.LOGGER.error("Skipping satellite '{}' - {}", id, result.error().get().message());
+            return;
+        }
+        this.insert(id, result.getOrThrow());
+        if (dirty) this.dirty.add(id);
+    }
+
+    public static Path file(Path directory, ResourceLocation id) {
+        return directory.resolve(id.getNamespace()).resolve(id.getPath() + EXTENSION);
+    }
+
+    private static void writeAtomically(Path file, CompoundTag compound) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_EXTENSION);
+        NbtIo.writeCompressed(compound, temp);
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record IndexKey(UUID owner, @Nullable ResourceLocation parent) {
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.universe.position;
+
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.api.universe.galaxy.Galaxy;
+import dev.galacticraft.api.universe.position.CelestialPosition;
+import net.minecraft.core.Registry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * Computes the absolute position of every celestial body at a given time.
+ * <p>
+ * Bodies are evaluated once per time value in parent-first order, each adding its own offset to the already computed
+ * position of its parent, so the cost per update is linear in the number of bodies regardless of how deeply they are nested.
+ * Results are stored in a flat array indexed by body id and produce exactly the same values as resolving each body
+ * recursively through its parents.
+ */
+public final class CelestialEphemeris {
+    private final int[] parents;
+    private final Orbit[] orbits;
+    private final Orbit[] galaxyOrbits;
+    private final int[] order;
+    private final float[] positions;
+
+    private long time;
+    private float delta;
+    private boolean computed = false;
+
+    /**
+     * Creates an ephemeris for the given bodies.
+     *
+     * @param parents      the id of the parent of each body, or {@code -1} for bodies without a parent
+     * @param orbits       the position of each body relative to its parent, or {@code null} for ids without a body
+     * @param galaxyOrbits the position of the galaxy of each body without a parent, may contain {@code null} for other bodies
+     */
+    public CelestialEphemeris(int @NotNull [] parents, Orbit @NotNull [] orbits, @Nullable Orbit @NotNull [] galaxyOrbits) {
+        if (parents.length != orbits.length || parents.length != galaxyOrbits.length) {
+            throw new IllegalArgumentException("Mismatched body count");
+        }
+        this.parents = parents;
+        this.orbits = orbits;
+        this.galaxyOrbits = galaxyOrbits;
+        this.order = sortParentsFirst(parents);
+        this.positions = new float[parents.length * 2];
+    }
+
+    /**
+     * Creates an ephemeris for every body in the given registry, indexed by registry id.
+     * Satellites are unregistered at runtime, so the ids may have holes, which are left without a position.
+     */
+    public static @NotNull CelestialEphemeris create(@NotNull Registry<CelestialBody<?, ?>> bodies, @NotNull Registry<Galaxy> galaxies) {
+        int size = 0;
+        for (CelestialBody<?, ?> body : bodies) {
+            size = Math.max(size, bodies.getId(body) + 1);
+        }
+        int[] parents = new int[size];
+        Arrays.fill(parents, -1);
+        Orbit[] orbits = new Orbit[size];
+        Orbit[] galaxyOrbits = new Orbit[size];
+        for (CelestialBody<?, ?> body : bodies) {
+            int id = bodies.getId(body);
+            orbits[id] = Orbit.of(body.position());
+            if (body.parent().isPresent()) {
+                parents[id] = bodies.getId(body.parentValue(bodies));
+            } else {
+                galaxyOrbits[id] = Orbit.of(body.galaxyValue(galaxies, bodies).position());
+            }
+        }
+        return new CelestialEphemeris(parents, orbits, galaxyOrbits);
+    }
+
+    private static int[] sortParentsFirst(int[] parents) {
+        int[] order = new int[parents.length];
+        byte[] state = new byte[parents.length]; // 0 = unvisited, 1 = on the current chain, 2 = ordered
+        int[] chain = new int[parents.length];
+        int size = 0;
+        for (int i = 0; i < parents.length; i++) {
+            // walk up until reaching an ordered body or a root, then order the chain from the top down
+            int length = 0;
+            for (int body = i; body != -1 && state[body] != 2; body = parents[body]) {
+                if (state[body] == 1) throw new IllegalArgumentException("Celestial body " + body + " is its own ancestor");
+                state[body] = 1;
+                chain[length++] = body;
+            }
+            while (length > 0) {
+                int body = chain[--length];
+                state[body] = 2;
+                order[size++] = body;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Computes the positions of all bodies at the given time, unless they were already computed for it.
+     */
+    public void update(long time, float delta) {
+        if (this.computed && this.time == time && Float.floatToIntBits(this.delta) == Float.floatToIntBits(delta)) return;
+        this.time = time;
+        this.delta = delta;
+        this.computed = true;
+
+        for (int body : this.order) {
+            Orbit orbit = this.orbits[body];
+            if (orbit == null) continue;
+            float x = (float) orbit.x(time, delta);
+            float y = (float) orbit.y(time, delta);
+            int parent = this.parents[body];
+            if (parent != -1) {
+                x += this.positions[parent * 2];
+                y += this.positions[parent * 2 + 1];
+            } else {
+                Orbit galaxy = this.galaxyOrbits[body];
+                x += (float) galaxy.x(time, delta);
+                y += (float) galaxy.y(time, delta);
+            }
+            this.positions[body * 2] = x;
+            this.positions[body * 2 + 1] = y;
+        }
+    }
+
+    public int size() {
+        return this.parents.length;
+    }
+
+    public float getX(int body) {
+        return this.positions[body * 2];
+    }
+
+    public float getY(int body) {
+        return this.positions[body * 2 + 1];
+    }
+
+    public @NotNull Vector3f getPosition(int body, @NotNull Vector3f dest) {
+        return dest.set(this.positions[body * 2], this.positions[body * 2 + 1], 0.0F);
+    }
+
+    /**
+     * The position of a body relative to its parent (or of a galaxy).
+     */
+    public interface Orbit {
+        double x(long time, float delta);
+
+        double y(long time, float delta);
+
+        static @NotNull Orbit of(@NotNull CelestialPosition<?, ?> position) {
+            return new Orbit() {
+                @Override
+                public double x(long time, float delta) {
+                    return position.x(time, delta);
+                }
+
+                @Override
+                public double y(long time, float delta) {
+                    return position.y(time, delta);
+                }
+            };
+        }
+    }
+}
@@ -40,6 +40,8 @@
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.dimension.LevelStem;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 
@@ -57,6 +59,7 @@ public class SatelliteConfig implements CelestialBodyConfig {
     private float gravity;
     private int accessWeight;
     private LevelStem options;
+    private @Nullable Runnable changeListener;
 
     public static final Codec<SatelliteConfig> CODEC = RecordCodecBuilder.create(instance -> instance.group(
             ResourceLocation.CODEC.fieldOf("id").forGetter(SatelliteConfig::getId),
@@ -121,16 +124,31 @@ public SatelliteConfig(
 
     // Setters (optional, use as needed)
     public void setId(ResourceLocation id) { this.id = id; }
-    public void setCustomName(String customName) { this.customName = customName; }
-    public void setParent(Optional<ResourceKey<CelestialBody<?, ?>>> parent) { this.parent = parent; }
-    public void setPosition(CelestialPosition<?, ?> position) { this.position = position; }
-    public void setDisplay(CelestialDisplay<?, ?> display) { this.display = display; }
-    public void setRing(CelestialRingDisplay<?, ?> ring) { this.ring = ring; }
-    public void setOwnershipData(SatelliteOwnershipData ownershipData) { this.ownershipData = ownershipData; }
-    public void setWorld(ResourceKey<Level> world) { this.world = world; }
-    public void setTeleporter(Holder<CelestialTeleporter<?, ?>> teleporter) { this.teleporter = teleporter; }
-    public void setAtmosphere(GasComposition atmosphere) { this.atmosphere = atmosphere; }
-    public void setGravity(float gravity) { this.gravity = gravity; }
-    public void setAccessWeight(int accessWeight) { this.accessWeight = accessWeight; }
-    public void setOptions(LevelStem options) { this.options = options; }
+    public void setCustomName(String customName) { this.customName = customName; this.changed(); }
+    public void setParent(Optional<ResourceKey<CelestialBody<?, ?>>> parent) { this.parent = parent; this.changed(); }
+    public void setPosition(CelestialPosition<?, ?> position) { this.position = position; this.changed(); }
+    public void setDisplay(CelestialDisplay<?, ?> display) { this.display = display; this.changed(); }
+    public void setRing(CelestialRingDisplay<?, ?> ring) { this.ring = ring; this.changed(); }
+    public void setOwnershipData(SatelliteOwnershipData ownershipData) { this.ownershipData = ownershipData; this.changed(); }
+    public void setWorld(ResourceKey<Level> world) { this.world = world; this.changed(); }
+    public void setTeleporter(Holder<CelestialTeleporter<?, ?>> teleporter) { this.teleporter = teleporter; this.changed(); }
+    public void setAtmosphere(GasComposition atmosphere) { this.atmosphere = atmosphere; this.changed(); }
+    public void setGravity(float gravity) { this.gravity = gravity; this.changed(); }
+    public void setAccessWeight(int accessWeight) { this.accessWeight = accessWeight; this.changed(); }
+    public void setOptions(LevelStem options) { this.options = options; this.changed(); }
+
+    /**
+     * Sets the callback that is run whenever one of the setters above changes this config.
+     * The server uses it to save satellites that were edited in place.
+     */
+    @ApiStatus.Internal
+    public void setChangeListener(@Nullable Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void changed() {
+        if (this.changeListener != null) {
+            this.changeListener.run();
+        }
+    }
 }
@@ -1272,6 +1272,8 @@ interface Nbt {
         String DOCKED_UUID = "DockedUuid";
         String CAN_CONTENTS = "CanContents";
         String CAN_COUNT = "CanCount";
+        String PENDING_FUEL = "PendingFuel";
+        String BATCH_PROGRESS = "BatchProgress";
     }
 
     interface Chunk {
@@ -1404,6 +1406,8 @@ interface Command {
         String DIMENSION_TP = "dimensiontp";
         String DIMTP = "dimtp";
         String OPEN_CELESTIAL_SCREEN = "opencelestialscreen";
+        String GALACTICRAFT = "galacticraft";
+        String PROFILE = "profile";
     }
 
     interface Attachments {
@@ -22,13 +22,30 @@
 
 package dev.galacticraft.mod.accessor;
 
+import dev.galacticraft.mod.machine.AirlockManager;
 import dev.galacticraft.mod.machine.SealerManager;
+import dev.galacticraft.mod.machine.SolarPanelManager;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 
 public interface GCLevelAccessor {
     SealerManager galacticraft$getSealerManager();
 
+    default AirlockManager galacticraft$getAirlockManager() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
+    default SolarPanelManager galacticraft$getSolarPanelManager() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
     default FootprintManager galacticraft$getFootprintManager() {
         throw new RuntimeException("This should be overridden by mixin!"); // Hopefully this doesn't cause issues with mods with fake worlds
     }
+
+    /**
+     * Returns whether entities leave footprints in this level, cached until the next tag reload.
+     */
+    default boolean galacticraft$hasFootprints() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
 }
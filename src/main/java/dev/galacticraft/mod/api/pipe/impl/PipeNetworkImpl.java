@@ -26,6 +26,7 @@
 import dev.galacticraft.mod.api.block.FluidPipeBlock;
 import dev.galacticraft.mod.api.pipe.FluidPipe;
 import dev.galacticraft.mod.api.pipe.PipeNetwork;
+import dev.galacticraft.mod.misc.profiling.GCProfiler;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -38,8 +39,10 @@
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -50,7 +53,7 @@
 import java.util.Objects;
 
 public class PipeNetworkImpl extends SnapshotParticipant<PipeNetworkImpl.PipeSnapshot> implements PipeNetwork {
-    private final @NotNull ServerLevel level;
+    private final @NotNull Host host;
     private final @NotNull Object2ObjectOpenHashMap<BlockPos, Storage<FluidVariant> @Nullable []> pipes = new Object2ObjectOpenHashMap<>(1);
     private final long maxTransferRate;
     private boolean activeTransaction = false;
@@ -60,16 +63,21 @@ public class PipeNetworkImpl extends SnapshotParticipant<PipeNetworkImpl.PipeSna
     private @Nullable FluidVariant currentVariant = null; //can transfer <maxTransferRate> amount of fluid of 1 type per tick
 
     public PipeNetworkImpl(@NotNull ServerLevel level, long maxTransferRate, @NotNull BlockPos pos) {
-        this.level = level;
+        this(new LevelHost(level), maxTransferRate, pos);
+    }
+
+    @VisibleForTesting
+    PipeNetworkImpl(@NotNull Host host, long maxTransferRate, @NotNull BlockPos pos) {
+        this.host = host;
         this.maxTransferRate = maxTransferRate;
-        this.tickId = this.level.getServer().getTickCount();
+        this.tickId = this.host.getTickCount();
         this.addPipe(pos, null);
     }
 
     private void addPipe(@NotNull BlockPos pos, @Nullable FluidPipe pipe) {
         assert !this.markedForRemoval;
         if (pipe == null) {
-            pipe = (FluidPipe) this.level.getBlockEntity(pos);
+            pipe = (FluidPipe) this.host.getBlockEntity(pos);
         }
         assert pipe != null : "Attempted to add pipe that does not exist!";
         assert pos.equals(((BlockEntity) pipe).getBlockPos());
@@ -84,13 +92,13 @@ private void addPipe(@NotNull BlockPos pos, @Nullable FluidPipe pipe) {
         pipe.setNetwork(this);
         this.pipes.put(pos, null);
 
-        FluidPipeBlock pipeBlock = (FluidPipeBlock) this.level.getBlockState(pos).getBlock();
+        FluidPipeBlock pipeBlock = (FluidPipeBlock) this.host.getBlockState(pos).getBlock();
 
         for (Direction direction : Constant.Misc.DIRECTIONS) {
             if (pipe.canConnect(direction)) {
                 BlockPos adjacentPos = pos.relative(direction);
-                Block adjacentBlock = this.level.getBlockState(adjacentPos).getBlock();
-                BlockEntity blockEntity = level.getBlockEntity(adjacentPos);
+                Block adjacentBlock = this.host.getBlockState(adjacentPos).getBlock();
+                BlockEntity blockEntity = this.host.getBlockEntity(adjacentPos);
                 if (blockEntity != null && !blockEntity.isRemoved()) {
                     if (blockEntity instanceof FluidPipe adjacent && adjacentBlock instanceof FluidPipeBlock adjacentPipe) {
                         if (!pipeBlock.color.canConnectTo(adjacentPipe.color)) continue;
@@ -103,7 +111,7 @@ private void addPipe(@NotNull BlockPos pos, @Nullable FluidPipe pipe) {
                     }
                 }
 
-                Storage<FluidVariant> storage = FluidStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
+                Storage<FluidVariant> storage = this.host.findStorage(adjacentPos, direction.getOpposite());
                 if (storage != null && storage.supportsInsertion()) {
                     //noinspection Java8MapApi
                     if (this.pipes.get(pos) == null) this.pipes.put(pos, new Storage[6]);
@@ -114,7 +122,7 @@ private void addPipe(@NotNull BlockPos pos, @Nullable FluidPipe pipe) {
     }
 
     public void removePipe(@NotNull BlockPos removedPos) {
-        if (!this.level.isLoaded(removedPos)) {
+        if (!this.host.isLoaded(removedPos)) {
             Constant.LOGGER.debug("Removing pipe from unloaded chunk, removing entire network");
             this.markForRemoval();
             return;
@@ -134,7 +142,7 @@ public void removePipe(@NotNull BlockPos removedPos) {
         for (Direction direction : Constant.Misc.DIRECTIONS) {
             BlockPos adjacentPipePos = removedPos.relative(direction);
             if (this.pipes.containsKey(adjacentPipePos)) {
-                FluidPipe pipe1 = (FluidPipe) Objects.requireNonNull(this.level.getBlockEntity(adjacentPipePos));
+                FluidPipe pipe1 = (FluidPipe) Objects.requireNonNull(this.host.getBlockEntity(adjacentPipePos));
                 if (pipe1.canConnect(direction.getOpposite())) {
                     adjacent.add(pipe1); // Don't bother testing if it was unable to connect
                 }
@@ -161,7 +169,7 @@ public void updateConnection(@NotNull BlockPos pipePos, @NotNull BlockPos adjace
         assert this.pipes.containsKey(pipePos);
         assert !this.markedForRemoval;
 
-        if (this.level.getBlockEntity(adjacentPos) instanceof FluidPipe pipe && this.isCompatibleWith(pipe)) {
+        if (this.host.getBlockEntity(adjacentPos) instanceof FluidPipe pipe && this.isCompatibleWith(pipe)) {
             if (!this.pipes.containsKey(adjacentPos)) {
                 this.addPipe(adjacentPos, pipe);
             }
@@ -170,7 +178,7 @@ public void updateConnection(@NotNull BlockPos pipePos, @NotNull BlockPos adjace
                 this.removePipe(adjacentPos);
             }
 
-            Storage<FluidVariant> storage = FluidStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
+            Storage<FluidVariant> storage = this.host.findStorage(adjacentPos, direction.getOpposite());
             if (storage != null && storage.supportsInsertion()) {
                 //noinspection Java8MapApi
                 if (this.pipes.get(pipePos) == null) this.pipes.put(pipePos, new Storage[6]);
@@ -183,11 +191,22 @@ public void updateConnection(@NotNull BlockPos pipePos, @NotNull BlockPos adjace
 
     @Override
     public long insert(@NotNull FluidVariant resource, long amount, @NotNull TransactionContext transaction) {
+        GCProfiler.push(this.host.level(), "pipe_network");
+        try {
+            long inserted = this.transfer(resource, amount, transaction);
+            GCProfiler.count(this.host.level(), "inserted", inserted);
+            return inserted;
+        } finally {
+            GCProfiler.pop();
+        }
+    }
+
+    private long transfer(@NotNull FluidVariant resource, long amount, @NotNull TransactionContext transaction) {
         if (this.activeTransaction) return 0;
         this.activeTransaction = true;
 
-        if (this.tickId != level.getServer().getTickCount()) {
-            this.tickId = level.getServer().getTickCount();
+        if (this.tickId != this.host.getTickCount()) {
+            this.tickId = this.host.getTickCount();
             this.transferred = 0;
             this.currentVariant = null;
         }
@@ -269,7 +288,7 @@ public String toString() {
         }
         builder.append("]");
         return "PipeNetworkImpl{" +
-                "level=" + level.dimension().location() +
+                "level=" + host +
                 ", pipes=" + builder +
                 ", markedForRemoval=" + markedForRemoval +
                 ", maxTransferRate=" + maxTransferRate +
@@ -298,4 +317,57 @@ protected void readSnapshot(PipeSnapshot snapshot) {
 
     public record PipeSnapshot(FluidVariant variant, long transferred) {
     }
+
+    /**
+     * The parts of a level that a network reads, so that it can be benchmarked without a running server.
+     */
+    @VisibleForTesting
+    interface Host {
+        @Nullable BlockEntity getBlockEntity(BlockPos pos);
+
+        BlockState getBlockState(BlockPos pos);
+
+        boolean isLoaded(BlockPos pos);
+
+        int getTickCount();
+
+        @Nullable Storage<FluidVariant> findStorage(BlockPos pos, Direction side);
+
+        /**
+         * {@return the level to profile the network in, or {@code null} if there is none}
+         */
+        @Nullable Level level();
+    }
+
+    private record LevelHost(ServerLevel level) implements Host {
+        @Override
+        public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+            return this.level.getBlockEntity(pos);
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            return this.level.getBlockState(pos);
+        }
+
+        @Override
+        public boolean isLoaded(BlockPos pos) {
+            return this.level.isLoaded(pos);
+        }
+
+        @Override
+        public int getTickCount() {
+            return this.level.getServer().getTickCount();
+        }
+
+        @Override
+        public @Nullable Storage<FluidVariant> findStorage(BlockPos pos, Direction side) {
+            return FluidStorage.SIDED.find(this.level, pos, side);
+        }
+
+        @Override
+        public String toString() {
+            return this.level.dimension().location().toString();
+        }
+    }
 }
\ No newline at end of file
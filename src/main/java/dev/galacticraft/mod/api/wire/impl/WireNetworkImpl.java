@@ -26,6 +26,7 @@
 import dev.galacticraft.mod.api.wire.Wire;
 import dev.galacticraft.mod.api.wire.WireNetwork;
 import dev.galacticraft.mod.content.block.entity.networked.WireBlockEntity;
+import dev.galacticraft.mod.misc.profiling.GCProfiler;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -173,6 +174,17 @@ public void updateConnection(@NotNull BlockPos wirePos, @NotNull BlockPos adjace
 
     @Override
     public long insert(long amount, @NotNull TransactionContext transaction) {
+        GCProfiler.push(this.level, "wire_network");
+        try {
+            long inserted = this.transfer(amount, transaction);
+            GCProfiler.count(this.level, "inserted", inserted);
+            return inserted;
+        } finally {
+            GCProfiler.pop();
+        }
+    }
+
+    private long transfer(long amount, @NotNull TransactionContext transaction) {
         if (this.activeTransaction) return 0;
         this.activeTransaction = true;
 
@@ -34,8 +34,8 @@
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.api.universe.celestialbody.star.Star;
 import dev.galacticraft.api.universe.galaxy.Galaxy;
-import dev.galacticraft.api.universe.position.CelestialPosition;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
+import dev.galacticraft.impl.universe.position.CelestialEphemeris;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import dev.galacticraft.mod.client.util.Graphics;
 import net.fabricmc.api.EnvType;
@@ -75,6 +75,8 @@ public class CelestialScreen extends Screen implements ClientSatelliteAccessor.S
     protected final Registry<CelestialBody<?, ?>> celestialBodies = this.manager.registryOrThrow(AddonRegistries.CELESTIAL_BODY);
     protected final Registry<Galaxy> galaxies = this.manager.registryOrThrow(AddonRegistries.GALAXY);
     protected final List<CelestialBody<?, ?>> bodiesToRender = new ArrayList<>();
+    private @Nullable CelestialEphemeris ephemeris = null;
+    private int ephemerisBodies = -1;
 
     protected float zoom = 0.0F;
     protected float planetZoom = 0.0F;
@@ -482,16 +484,17 @@ protected Vector3f getCelestialBodyPosition(CelestialBody<?, ?> body, float delt
         }
         assert this.minecraft != null;
         assert this.minecraft.level != null;
-        long time = this.minecraft.level.getGameTime();
-        Vector3f bodyPos = new Vector3f((float) body.position().x(time, delta), (float) body.position().y(time, delta), 0.0F);
+        CelestialEphemeris ephemeris = this.getEphemeris();
+        ephemeris.update(this.minecraft.level.getGameTime(), delta);
+        return ephemeris.getPosition(this.celestialBodies.getId(body), new Vector3f());
+    }
 
-        if (body.parent().isPresent()) {
-            bodyPos.add(this.getCelestialBodyPosition(body.parentValue(this.celestialBodies), delta));
-        } else {
-            CelestialPosition<?, ?> galaxyPos = body.galaxyValue(this.galaxies, this.celestialBodies).position();
-            bodyPos.add((float) galaxyPos.x(time, delta), (float) galaxyPos.y(time, delta), 0.0F);
+    protected CelestialEphemeris getEphemeris() {
+        if (this.ephemeris == null || this.ephemerisBodies != this.celestialBodies.size()) {
+            this.ephemeris = CelestialEphemeris.create(this.celestialBodies, this.galaxies);
+            this.ephemerisBodies = this.celestialBodies.size();
         }
-        return bodyPos;
+        return this.ephemeris;
     }
 
     public int getWidthForCelestialBody(CelestialBody<?, ?> celestialBody) {
@@ -664,6 +667,7 @@ protected void setupMatrix(CelestialBody<?, ?> body, PoseStack matrices, float s
 
     @Override
     public void onSatelliteUpdated(CelestialBody<SatelliteConfig, SatelliteType> satellite, boolean added) {
+        this.ephemeris = null;
         if (!added) {
             this.bodiesToRender.remove(satellite);
         } else {
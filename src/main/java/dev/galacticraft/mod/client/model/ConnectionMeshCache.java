@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.client.model;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+
+/**
+ * Prebuilt meshes for every connection state of a connected block model.
+ * Each key is a 6-bit mask of connected directions (indexed by {@link net.minecraft.core.Direction#get3DDataValue()}),
+ * optionally extended by a model-specific variant above the low 6 bits.
+ * All meshes are generated once when the model is baked, so emitting a block is a single lookup and copy.
+ */
+@Environment(EnvType.CLIENT)
+public final class ConnectionMeshCache {
+    public static final int CONNECTION_STATES = 1 << 6;
+
+    private final Mesh[] meshes;
+
+    public ConnectionMeshCache(Renderer renderer, int variants, Generator generator) {
+        this.meshes = new Mesh[CONNECTION_STATES * variants];
+
+        MeshBuilder builder = renderer.meshBuilder();
+        for (int key = 0; key < this.meshes.length; key++) {
+            generator.emit(builder.getEmitter(), key);
+            this.meshes[key] = builder.build();
+        }
+    }
+
+    public static int mask(boolean[] connections) {
+        int mask = 0;
+        for (int i = 0; i < connections.length; i++) {
+            if (connections[i]) mask |= 1 << i;
+        }
+        return mask;
+    }
+
+    public static boolean isConnected(int key, int direction) {
+        return (key & (1 << direction)) != 0;
+    }
+
+    /**
+     * Copies every quad of {@code mesh} into {@code emitter}, baking the given sprite onto it.
+     * Used to texture geometry that was generated without a sprite.
+     */
+    public static void bakeInto(Mesh mesh, QuadEmitter emitter, TextureAtlasSprite sprite, int bakeFlags) {
+        mesh.forEach(quad -> emitter.copyFrom(quad).spriteBake(sprite, bakeFlags).color(-1, -1, -1, -1).emit());
+    }
+
+    public Mesh get(int key) {
+        return this.meshes[key];
+    }
+
+    public int size() {
+        return this.meshes.length;
+    }
+
+    public void outputTo(int key, RenderContext context) {
+        this.meshes[key].outputTo(context.getEmitter());
+    }
+
+    @FunctionalInterface
+    public interface Generator {
+        void emit(QuadEmitter emitter, int key);
+    }
+}
@@ -25,6 +25,7 @@
 import dev.galacticraft.mod.api.block.entity.Connected;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
 import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
@@ -55,15 +56,14 @@
 @Environment(EnvType.CLIENT)
 public class PipeBakedModel implements BakedModel {
     private final TextureAtlasSprite sprite;
-    private final Map<Direction, Mesh> meshes;
-    private final float radius;
+    private final ConnectionMeshCache meshes;
 
     public PipeBakedModel(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocation texture, float radius) {
         this.sprite = textureGetter.apply(new Material(InventoryMenu.BLOCK_ATLAS, texture));
-        this.meshes = new EnumMap<>(Direction.class);
-        this.radius = radius;
+        Map<Direction, Mesh> arms = new EnumMap<>(Direction.class);
 
-        MeshBuilder meshBuilder = RendererAccess.INSTANCE.getRenderer().meshBuilder();
+        Renderer renderer = RendererAccess.INSTANCE.getRenderer();
+        MeshBuilder meshBuilder = renderer.meshBuilder();
         QuadEmitter emitter = meshBuilder.getEmitter();
 
         for (Direction direction : new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST}) {
@@ -76,7 +76,7 @@ public PipeBakedModel(Function<Material, TextureAtlasSprite> textureGetter, Reso
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
         }
-        this.meshes.put(Direction.DOWN, meshBuilder.build());
+        arms.put(Direction.DOWN, meshBuilder.build());
 
         for (Direction direction : new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST}) {
             emitter
@@ -88,7 +88,7 @@ public PipeBakedModel(Function<Material, TextureAtlasSprite> textureGetter, Reso
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
         }
-        this.meshes.put(Direction.UP, meshBuilder.build());
+        arms.put(Direction.UP, meshBuilder.build());
 
         emitter
                 .square(Direction.WEST, 0, 0.5f-radius, 0.5f-radius, 0.5f+radius, 0.5f-radius)
@@ -122,7 +122,7 @@ public PipeBakedModel(Function<Material, TextureAtlasSprite> textureGetter, Reso
                 .uv(3, 4, 10)
                 .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                 .color(-1, -1, -1, -1).emit();
-        this.meshes.put(Direction.NORTH, meshBuilder.build());
+        arms.put(Direction.NORTH, meshBuilder.build());
 
         emitter
                 .square(Direction.WEST, 0.5f+radius, 0.5f-radius, 1, 0.5f+radius, 0.5f-radius)
@@ -156,7 +156,7 @@ public PipeBakedModel(Function<Material, TextureAtlasSprite> textureGetter, Reso
                 .uv(3, 4, 0)
                 .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                 .color(-1, -1, -1, -1).emit();
-        this.meshes.put(Direction.SOUTH, meshBuilder.build());
+        arms.put(Direction.SOUTH, meshBuilder.build());
 
         emitter
                 .square(Direction.NORTH, 0, 0.5f-radius, 0.5f-radius, 0.5f+radius, 0.5f-radius)
@@ -190,7 +190,7 @@ public PipeBakedModel(Function<Material, TextureAtlasSprite> textureGetter, Reso
                 .uv(3, 4, 16)
                 .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                 .color(-1, -1, -1, -1).emit();
-        this.meshes.put(Direction.EAST, meshBuilder.build());
+        arms.put(Direction.EAST, meshBuilder.build());
 
         emitter
                 .square(Direction.NORTH, 0.5f+radius, 0.5f-radius, 1, 0.5f+radius, 0.5f-radius)
@@ -224,7 +224,24 @@ public PipeBakedModel(Function<Material, TextureAtlasSprite> textureGetter, Reso
                 .uv(3, 4, 6)
                 .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                 .color(-1, -1, -1, -1).emit();
-        this.meshes.put(Direction.WEST, meshBuilder.build());
+        arms.put(Direction.WEST, meshBuilder.build());
+
+        this.meshes = new ConnectionMeshCache(renderer, 1, (out, mask) -> {
+            for (Direction direction : Direction.values()) {
+                if (ConnectionMeshCache.isConnected(mask, direction.get3DDataValue())) {
+                    arms.get(direction).outputTo(out);
+                } else {
+                    out
+                            .square(direction, 0.5f-radius, 0.5f-radius, 0.5f+radius, 0.5f+radius, 0.5f-radius)
+                            .uv(0, 0, 6)
+                            .uv(1, 0, 10)
+                            .uv(2, 4, 10)
+                            .uv(3, 4, 6)
+                            .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
+                            .color(-1, -1, -1, -1).emit();
+                }
+            }
+        });
     }
 
     @Override
@@ -234,25 +251,11 @@ public boolean isVanillaAdapter() {
 
     @Override
     public void emitBlockQuads(BlockAndTintGetter getter, BlockState blockState, BlockPos blockPos, Supplier<RandomSource> randomSupplier, RenderContext context) {
-        var emitter = context.getEmitter();
-
         if (getter.getBlockEntity(blockPos) instanceof Connected pipe) {
-            for (Direction direction : Direction.values()) {
-                if (pipe.isConnected(direction)) {
-                    this.meshes.get(direction).outputTo(emitter);
-                } else {
-                    emitter
-                        .square(direction, 0.5f-this.radius, 0.5f-this.radius, 0.5f+this.radius, 0.5f+this.radius, 0.5f-this.radius)
-                        .uv(0, 0, 6)
-                        .uv(1, 0, 10)
-                        .uv(2, 4, 10)
-                        .uv(3, 4, 6)
-                        .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
-                        .color(-1, -1, -1, -1).emit();
-                }
-            }
+            this.meshes.outputTo(ConnectionMeshCache.mask(pipe.getConnections()), context);
         }
     }
+
     @Override
     public void emitItemQuads(ItemStack itemStack, Supplier<RandomSource> randomSupplier, RenderContext context) {
     }
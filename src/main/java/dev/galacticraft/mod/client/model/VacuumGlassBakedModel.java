@@ -23,6 +23,9 @@
 package dev.galacticraft.mod.client.model;
 
 import dev.galacticraft.mod.Constant;
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
+import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
 import net.fabricmc.fabric.api.renderer.v1.mesh.MutableQuadView;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
@@ -57,10 +60,23 @@ public class VacuumGlassBakedModel implements BakedModel {
 
     private final TextureAtlasSprite glass;
     private final TextureAtlasSprite frame;
+    private final ConnectionMeshCache meshes;
 
     public VacuumGlassBakedModel(Function<Material, TextureAtlasSprite> textureGetter) {
         this.glass = textureGetter.apply(new Material(TextureAtlas.LOCATION_BLOCKS, Constant.id("block/vacuum_glass_vanilla")));
         this.frame = textureGetter.apply(new Material(TextureAtlas.LOCATION_BLOCKS, Constant.id("block/aluminum_decoration")));
+
+        Renderer renderer = RendererAccess.INSTANCE.getRenderer();
+        MeshBuilder glassBuilder = renderer.meshBuilder();
+        MeshBuilder cornerGlassBuilder = renderer.meshBuilder();
+        MeshBuilder frameBuilder = renderer.meshBuilder();
+        // one variant per horizontal axis, which only matters when there are no horizontal connections
+        this.meshes = new ConnectionMeshCache(renderer, 2, (emitter, key) -> {
+            emitGeometry(glassBuilder.getEmitter(), cornerGlassBuilder.getEmitter(), frameBuilder.getEmitter(), key);
+            ConnectionMeshCache.bakeInto(glassBuilder.build(), emitter, this.glass, MutableQuadView.BAKE_LOCK_UV); //todo glass UVs
+            ConnectionMeshCache.bakeInto(cornerGlassBuilder.build(), emitter, this.glass, MutableQuadView.BAKE_ROTATE_NONE);
+            ConnectionMeshCache.bakeInto(frameBuilder.build(), emitter, this.frame, MutableQuadView.BAKE_LOCK_UV);
+        });
     }
 
     @Override
@@ -110,178 +126,111 @@ public boolean isVanillaAdapter() {
 
     @Override
     public void emitBlockQuads(BlockAndTintGetter blockView, BlockState state, BlockPos pos, Supplier<RandomSource> randomSupplier, RenderContext context) {
-        QuadEmitter emitter = context.getEmitter();
-        boolean up = state.getValue(BlockStateProperties.UP);
-        boolean down = state.getValue(BlockStateProperties.DOWN);
-        boolean north = state.getValue(BlockStateProperties.NORTH);
-        boolean east = state.getValue(BlockStateProperties.EAST);
-        boolean south = state.getValue(BlockStateProperties.SOUTH);
-        boolean west = state.getValue(BlockStateProperties.WEST);
+        this.meshes.outputTo(key(state), context);
+    }
+
+    public static int key(BlockState state) {
+        return key(state.getValue(BlockStateProperties.DOWN), state.getValue(BlockStateProperties.UP),
+                state.getValue(BlockStateProperties.NORTH), state.getValue(BlockStateProperties.SOUTH),
+                state.getValue(BlockStateProperties.WEST), state.getValue(BlockStateProperties.EAST),
+                state.getValue(BlockStateProperties.HORIZONTAL_AXIS));
+    }
+
+    public static int key(boolean down, boolean up, boolean north, boolean south, boolean west, boolean east, Direction.Axis axis) {
+        return (down ? 1 : 0)
+                | (up ? 1 << 1 : 0)
+                | (north ? 1 << 2 : 0)
+                | (south ? 1 << 3 : 0)
+                | (west ? 1 << 4 : 0)
+                | (east ? 1 << 5 : 0)
+                | (axis == Direction.Axis.Z ? ConnectionMeshCache.CONNECTION_STATES : 0);
+    }
+
+    /**
+     * Emits the untextured geometry of the given connection key.
+     * Glass quads go to {@code glass}, except for the diagonal corner pane which goes to {@code cornerGlass}; frame quads go to {@code frame}.
+     */
+    public static void emitGeometry(QuadEmitter glass, QuadEmitter cornerGlass, QuadEmitter frame, int key) {
+        boolean down = ConnectionMeshCache.isConnected(key, Direction.DOWN.get3DDataValue());
+        boolean up = ConnectionMeshCache.isConnected(key, Direction.UP.get3DDataValue());
+        boolean north = ConnectionMeshCache.isConnected(key, Direction.NORTH.get3DDataValue());
+        boolean south = ConnectionMeshCache.isConnected(key, Direction.SOUTH.get3DDataValue());
+        boolean west = ConnectionMeshCache.isConnected(key, Direction.WEST.get3DDataValue());
+        boolean east = ConnectionMeshCache.isConnected(key, Direction.EAST.get3DDataValue());
         int horizontal = (north ? 1 : 0) + (east ? 1 : 0) + (south ? 1 : 0) + (west ? 1 : 0);
-        RenderContext.QuadTransform glassTransform = quad -> {
-            quad.spriteBake(this.glass, MutableQuadView.BAKE_LOCK_UV); //todo glass UVs
-            return true;
-        };
-        RenderContext.QuadTransform aluminumTransform = quad -> {
-            quad.spriteBake(this.frame, MutableQuadView.BAKE_LOCK_UV);
-            return true;
-        };
-        context.pushTransform(quad -> {
-            quad.color(-1, -1, -1, -1);
-            return true;
-        });
         switch (horizontal) {
             case 0 -> {
-                Direction.Axis axis = state.getValue(BlockStateProperties.HORIZONTAL_AXIS);
-                switch (axis) {
-                    case X -> {
-                        context.pushTransform(glassTransform);
-                        emitPane(emitter, Direction.NORTH, false, false, down, up);
-                        emitPane(emitter, Direction.SOUTH, false, false, down, up);
-                        context.popTransform();
-                        context.pushTransform(aluminumTransform);
-                        emitBasePlate(emitter, Direction.NORTH, down, up);
-                        emitSides(emitter, Direction.NORTH, false, false);
-                        context.popTransform();
-                    }
-                    case Z -> {
-                        context.pushTransform(glassTransform);
-                        emitPane(emitter, Direction.EAST, false, false, down, up);
-                        emitPane(emitter, Direction.WEST, false, false, down, up);
-                        context.popTransform();
-                        context.pushTransform(aluminumTransform);
-                        emitBasePlate(emitter, Direction.EAST, down, up);
-                        emitSides(emitter, Direction.EAST, false, false);
-                        context.popTransform();
-                    }
+                if (key < ConnectionMeshCache.CONNECTION_STATES) {
+                    emitPane(glass, Direction.NORTH, false, false, down, up);
+                    emitPane(glass, Direction.SOUTH, false, false, down, up);
+                    emitBasePlate(frame, Direction.NORTH, down, up);
+                    emitSides(frame, Direction.NORTH, false, false);
+                } else {
+                    emitPane(glass, Direction.EAST, false, false, down, up);
+                    emitPane(glass, Direction.WEST, false, false, down, up);
+                    emitBasePlate(frame, Direction.EAST, down, up);
+                    emitSides(frame, Direction.EAST, false, false);
                 }
             }
             case 1 -> {
                 if (east || west) {
-                    context.pushTransform(glassTransform);
-                    emitPane(emitter, Direction.NORTH, east, west, down, up);
-                    emitPane(emitter, Direction.SOUTH, west, east, down, up);
-                    context.popTransform();
-                    context.pushTransform(aluminumTransform);
-                    emitBasePlate(emitter, Direction.NORTH, down, up);
-                    emitSides(emitter, Direction.NORTH, east, west);
-                    context.popTransform();
+                    emitPane(glass, Direction.NORTH, east, west, down, up);
+                    emitPane(glass, Direction.SOUTH, west, east, down, up);
+                    emitBasePlate(frame, Direction.NORTH, down, up);
+                    emitSides(frame, Direction.NORTH, east, west);
                 } else {
-                    context.pushTransform(glassTransform);
-                    emitPane(emitter, Direction.EAST, south, north, down, up);
-                    emitPane(emitter, Direction.WEST, north, south, down, up);
-                    context.popTransform();
-                    context.pushTransform(aluminumTransform);
-                    emitBasePlate(emitter, Direction.EAST, down, up);
-                    emitSides(emitter, Direction.EAST, south, north);
-                    context.popTransform();
+                    emitPane(glass, Direction.EAST, south, north, down, up);
+                    emitPane(glass, Direction.WEST, north, south, down, up);
+                    emitBasePlate(frame, Direction.EAST, down, up);
+                    emitSides(frame, Direction.EAST, south, north);
                 }
             }
             case 2 -> {
                 if (east && west) {
-                    context.pushTransform(glassTransform);
-                    emitPane(emitter, Direction.NORTH, true, true, down, up);
-                    emitPane(emitter, Direction.SOUTH, true, true, down, up);
-                    context.popTransform();
-                    context.pushTransform(aluminumTransform);
-                    emitBasePlate(emitter, Direction.NORTH, down, up);
-                    context.popTransform();
+                    emitPane(glass, Direction.NORTH, true, true, down, up);
+                    emitPane(glass, Direction.SOUTH, true, true, down, up);
+                    emitBasePlate(frame, Direction.NORTH, down, up);
                 } else if (north && south) {
-                    context.pushTransform(glassTransform);
-                    emitPane(emitter, Direction.EAST, true, true, down, up);
-                    emitPane(emitter, Direction.WEST, true, true, down, up);
-                    context.popTransform();
-                    context.pushTransform(aluminumTransform);
-                    emitBasePlate(emitter, Direction.EAST, down, up);
-                    context.popTransform();
+                    emitPane(glass, Direction.EAST, true, true, down, up);
+                    emitPane(glass, Direction.WEST, true, true, down, up);
+                    emitBasePlate(frame, Direction.EAST, down, up);
                 } else {
-                    context.pushTransform(quad -> {
-                        quad.spriteBake(this.glass, MutableQuadView.BAKE_ROTATE_NONE);
-                        return true;
-                    });
-                    emitCornerPane(emitter, east, down, north, up);
-                    context.popTransform();
-                    context.pushTransform(quad -> {
-                        quad.spriteBake(this.frame, MutableQuadView.BAKE_LOCK_UV);
-                        return true;
-                    });
-                    emitCornerBasePlate(emitter, east, north, down, up);
-                    context.popTransform();
+                    emitCornerPane(cornerGlass, east, down, north, up);
+                    emitCornerBasePlate(frame, east, north, down, up);
                 }
             }
             case 3 -> {
+                Direction broken;
                 if (east && west) {
-                    if (north) {
-                        context.pushTransform(glassTransform);
-                        emitBrokenPane(emitter, Direction.NORTH, down, up);
-                        emitPane(emitter, Direction.SOUTH, true, true, down, up);
-                        emitCenterPane(emitter, Direction.NORTH, down, up);
-                        context.popTransform();
-                        context.pushTransform(aluminumTransform);
-                        emitBasePlate(emitter, Direction.NORTH, down, up);
-                        emitCenterBasePlate(emitter, Direction.NORTH, down, up);
-                        context.popTransform();
-                    } else {
-                        context.pushTransform(glassTransform);
-                        emitBrokenPane(emitter, Direction.SOUTH, down, up);
-                        emitPane(emitter, Direction.NORTH, true, true, down, up);
-                        emitCenterPane(emitter, Direction.SOUTH, down, up);
-                        context.popTransform();
-                        context.pushTransform(aluminumTransform);
-                        emitBasePlate(emitter, Direction.SOUTH, down, up);
-                        emitCenterBasePlate(emitter, Direction.SOUTH, down, up);
-                        context.popTransform();
-                    }
+                    broken = north ? Direction.NORTH : Direction.SOUTH;
                 } else {
-                    if (east) {
-                        context.pushTransform(glassTransform);
-                        emitBrokenPane(emitter, Direction.EAST, down, up);
-                        emitPane(emitter, Direction.WEST, true, true, down, up);
-                        emitCenterPane(emitter, Direction.EAST, down, up);
-                        context.popTransform();
-                        context.pushTransform(aluminumTransform);
-                        emitBasePlate(emitter, Direction.EAST, down, up);
-                        emitCenterBasePlate(emitter, Direction.EAST, down, up);
-                        context.popTransform();
-                    } else {
-                        context.pushTransform(glassTransform);
-                        emitBrokenPane(emitter, Direction.WEST, down, up);
-                        emitPane(emitter, Direction.EAST, true, true, down, up);
-                        emitCenterPane(emitter, Direction.WEST, down, up);
-                        context.popTransform();
-                        context.pushTransform(aluminumTransform);
-                        emitBasePlate(emitter, Direction.WEST, down, up);
-                        emitCenterBasePlate(emitter, Direction.WEST, down, up);
-                        context.popTransform();
-                    }
+                    broken = east ? Direction.EAST : Direction.WEST;
                 }
+                emitBrokenPane(glass, broken, down, up);
+                emitPane(glass, broken.getOpposite(), true, true, down, up);
+                emitCenterPane(glass, broken, down, up);
+                emitBasePlate(frame, broken, down, up);
+                emitCenterBasePlate(frame, broken, down, up);
             }
             case 4 -> {
-                context.pushTransform(glassTransform);
-                emitCenterPane(emitter, Direction.NORTH, down, up);
-                emitCenterPane(emitter, Direction.EAST, down, up);
-                emitCenterPane(emitter, Direction.SOUTH, down, up);
-                emitCenterPane(emitter, Direction.WEST, down, up);
-                context.popTransform();
-                context.pushTransform(aluminumTransform);
-
-                emitCenterBasePlate(emitter, Direction.NORTH, down, up);
-                emitCenterBasePlate(emitter, Direction.EAST, down, up);
-                emitCenterBasePlate(emitter, Direction.SOUTH, down, up);
-                emitCenterBasePlate(emitter, Direction.WEST, down, up);
+                emitCenterPane(glass, Direction.NORTH, down, up);
+                emitCenterPane(glass, Direction.EAST, down, up);
+                emitCenterPane(glass, Direction.SOUTH, down, up);
+                emitCenterPane(glass, Direction.WEST, down, up);
+
+                emitCenterBasePlate(frame, Direction.NORTH, down, up);
+                emitCenterBasePlate(frame, Direction.EAST, down, up);
+                emitCenterBasePlate(frame, Direction.SOUTH, down, up);
+                emitCenterBasePlate(frame, Direction.WEST, down, up);
 
                 if (!down) {
-                    emitter.square(Direction.DOWN, FRAME_INSET, FRAME_INSET, 1.0f - FRAME_INSET, 1.0f - FRAME_INSET, 0.0f).emit();
+                    frame.square(Direction.DOWN, FRAME_INSET, FRAME_INSET, 1.0f - FRAME_INSET, 1.0f - FRAME_INSET, 0.0f).emit();
                 }
                 if (!up) {
-                    emitter.square(Direction.UP, FRAME_INSET, FRAME_INSET, 1.0f - FRAME_INSET, 1.0f - FRAME_INSET, 0.0f).emit();
+                    frame.square(Direction.UP, FRAME_INSET, FRAME_INSET, 1.0f - FRAME_INSET, 1.0f - FRAME_INSET, 0.0f).emit();
                 }
-                context.popTransform();
             }
         }
-        context.popTransform();
-
-        BakedModel.super.emitBlockQuads(blockView, state, pos, randomSupplier, context);
     }
 
     private static void emitSides(QuadEmitter emitter, Direction direction, boolean left, boolean right) {
@@ -48,9 +48,7 @@
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -79,11 +77,11 @@ public void resolveParents(Function<ResourceLocation, UnbakedModel> modelLoader)
 
     public static class Baked implements BakedModel {
         private final TextureAtlasSprite sprite;
-        private final Map<Direction, Mesh> meshes;
+        private final Mesh[] meshes;
 
         public Baked(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocation texture) {
             this.sprite = textureGetter.apply(new Material(InventoryMenu.BLOCK_ATLAS, texture));
-            this.meshes = new EnumMap<>(Direction.class);
+            this.meshes = new Mesh[6];
 
             Renderer renderer = RendererAccess.INSTANCE.getRenderer();
             MeshBuilder meshBuilder = renderer.meshBuilder();
@@ -106,7 +104,7 @@ public Baked(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocat
                     .uv(3, 4, 6)
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
-            this.meshes.put(Direction.DOWN, meshBuilder.build());
+            this.meshes[Direction.DOWN.get3DDataValue()] = meshBuilder.build();
 
             for (Direction direction : new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST}) {
                 emitter
@@ -125,7 +123,7 @@ public Baked(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocat
                     .uv(3, 4, 6)
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
-            this.meshes.put(Direction.UP, meshBuilder.build());
+            this.meshes[Direction.UP.get3DDataValue()] = meshBuilder.build();
 
             emitter
                     .square(Direction.WEST, 0.0625f, 0.375f, 0.375f, 0.625f, 0.375f)
@@ -166,7 +164,7 @@ public Baked(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocat
                     .uv(3, 4, 6)
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
-            this.meshes.put(Direction.NORTH, meshBuilder.build());
+            this.meshes[Direction.NORTH.get3DDataValue()] = meshBuilder.build();
 
             emitter
                     .square(Direction.WEST, 0.625f, 0.375f,0.9375f, 0.625f, 0.375f)
@@ -207,7 +205,7 @@ public Baked(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocat
                     .uv(3, 4, 6)
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
-            this.meshes.put(Direction.SOUTH, meshBuilder.build());
+            this.meshes[Direction.SOUTH.get3DDataValue()] = meshBuilder.build();
 
             emitter
                     .square(Direction.NORTH, 0.0625f, 0.375f, 0.375f, 0.625f, 0.375f)
@@ -248,7 +246,7 @@ public Baked(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocat
                     .uv(3, 4, 6)
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
-            this.meshes.put(Direction.EAST, meshBuilder.build());
+            this.meshes[Direction.EAST.get3DDataValue()] = meshBuilder.build();
 
             emitter
                     .square(Direction.NORTH, 0.625f, 0.375f,0.9375f, 0.625f, 0.375f)
@@ -289,7 +287,7 @@ public Baked(Function<Material, TextureAtlasSprite> textureGetter, ResourceLocat
                     .uv(3, 4, 6)
                     .spriteBake(this.sprite, MutableQuadView.BAKE_NORMALIZED & MutableQuadView.BAKE_LOCK_UV)
                     .color(-1, -1, -1, -1).emit();
-            this.meshes.put(Direction.WEST, meshBuilder.build());
+            this.meshes[Direction.WEST.get3DDataValue()] = meshBuilder.build();
         }
 
         @Override
@@ -297,7 +295,7 @@ public void emitBlockQuads(BlockAndTintGetter blockView, BlockState state, Block
             if (blockView.getBlockEntity(pos) instanceof Connected connected) {
                 Direction facing = state.getValue(BlockStateProperties.FACING);
                 if (!connected.isConnected(facing)) {
-                    this.meshes.get(facing).outputTo(context.getEmitter());
+                    this.meshes[facing.get3DDataValue()].outputTo(context.getEmitter());
                 }
             } else {
                 Constant.LOGGER.warn("Walkway center model loaded for block that's not a Connected entity");
@@ -26,36 +26,23 @@
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.*;
 import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.misc.footprint.ChunkFootprints;
 import dev.galacticraft.mod.misc.footprint.Footprint;
-import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GameRenderer;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Matrix4f;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-
 public class FootprintRenderer {
     private static final ResourceLocation FOOTPRINT_TEXTURE = Constant.id("textures/misc/footprint.png");
 
     public static void renderFootprints(WorldRenderContext context) {
         context.profiler().push("footprints");
         PoseStack poseStack = context.matrixStack();
-        ResourceLocation dimActive = context.world().dimensionTypeRegistration().unwrapKey().get().location();
-        List<Footprint> footprintsToDraw = new LinkedList<>();
-
-        for (List<Footprint> footprintList : context.world().galacticraft$getFootprintManager().getFootprints().values()) {
-            for (Footprint footprint : footprintList) {
-                if (footprint.dimension.equals(dimActive)) {
-                    footprintsToDraw.add(footprint);
-                }
-            }
-        }
+        Long2ObjectMap<ChunkFootprints> footprintsToDraw = context.world().galacticraft$getFootprintManager().getFootprints();
 
         if (footprintsToDraw.isEmpty()) {
             context.profiler().pop();
@@ -82,39 +69,41 @@ public static void renderFootprints(WorldRenderContext context) {
 
         RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
 
-        for (Footprint footprint : footprintsToDraw) {
-            poseStack.pushPose();
-
-//            if (!sensorGlasses) {
-//                int j = footprint.lightmapVal % 65536;
-//                int k = footprint.lightmapVal / 65536;
-//                OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, (float) j, (float) k);
-//            }
-
-            float ageScale = 1.0F - footprint.age / (float) Footprint.MAX_AGE;
-            RenderSystem.setShader(GameRenderer::getPositionTexShader);
-            RenderSystem.setShaderColor(ageScale, ageScale, ageScale, ageScale);
-
-            Vec3 cameraPos = context.camera().getPosition();
-            poseStack.translate(
-                    footprint.position.x - cameraPos.x,
-                    footprint.position.y - cameraPos.y + 0.01F * ageScale,
-                    footprint.position.z - cameraPos.z
-            );
-
-            Matrix4f last = poseStack.last().pose();
-            BufferBuilder buffer = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
-            float footprintScale = 0.5F;
-            float rotation = 45.0F * Mth.DEG_TO_RAD - footprint.rotation;
-            for (int i = 3; i >= 0; i--) {
-                buffer = (BufferBuilder) buffer
-                        .addVertex(last, Mth.sin(rotation) * footprintScale, 0, Mth.cos(rotation) * footprintScale)
-                        .setUv(i / 2, (i == 0 || i == 3) ? 1 : 0);
-                rotation += Mth.HALF_PI;
-            }
+        Vec3 cameraPos = context.camera().getPosition();
+        for (ChunkFootprints footprints : footprintsToDraw.values()) {
+            for (int n = 0; n < footprints.size(); n++) {
+                poseStack.pushPose();
+
+//                if (!sensorGlasses) {
+//                    int j = footprint.lightmapVal % 65536;
+//                    int k = footprint.lightmapVal / 65536;
+//                    OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, (float) j, (float) k);
+//                }
+
+                float ageScale = 1.0F - footprints.getAge(n) / (float) Footprint.MAX_AGE;
+                RenderSystem.setShader(GameRenderer::getPositionTexShader);
+                RenderSystem.setShaderColor(ageScale, ageScale, ageScale, ageScale);
+
+                poseStack.translate(
+                        footprints.getX(n) - cameraPos.x,
+                        footprints.getY(n) - cameraPos.y + 0.01F * ageScale,
+                        footprints.getZ(n) - cameraPos.z
+                );
+
+                Matrix4f last = poseStack.last().pose();
+                BufferBuilder buffer = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+                float footprintScale = 0.5F;
+                float rotation = 45.0F * Mth.DEG_TO_RAD - footprints.getRotation(n);
+                for (int i = 3; i >= 0; i--) {
+                    buffer = (BufferBuilder) buffer
+                            .addVertex(last, Mth.sin(rotation) * footprintScale, 0, Mth.cos(rotation) * footprintScale)
+                            .setUv(i / 2, (i == 0 || i == 3) ? 1 : 0);
+                    rotation += Mth.HALF_PI;
+                }
 
-            BufferUploader.drawWithShader(buffer.buildOrThrow());
-            poseStack.popPose();
+                BufferUploader.drawWithShader(buffer.buildOrThrow());
+                poseStack.popPose();
+            }
         }
 
 //        if (sensorGlasses) {
@@ -125,16 +114,4 @@ public static void renderFootprints(WorldRenderContext context) {
         poseStack.popPose();
         context.profiler().pop();
     }
-
-    public static void setFootprints(long chunk, List<Footprint> prints) {
-        FootprintManager manager = Minecraft.getInstance().level.galacticraft$getFootprintManager();
-        List<Footprint> footprintList = manager.getFootprints().get(chunk);
-
-        if (footprintList == null) {
-            footprintList = new ArrayList<>();
-        }
-
-        footprintList.addAll(prints);
-        manager.getFootprints().put(chunk, footprintList);
-    }
-}
\ No newline at end of file
+}
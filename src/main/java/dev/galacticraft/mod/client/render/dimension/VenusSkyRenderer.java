@@ -29,6 +29,7 @@
 import dev.galacticraft.mod.Constant;
 import net.fabricmc.fabric.api.client.rendering.v1.DimensionRenderingRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.FogRenderer;
@@ -36,28 +37,41 @@
 import net.minecraft.client.renderer.ShaderInstance;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.lwjgl.opengl.GL11;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
 public class VenusSkyRenderer implements DimensionRenderingRegistry.SkyRenderer {
     public static final VenusSkyRenderer INSTANCE = new VenusSkyRenderer();
-
+    private static final long STAR_SEED = 10842L;
+    private static final int STAR_COUNT = 35000;
 
     private final Minecraft minecraft = Minecraft.getInstance();
-    public VertexBuffer starBuffer;
+    private @Nullable CompletableFuture<float[]> pendingStars;
+    public @Nullable VertexBuffer starBuffer;
     public VertexBuffer skyBuffer;
     public VertexBuffer darkBuffer;
     private final float sunSize;
 
     public VenusSkyRenderer() {
         this.sunSize = 30.0F * (1.0F / 0.75F);
+    }
 
-        this.starBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
-
-        // Bind stars to display list
-        this.starBuffer.bind();
-        this.starBuffer.upload(this.renderStars());
-        VertexBuffer.unbind();
+    /**
+     * Builds and uploads the static sky meshes on first use rather than at class initialisation.
+     * The stars are generated in the background and uploaded by {@link #uploadPendingStars()} once they are ready.
+     */
+    private void setupBuffers() {
+        this.pendingStars = CompletableFuture.supplyAsync(
+                VenusSkyRenderer::createStarVertices,
+                Util.backgroundExecutor()
+        ).exceptionally(e -> {
+            Constant.LOGGER.error("Failed to generate the Venus star field", e);
+            return null;
+        });
 
         this.skyBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
         final byte byte2 = 64;
@@ -97,12 +111,34 @@ public VenusSkyRenderer() {
         VertexBuffer.unbind();
     }
 
-    private MeshData renderStars() {
-        RandomSource rand = RandomSource.create(10842L);
-        RenderSystem.setShader(GameRenderer::getPositionShader);
-        BufferBuilder buffer = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION);
+    private void uploadPendingStars() {
+        if (this.pendingStars != null && this.pendingStars.isDone()) {
+            float[] vertices = this.pendingStars.getNow(null);
+            this.pendingStars = null;
+            if (vertices != null && vertices.length > 0) {
+                BufferBuilder buffer = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION);
+                for (int i = 0; i < vertices.length; i += 3) {
+                    buffer.addVertex(vertices[i], vertices[i + 1], vertices[i + 2]);
+                }
 
-        for (int starIndex = 0; starIndex < 35000; ++starIndex) {
+                this.starBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+                this.starBuffer.bind();
+                this.starBuffer.upload(buffer.buildOrThrow());
+                VertexBuffer.unbind();
+            }
+        }
+    }
+
+    /**
+     * Generates the stars and returns the corners of their quads as packed x, y, z floats.
+     * Does not touch any rendering state, so it runs on the background executor.
+     */
+    private static float[] createStarVertices() {
+        RandomSource rand = RandomSource.create(STAR_SEED);
+        float[] vertices = new float[STAR_COUNT * 4 * 3];
+        int vertex = 0;
+
+        for (int starIndex = 0; starIndex < STAR_COUNT; ++starIndex) {
             double var4 = rand.nextFloat() * 2.0F - 1.0F;
             double var6 = rand.nextFloat() * 2.0F - 1.0F;
             double var8 = rand.nextFloat() * 2.0F - 1.0F;
@@ -137,16 +173,22 @@ private MeshData renderStars() {
                     final double var55 = var39 * var28 - var47 * var30;
                     final double var57 = var55 * var22 - var49 * var24;
                     final double var61 = var49 * var22 + var55 * var24;
-                    buffer.addVertex((float) (var14 + var57), (float) (var16 + var53), (float) (var18 + var61));
+                    vertices[vertex++] = (float) (var14 + var57);
+                    vertices[vertex++] = (float) (var16 + var53);
+                    vertices[vertex++] = (float) (var18 + var61);
                 }
             }
         }
 
-        return buffer.buildOrThrow();
+        return vertex == vertices.length ? vertices : Arrays.copyOf(vertices, vertex);
     }
 
     @Override
     public void render(WorldRenderContext context) {
+        if (this.skyBuffer == null) {
+            this.setupBuffers();
+        }
+        this.uploadPendingStars();
         ClientLevel level = context.world();
         float partialTicks = context.tickCounter().getGameTimeDeltaPartialTick(true);
         PoseStack poseStack = new PoseStack();
@@ -173,7 +215,7 @@ public void render(WorldRenderContext context) {
 
         float starBrightness = level.getStarBrightness(partialTicks);
 
-        if (starBrightness > 0.0F) {
+        if (starBrightness > 0.0F && this.starBuffer != null) {
             poseStack.pushPose();
             poseStack.mulPose(Axis.YN.rotationDegrees(90.0F));
             poseStack.mulPose(Axis.XN.rotationDegrees(level.getTimeOfDay(partialTicks) * 360.0F));
@@ -22,6 +22,7 @@
 
 package dev.galacticraft.mod.client.render.dimension.star;
 
+import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.client.render.dimension.star.data.CelestialBody;
 import dev.galacticraft.mod.client.render.dimension.star.data.CelestialBodyType;
 import dev.galacticraft.mod.client.render.dimension.star.data.Planet3DData;
@@ -31,11 +32,13 @@
 import dev.galacticraft.mod.client.render.dimension.star.display.PlanetRenderer3D;
 import dev.galacticraft.mod.client.render.dimension.star.display.StarRenderer;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.Util;
 import net.minecraft.resources.ResourceLocation;
-import org.joml.SimplexNoise;
-import org.joml.Vector3d;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manager class for rendering multiple celestial bodies (stars and planets) in a galaxy.
@@ -54,6 +57,11 @@ public class CelestialBodyRendererManager {
     // Geographical solar position for relative rendering of celestial bodies
     private GeographicalSolarPosition solarPosition;
 
+    private static final long STAR_SEED = 27893L;
+    private static final int STAR_COUNT = 20000;
+    private static final int STAR_FIELD_SIZE = 850;
+    private @Nullable CompletableFuture<StarField> pendingStars;
+
     private CelestialBodyRendererManager() {
 
         this.factory = new CelestialBodyFactory();
@@ -72,7 +80,14 @@ private CelestialBodyRendererManager() {
         renderers.put(CelestialBodyType.PLANET3D, new PlanetRenderer3D());
 
         // FIXME: VERY TEMPORARY, we should setup from a generated map of stars or something
-        this.setStarPositions();
+        // Generating the star field is expensive, so it is loaded in the background and added once ready
+        this.pendingStars = CompletableFuture.supplyAsync(
+                () -> StarField.loadOrGenerate(FabricLoader.getInstance().getGameDir().resolve(".cache").resolve(Constant.MOD_ID), STAR_SEED, STAR_COUNT, STAR_FIELD_SIZE),
+                Util.backgroundExecutor()
+        ).exceptionally(e -> {
+            Constant.LOGGER.error("Failed to generate the star field", e);
+            return null;
+        });
         // this.add2DPlanet(10, 10, 0, 10, 0, Constant.CelestialBody.EARTH);
 
         // Add a sample 3D planet with Earth texture and 80% opacity
@@ -80,52 +95,27 @@ private CelestialBodyRendererManager() {
     }
 
     // TODO: temp
-    public void setStarPositions() {
-        final Random random = new Random(27893L);
-        final int starCount = 20000;
-        final int size = 850;
-
-        // Worley noise parameters
-        int numPoints = 32;
-        Vector3d[] points = new Vector3d[numPoints];
-        for (int i = 0; i < numPoints; i++) {
-            points[i] = new Vector3d(
-                    random.nextInt(size * 2) - size,
-                    random.nextInt(size * 2) - size,
-                    random.nextInt(size * 2) - size
+    public void setStarPositions(StarField field) {
+        for (int i = 0; i < field.size(); i++) {
+            this.addCelestialBody(
+                    CelestialBodyType.STAR,
+                    (int) field.getX(i), (int) field.getY(i), (int) field.getZ(i),
+                    field.getSize(i),
+                    field.getRotation(i)
             );
         }
+    }
 
-        for (int i = 0; i < starCount; i++) {
-            // Generate base position
-            int x = random.nextInt((size * 2) + 1) - size;
-            int y = random.nextInt((size * 2) + 1) - size;
-            int z = random.nextInt((size * 2) + 1) - size;
-
-            // Perlin noise influence
-            double noise = (SimplexNoise.noise(x * 0.005F, y * 0.005F, z * 0.005F) + 1) * 0.5;
-
-            // Find closest Worley point
-            double minDist = Double.MAX_VALUE;
-            for (Vector3d p : points) {
-                double dx = x - p.x;
-                double dy = y - p.y;
-                double dz = z - p.z;
-                double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
-                minDist = Math.min(minDist, dist);
-            }
-
-            // Only place stars where Worley noise is high and Perlin noise is above threshold
-            if (minDist > 100 && noise > 0.4) {
-                this.addCelestialBody(
-                        CelestialBodyType.STAR,
-                        x, y, z,
-                        random.nextFloat(0.3f) + 1,
-                        random.nextDouble(360) + 1
-                );
+    private void addPendingStars() {
+        if (this.pendingStars != null && this.pendingStars.isDone()) {
+            StarField field = this.pendingStars.getNow(null);
+            this.pendingStars = null;
+            if (field != null) {
+                this.setStarPositions(field);
             }
         }
     }
+
     /**
      * Adds a celestial body to the manager.
      *
@@ -244,6 +234,7 @@ public List<CelestialBody> getAllCelestialBodies() {
      * Renders all celestial bodies.
      */
     public void render(WorldRenderContext worldRenderContext) {
+        this.addPendingStars();
         // Render each type of celestial body with its corresponding renderer
         for (CelestialBodyType type : CelestialBodyType.values()) {
             CelestialBodyRenderer renderer = renderers.get(type);
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.client.render.dimension.star;
+
+import dev.galacticraft.mod.Constant;
+import org.jetbrains.annotations.NotNull;
+import org.joml.SimplexNoise;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * A generated star field, stored as a packed float array of {@link #STRIDE} floats per star:
+ * x, y, z, size and rotation (in degrees).
+ * <p>
+ * Generation does not touch any rendering state, so it can run off the render thread and be tested headlessly.
+ * As it is fairly expensive, generated fields can be cached on disk by seed.
+ */
+public final class StarField {
+    public static final int STRIDE = 5;
+    private static final int MAGIC = 0x47435346; // GCSF
+    private static final int VERSION = 1;
+
+    private final float[] data;
+
+    private StarField(float[] data) {
+        this.data = data;
+    }
+
+    public int size() {
+        return this.data.length / STRIDE;
+    }
+
+    public float getX(int star) {
+        return this.data[star * STRIDE];
+    }
+
+    public float getY(int star) {
+        return this.data[star * STRIDE + 1];
+    }
+
+    public float getZ(int star) {
+        return this.data[star * STRIDE + 2];
+    }
+
+    public float getSize(int star) {
+        return this.data[star * STRIDE + 3];
+    }
+
+    public float getRotation(int star) {
+        return this.data[star * STRIDE + 4];
+    }
+
+    /**
+     * Generates a star field in a cube of the given half-extent.
+     * Stars are only kept away from a set of Worley points and where simplex noise is above a threshold, which gives clusters and voids.
+     *
+     * @param seed      the seed of the field
+     * @param starCount the number of candidate stars
+     * @param size      the half-extent of the cube
+     * @return the generated star field
+     */
+    public static @NotNull StarField generate(long seed, int starCount, int size) {
+        final Random random = new Random(seed);
+
+        // Worley noise parameters
+        int numPoints = 32;
+        double[] points = new double[numPoints * 3];
+        for (int i = 0; i < numPoints; i++) {
+            points[i * 3] = random.nextInt(size * 2) - size;
+            points[i * 3 + 1] = random.nextInt(size * 2) - size;
+            points[i * 3 + 2] = random.nextInt(size * 2) - size;
+        }
+
+        float[] data = new float[starCount * STRIDE];
+        int stars = 0;
+        for (int i = 0; i < starCount; i++) {
+            // Generate base position
+            int x = random.nextInt((size * 2) + 1) - size;
+            int y = random.nextInt((size * 2) + 1) - size;
+            int z = random.nextInt((size * 2) + 1) - size;
+
+            // Perlin noise influence
+            double noise = (SimplexNoise.noise(x * 0.005F, y * 0.005F, z * 0.005F) + 1) * 0.5;
+
+            // Find closest Worley point
+            double minDist = Double.MAX_VALUE;
+            for (int p = 0; p < numPoints; p++) {
+                double dx = x - points[p * 3];
+                double dy = y - points[p * 3 + 1];
+                double dz = z - points[p * 3 + 2];
+                double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                minDist = Math.min(minDist, dist);
+            }
+
+            // Only place stars where Worley noise is high and Perlin noise is above threshold
+            if (minDist > 100 && noise > 0.4) {
+                int offset = stars++ * STRIDE;
+                data[offset] = x;
+                data[offset + 1] = y;
+                data[offset + 2] = z;
+                data[offset + 3] = random.nextFloat(0.3f) + 1;
+                data[offset + 4] = (float) (random.nextDouble(360) + 1);
+            }
+        }
+
+        float[] trimmed = new float[stars * STRIDE];
+        System.arraycopy(data, 0, trimmed, 0, trimmed.length);
+        return new StarField(trimmed);
+    }
+
+    /**
+     * Loads a star field from the cache directory, or generates and caches it if it is missing or unreadable.
+     *
+     * @param cacheDir  the directory to store cached star fields in
+     * @param seed      the seed of the field
+     * @param starCount the number of candidate stars
+     * @param size      the half-extent of the cube
+     * @return the star field
+     */
+    public static @NotNull StarField loadOrGenerate(@NotNull Path cacheDir, long seed, int starCount, int size) {
+        Path file = cacheDir.resolve("stars_" + Long.toHexString(seed) + "_" + starCount + "_" + size + ".bin");
+        if (Files.isRegularFile(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                return read(in);
+            } catch (IOException e) {
+                Constant.LOGGER.warn("Failed to read cached star field {}, regenerating it", file, e);
+            }
+        }
+
+        StarField field = generate(seed, starCount, size);
+        try {
+            Files.createDirectories(cacheDir);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                field.write(out);
+            }
+        } catch (IOException e) {
+            Constant.LOGGER.warn("Failed to cache star field to {}", file, e);
+        }
+        return field;
+    }
+
+    public void write(@NotNull DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(this.data.length);
+        for (float value : this.data) {
+            out.writeFloat(value);
+        }
+    }
+
+    public static @NotNull StarField read(@NotNull DataInput in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a star field of version " + VERSION);
+        }
+        int length = in.readInt();
+        if (length < 0 || length % STRIDE != 0) {
+            throw new IOException("Invalid star field length " + length);
+        }
+        float[] data = new float[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = in.readFloat();
+        }
+        return new StarField(data);
+    }
+}
@@ -39,9 +39,17 @@
  * Renderer for stars.
  */
 public class StarRenderer implements CelestialBodyRenderer {
+    // how far the camera may move (in star field units) before the billboards are rebuilt for the new viewpoint
+    private static final double REBUILD_DISTANCE = 1.0;
 
     private VertexBuffer starBuffer;
     private final GeographicalSolarPosition cameraRenderPosition = GeographicalSolarPosition.getInstance();
+    // camera position and star count the current buffer was built for
+    private double builtX;
+    private double builtY;
+    private double builtZ;
+    private int builtStars = -1;
+    private boolean hasMesh = false;
 
     @Override
     public void setupBufferPositions(List<CelestialBody> bodies) {
@@ -57,6 +65,10 @@ public void setupBufferPositions(List<CelestialBody> bodies) {
 
         // Calculate the direction from the star to the camera
         Vec3 cameraPos = new Vec3(cameraRenderPosition.getX(), cameraRenderPosition.getY(), cameraRenderPosition.getZ());
+        this.builtX = cameraPos.x;
+        this.builtY = cameraPos.y;
+        this.builtZ = cameraPos.z;
+        this.builtStars = bodies.size();
 
 
         for (CelestialBody body : bodies) {
@@ -138,9 +150,13 @@ public void setupBufferPositions(List<CelestialBody> bodies) {
             }
         }
 
-        this.starBuffer.bind();
-        this.starBuffer.upload(buffer.build());
-        VertexBuffer.unbind();
+        MeshData mesh = buffer.build();
+        this.hasMesh = mesh != null;
+        if (mesh != null) {
+            this.starBuffer.bind();
+            this.starBuffer.upload(mesh);
+            VertexBuffer.unbind();
+        }
 
         RenderSystem.enableCull();
 
@@ -169,12 +185,18 @@ public void render(CelestialBody body, WorldRenderContext worldRenderContext) {
 
     @Override
     public void renderAll(List<CelestialBody> bodies, WorldRenderContext worldRenderContext) {
-        // Setup buffer positions once for all bodies
-        this.setupBufferPositions(bodies);
-
+        // The star mesh is uploaded once and only rebuilt when the star list changes or the camera moved far enough
+        // for the billboards to visibly change; small camera movements are applied as a translation instead.
+        double dx = this.builtX - this.cameraRenderPosition.getX();
+        double dy = this.builtY - this.cameraRenderPosition.getY();
+        double dz = this.builtZ - this.cameraRenderPosition.getZ();
+        if (this.starBuffer == null || this.builtStars != bodies.size() || dx * dx + dy * dy + dz * dz > REBUILD_DISTANCE * REBUILD_DISTANCE) {
+            this.setupBufferPositions(bodies);
+            dx = dy = dz = 0.0;
+        }
 
         // Render all stars at once
-        if (starBuffer != null) {
+        if (this.hasMesh) {
             RenderSystem.setShaderColor(1.0F, 0.95F, 0.9F, 1);
             FogRenderer.setupNoFog();
 
@@ -184,6 +206,7 @@ public void renderAll(List<CelestialBody> bodies, WorldRenderContext worldRender
             PoseStack matrices = new PoseStack();
 
             matrices.mulPose(worldRenderContext.positionMatrix());
+            matrices.translate(dx, dy, dz);
 
             this.starBuffer.drawWithShader(
                     matrices.last().pose(),
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.misc.profiling.GCProfiler;
+import dev.galacticraft.mod.util.Translations;
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code /galacticraft profile start|stop|dump} - records Galacticraft's tick sections with {@link GCProfiler} and
+ * writes the report to the server's debug folder.
+ */
+public class ProfileCommand {
+    private static final SimpleCommandExceptionType ALREADY_RUNNING = new SimpleCommandExceptionType(Component.translatable(Translations.Profile.ALREADY_RUNNING));
+    private static final SimpleCommandExceptionType NOT_RUNNING = new SimpleCommandExceptionType(Component.translatable(Translations.Profile.NOT_RUNNING));
+    private static final DynamicCommandExceptionType DUMP_FAILED = new DynamicCommandExceptionType(message -> Component.translatable(Translations.Profile.DUMP_FAILED, message));
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(Constant.Command.GALACTICRAFT)
+                .requires(stack -> stack.hasPermission(3))
+                .then(Commands.literal(Constant.Command.PROFILE)
+                        .then(Commands.literal("start").executes(ProfileCommand::start))
+                        .then(Commands.literal("stop").executes(ProfileCommand::stop))
+                        .then(Commands.literal("dump").executes(ProfileCommand::dump))
+                )
+        );
+    }
+
+    private static int start(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        if (GCProfiler.isEnabled()) throw ALREADY_RUNNING.create();
+
+        GCProfiler.start();
+        context.getSource().sendSuccess(() -> Component.translatable(Translations.Profile.STARTED), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int stop(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        if (!GCProfiler.isEnabled()) throw NOT_RUNNING.create();
+
+        GCProfiler.stop();
+        String seconds = String.format("%.2f", GCProfiler.elapsed() / 1.0e9);
+        context.getSource().sendSuccess(() -> Component.translatable(Translations.Profile.STOPPED, seconds), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int dump(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        Path file = context.getSource().getServer().getFile("debug").resolve("galacticraft-profile-" + Util.getFilenameFormattedDateTime() + ".txt");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, GCProfiler.report());
+        } catch (IOException e) {
+            Constant.LOGGER.error("Failed to write profile to {}", file, e);
+            throw DUMP_FAILED.create(e.getMessage());
+        }
+        context.getSource().sendSuccess(() -> Component.translatable(Translations.Profile.DUMPED, file.toString()), false);
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -23,20 +23,29 @@
 package dev.galacticraft.mod.content.block.entity;
 
 import dev.galacticraft.mod.content.block.special.AirlockBlock;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-
+/**
+ * Finds the airlock frame connected to a controller.
+ * The search uses an explicit stack and reuses its buffers, so recalculating a frame does not allocate once warmed up.
+ */
 class AirLockProtocol {
-    private ArrayList<BlockPos> adjacentAirLocks;
-    private HashSet<BlockPos> checked;
+    private final LongArrayList adjacentAirLocks = new LongArrayList();
+    private final LongOpenHashSet checked = new LongOpenHashSet();
+    private final BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
     private final Level world;
     private final BlockEntity head;
     private final int maxLoops;
 
+    // depth-first search stack: position, remaining loops and next neighbour index of each frame
+    private final long[] stackPos;
+    private final int[] stackLoops;
+    private final int[] stackNeighbour;
+
     public int minX = 6000000;
     public int maxX = -6000000;
     public int minY = 6000000;
@@ -45,61 +54,80 @@ class AirLockProtocol {
     public int maxZ = -6000000;
 
     public AirLockProtocol(BlockEntity head) {
-        this.adjacentAirLocks = new ArrayList<>();
-        this.checked = new HashSet<>();
         this.world = head.getLevel();
         this.head = head;
         this.maxLoops = 26;
+        this.stackPos = new long[this.maxLoops];
+        this.stackLoops = new int[this.maxLoops];
+        this.stackNeighbour = new int[this.maxLoops];
+    }
+
+    public boolean isValidFrame(int x, int y, int z) {
+        return this.world.getBlockState(this.mutable.set(x, y, z)).getBlock() instanceof AirlockBlock;
+    }
+
+    /**
+     * Returns whether a change at the given position could affect the last calculated frame,
+     * i.e. whether it lies within the scanned bounds or directly next to them.
+     */
+    public boolean isNearFrame(BlockPos pos) {
+        return pos.getX() >= this.minX - 1 && pos.getX() <= this.maxX + 1
+                && pos.getY() >= this.minY - 1 && pos.getY() <= this.maxY + 1
+                && pos.getZ() >= this.minZ - 1 && pos.getZ() <= this.maxZ + 1;
     }
 
-    public boolean isValidFrame(BlockPos pos) {
-        return this.world.getBlockState(pos).getBlock() instanceof AirlockBlock;
+    /**
+     * Returns the packed positions of the frame found by the last calculation, including the controller.
+     */
+    public LongArrayList getFrame() {
+        return this.adjacentAirLocks;
     }
 
-    private void loopThrough(BlockPos pos, int loops) {
+    private void loopThrough(long start, boolean horizontal) {
+        // Visits neighbours in the same order as a recursive depth-first search would,
+        // which matters as the first path to reach a block determines how far the search continues from it.
         int xAligned = this.head.getBlockPos().getX();
         int zAligned = this.head.getBlockPos().getZ();
-        for (int x = -1; x <= 1; x++) {
-            int xTest = pos.getX() + x;
-            for (int z = -1; z <= 1; z++) {
-                int zTest = pos.getZ() + z;
-
-                if ((xTest == xAligned || zTest == zAligned)) {
-                    for (int y = -1; y <= 1; y++) {
-                        if (!(x == 0 && y == 0 && z == 0)) {
-                            final BlockPos testPos = new BlockPos(xTest, pos.getY() + y, zTest);
-                            if (!this.checked.contains(testPos)) {
-                                this.checked.add(testPos);
-                                if (this.isValidFrame(testPos)) {
-                                    this.adjacentAirLocks.add(testPos);
-                                    if (loops > 1) {
-                                        this.loopThrough(testPos, loops - 1);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+        int neighbours = horizontal ? 9 : 27;
+        int depth = 0;
+        this.stackPos[0] = start;
+        this.stackLoops[0] = this.maxLoops;
+        this.stackNeighbour[0] = 0;
+
+        while (depth >= 0) {
+            int i = this.stackNeighbour[depth]++;
+            if (i >= neighbours) {
+                depth--;
+                continue;
             }
-        }
-    }
 
-    private void loopThroughHorizontal(BlockPos pos, int loops) {
-        int yTest = pos.getY();
-        for (int x = -1; x <= 1; x++) {
-            int xTest = pos.getX() + x;
-            for (int z = -1; z <= 1; z++) {
-                if (!(x == 0 && z == 0)) {
-                    final BlockPos testPos = new BlockPos(xTest, yTest, pos.getZ() + z);
-                    if (!this.checked.contains(testPos)) {
-                        this.checked.add(testPos);
-                        if (this.isValidFrame(testPos)) {
-                            this.adjacentAirLocks.add(testPos);
-                            if (loops > 1) {
-                                this.loopThroughHorizontal(testPos, loops - 1);
-                            }
-                        }
-                    }
+            int x, y, z;
+            if (horizontal) {
+                x = i / 3 - 1;
+                y = 0;
+                z = i % 3 - 1;
+            } else {
+                x = i / 9 - 1;
+                z = i / 3 % 3 - 1;
+                y = i % 3 - 1;
+            }
+            if (x == 0 && y == 0 && z == 0) continue;
+
+            long pos = this.stackPos[depth];
+            int xTest = BlockPos.getX(pos) + x;
+            int yTest = BlockPos.getY(pos) + y;
+            int zTest = BlockPos.getZ(pos) + z;
+            if (!horizontal && xTest != xAligned && zTest != zAligned) continue;
+
+            long testPos = BlockPos.asLong(xTest, yTest, zTest);
+            if (this.checked.add(testPos) && this.isValidFrame(xTest, yTest, zTest)) {
+                this.adjacentAirLocks.add(testPos);
+                int loops = this.stackLoops[depth];
+                if (loops > 1) {
+                    depth++;
+                    this.stackPos[depth] = testPos;
+                    this.stackLoops[depth] = loops - 1;
+                    this.stackNeighbour[depth] = 0;
                 }
             }
         }
@@ -117,42 +145,25 @@ public int calculate(boolean horizontal) {
         this.minZ = 6000000;
         this.maxZ = -6000000;
 
-        this.adjacentAirLocks = new ArrayList<>();
+        this.adjacentAirLocks.clear();
         this.checked.clear();
-        final BlockPos headPos = this.head.getBlockPos();
+        final long headPos = this.head.getBlockPos().asLong();
         this.checked.add(headPos);
         this.adjacentAirLocks.add(headPos);
 
-        if (horizontal) {
-            this.loopThroughHorizontal(headPos, this.maxLoops);
-        } else {
-            this.loopThrough(headPos, this.maxLoops);
-        }
-
-        for (final BlockPos airLock : this.adjacentAirLocks) {
-            if (airLock.getX() < this.minX) {
-                this.minX = airLock.getX();
-            }
-
-            if (airLock.getX() > this.maxX) {
-                this.maxX = airLock.getX();
-            }
-
-            if (airLock.getY() < this.minY) {
-                this.minY = airLock.getY();
-            }
-
-            if (airLock.getY() > this.maxY) {
-                this.maxY = airLock.getY();
-            }
-
-            if (airLock.getZ() < this.minZ) {
-                this.minZ = airLock.getZ();
-            }
-
-            if (airLock.getZ() > this.maxZ) {
-                this.maxZ = airLock.getZ();
-            }
+        this.loopThrough(headPos, horizontal);
+
+        for (int i = 0; i < this.adjacentAirLocks.size(); i++) {
+            final long airLock = this.adjacentAirLocks.getLong(i);
+            final int x = BlockPos.getX(airLock);
+            final int y = BlockPos.getY(airLock);
+            final int z = BlockPos.getZ(airLock);
+            this.minX = Math.min(this.minX, x);
+            this.maxX = Math.max(this.maxX, x);
+            this.minY = Math.min(this.minY, y);
+            this.maxY = Math.max(this.maxY, y);
+            this.minZ = Math.min(this.minZ, z);
+            this.maxZ = Math.max(this.maxZ, z);
         }
 
         final int count = this.maxX - this.minX + this.maxZ - this.minZ + this.maxY - this.minY;
@@ -174,26 +185,26 @@ public int calculate(boolean horizontal) {
 
     private boolean incompleteFrame() {
         for (int y = this.minY + 1; y < this.maxY; y++) {
-            if (!this.isValidFrame(new BlockPos(this.minX, y, this.minZ))) {
+            if (!this.isValidFrame(this.minX, y, this.minZ)) {
                 return true;
-            } else if (!this.isValidFrame(new BlockPos(this.maxX, y, this.maxZ))) {
+            } else if (!this.isValidFrame(this.maxX, y, this.maxZ)) {
                 return true;
             }
         }
 
         if (this.minX < this.maxX) {
             for (int x = this.minX + 1; x < this.maxX; x++) {
-                if (!this.isValidFrame(new BlockPos(x, this.maxY, this.maxZ))) {
+                if (!this.isValidFrame(x, this.maxY, this.maxZ)) {
                     return true;
-                } else if (!this.isValidFrame(new BlockPos(x, this.minY, this.maxZ))) {
+                } else if (!this.isValidFrame(x, this.minY, this.maxZ)) {
                     return true;
                 }
             }
         } else if (this.minZ < this.maxZ) {
             for (int z = this.minZ + 1; z < this.maxZ; z++) {
-                if (!this.isValidFrame(new BlockPos(this.maxX, this.maxY, z))) {
+                if (!this.isValidFrame(this.maxX, this.maxY, z)) {
                     return true;
-                } else if (!this.isValidFrame(new BlockPos(this.maxX, this.minY, z))) {
+                } else if (!this.isValidFrame(this.maxX, this.minY, z)) {
                     return true;
                 }
             }
@@ -206,17 +217,17 @@ private boolean incompleteFrame() {
 
     private boolean incompleteFrameHorizontal() {
         for (int x = this.minX + 1; x < this.maxX; x++) {
-            if (!this.isValidFrame(new BlockPos(x, this.maxY, this.maxZ))) {
+            if (!this.isValidFrame(x, this.maxY, this.maxZ)) {
                 return true;
-            } else if (!this.isValidFrame(new BlockPos(x, this.minY, this.maxZ))) {
+            } else if (!this.isValidFrame(x, this.minY, this.maxZ)) {
                 return true;
             }
         }
 
         for (int z = this.minZ + 1; z < this.maxZ; z++) {
-            if (!this.isValidFrame(new BlockPos(this.maxX, this.maxY, z))) {
+            if (!this.isValidFrame(this.maxX, this.maxY, z)) {
                 return true;
-            } else if (!this.isValidFrame(new BlockPos(this.maxX, this.minY, z))) {
+            } else if (!this.isValidFrame(this.maxX, this.minY, z)) {
                 return true;
             }
         }
@@ -25,6 +25,7 @@
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.content.GCBlocks;
 import dev.galacticraft.mod.content.GCSounds;
+import dev.galacticraft.mod.machine.AirlockManager;
 import dev.galacticraft.mod.screen.AirlockControllerMenu;
 import dev.galacticraft.mod.util.Translations;
 import net.minecraft.core.BlockPos;
@@ -42,8 +43,9 @@
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.UUID;
 
 import static dev.galacticraft.mod.content.block.special.AirlockSealBlock.FACING;
 
@@ -52,7 +54,7 @@ public class AirlockControllerBlockEntity extends BlockEntity implements MenuPro
     public boolean playerDistanceActivation = true;
     public int playerDistanceSelection;
     public boolean playerNameMatches;
-    public String playerToOpenFor = "";
+    public @Nullable UUID playerToOpenFor = null;
     public boolean invertSelection;
     public boolean horizontalModeEnabled;
     public boolean lastHorizontalModeEnabled;
@@ -64,93 +66,157 @@ public class AirlockControllerBlockEntity extends BlockEntity implements MenuPro
     private int lastOtherAirLocks;
     private AirLockProtocol protocol;
     private AirLockProtocol lastProtocol;
-    public int ticks = 0;
+    private boolean frameDirty = true;
+    private boolean playerNearby;
+    private int triggerSelection = -1;
+    private boolean updateScheduled = true;
 
     public AirlockControllerBlockEntity(BlockPos blockPos, BlockState blockState) {
         super(GCBlockEntityTypes.AIRLOCK_CONTROLLER, blockPos, blockState);
     }
 
 
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        if (!level.isClientSide) {
+            level.galacticraft$getAirlockManager().addController(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (this.level != null && !this.level.isClientSide) {
+            this.level.galacticraft$getAirlockManager().removeController(this);
+        }
+    }
+
+    /**
+     * Returns the volume in which players activate this controller, or {@code null} if it does not react to players.
+     */
+    public @Nullable AABB getTriggerBox() {
+        if (!this.playerDistanceActivation) return null;
+        double distance = switch (this.playerDistanceSelection) {
+            case 0 -> 1.0D;
+            case 1 -> 2.0D;
+            case 2 -> 5.0D;
+            case 3 -> 10.0D;
+            default -> 0D;
+        };
+        return AABB.ofSize(Vec3.atCenterOf(this.getBlockPos()), distance * 2.0D, distance * 2.0D, distance * 2.0D);
+    }
+
+    /**
+     * Returns whether the given player can activate this controller.
+     */
+    public boolean opensFor(Player player) {
+        return !this.playerNameMatches || player.getUUID().equals(this.playerToOpenFor);
+    }
+
+    /**
+     * Called by the {@link AirlockManager} when a matching player enters or leaves the trigger volume.
+     */
+    public void setPlayerNearby(boolean playerNearby) {
+        if (this.playerNearby != playerNearby) {
+            this.playerNearby = playerNearby;
+            this.scheduleUpdate();
+        }
+    }
+
+    /**
+     * Returns whether a frame block change at the given position could affect this controller's frame.
+     */
+    public boolean isNearFrame(BlockPos pos) {
+        return this.protocol == null || this.protocol.isNearFrame(pos);
+    }
+
+    /**
+     * Forces the frame to be recalculated the next time it is needed.
+     */
+    public void markFrameDirty() {
+        this.frameDirty = true;
+        this.scheduleUpdate();
+    }
+
+    /**
+     * Makes the controller re-evaluate its state on the next tick.
+     * Must be called after anything that affects the controller changes, as it sleeps otherwise.
+     */
+    public void scheduleUpdate() {
+        this.updateScheduled = true;
+    }
+
     public static void tick(Level level, BlockPos blockPos, BlockState blockState, AirlockControllerBlockEntity blockEntity) {
         blockEntity.tick();
     }
 
     public void tick() {
-        ticks++;
-        if (!this.level.isClientSide()) {
-            this.active = false;
+        if (this.level.isClientSide() || !this.updateScheduled) {
+            return;
+        }
+        this.updateScheduled = false;
 
-            if (this.redstoneActivation) {
-                this.active = this.level.getBestNeighborSignal(this.getBlockPos()) > 0;
-            }
+        this.active = false;
 
-            if ((this.active || !this.redstoneActivation) && this.playerDistanceActivation) {
-                double distance = switch (this.playerDistanceSelection) {
-                    case 0 -> 1.0D;
-                    case 1 -> 2.0D;
-                    case 2 -> 5.0D;
-                    case 3 -> 10.0D;
-                    default -> 0D;
-                };
-
-                Vec3 minPos = new Vec3(getBlockPos().getX() + 0.5D - distance, getBlockPos().getY() + 0.5D - distance, getBlockPos().getZ() + 0.5D - distance);
-                Vec3 maxPos = new Vec3(getBlockPos().getX() + 0.5D + distance, getBlockPos().getY() + 0.5D + distance, getBlockPos().getZ() + 0.5D + distance);
-                AABB matchingRegion = new AABB(minPos.x, minPos.y, minPos.z, maxPos.x, maxPos.y, maxPos.z);
-                List<Player> playersWithin = this.level.getEntitiesOfClass(Player.class, matchingRegion);
-
-                if (this.playerNameMatches) {
-                    boolean foundPlayer = false;
-                    for (Player p : playersWithin) {
-                        if (p.getUUID().equals(this.playerToOpenFor)) {
-                            foundPlayer = true;
-                            break;
-                        }
-                    }
-                    this.active = foundPlayer;
-                } else {
-                    this.active = !playersWithin.isEmpty();
-                }
-            }
+        if (this.redstoneActivation) {
+            this.active = this.level.getBestNeighborSignal(this.getBlockPos()) > 0;
+        }
 
-            if (!this.invertSelection) {
-                this.active = !this.active;
+        if ((this.active || !this.redstoneActivation) && this.playerDistanceActivation) {
+            if (this.triggerSelection != this.playerDistanceSelection) {
+                this.triggerSelection = this.playerDistanceSelection;
+                this.level.galacticraft$getAirlockManager().setTrigger(this, this.getTriggerBox());
             }
+            this.active = this.playerNearby;
+        } else if (this.triggerSelection != -1) {
+            this.triggerSelection = -1;
+            this.level.galacticraft$getAirlockManager().setTrigger(this, null);
+        }
 
-            if (this.protocol == null) {
-                this.protocol = this.lastProtocol = new AirLockProtocol(this);
+        if (!this.invertSelection) {
+            this.active = !this.active;
+        }
+
+        if (this.protocol == null) {
+            this.protocol = this.lastProtocol = new AirLockProtocol(this);
+        }
+
+        if (this.horizontalModeEnabled != this.lastHorizontalModeEnabled) {
+            this.unsealAirLock();
+            this.frameDirty = true;
+            // the frame is searched and sealed in the new orientation on the next tick
+            this.scheduleUpdate();
+        } else if (this.active || this.lastActive) {
+            this.lastOtherAirLocks = this.otherAirLocks;
+            // the frame only needs to be searched again after a frame block near it changed
+            if (this.frameDirty) {
+                this.otherAirLocks = this.protocol.calculate(this.horizontalModeEnabled);
+                this.frameDirty = false;
             }
 
-            if (this.ticks % 5 == 0) {
-                if (this.horizontalModeEnabled != this.lastHorizontalModeEnabled) {
+            if (this.active) {
+                if (this.otherAirLocks != this.lastOtherAirLocks || !this.lastActive) {
                     this.unsealAirLock();
-                } else if (this.active || this.lastActive) {
-                    this.lastOtherAirLocks = this.otherAirLocks;
-                    this.otherAirLocks = this.protocol.calculate(this.horizontalModeEnabled);
-
-                    if (this.active) {
-                        if (this.otherAirLocks != this.lastOtherAirLocks || !this.lastActive) {
-                            this.unsealAirLock();
-                            if (this.otherAirLocks >= 0) {
-                                this.sealAirLock();
-                            }
-                        }
-                    } else {
-                        if (this.lastActive) {
-                            this.unsealAirLock();
-                        }
+                    if (this.otherAirLocks >= 0) {
+                        this.sealAirLock();
                     }
                 }
-
-                if (this.active != this.lastActive) {
-                    BlockState state = this.level.getBlockState(this.getBlockPos());
-                    this.level.sendBlockUpdated(this.getBlockPos(), state, state, 3);
+            } else {
+                if (this.lastActive) {
+                    this.unsealAirLock();
                 }
-
-                this.lastActive = this.active;
-                this.lastProtocol = this.protocol;
-                this.lastHorizontalModeEnabled = this.horizontalModeEnabled;
             }
         }
+
+        if (this.active != this.lastActive) {
+            BlockState state = this.level.getBlockState(this.getBlockPos());
+            this.level.sendBlockUpdated(this.getBlockPos(), state, state, 3);
+        }
+
+        this.lastActive = this.active;
+        this.lastProtocol = this.protocol;
+        this.lastHorizontalModeEnabled = this.horizontalModeEnabled;
     }
 
     private void sealAirLock() {
@@ -54,6 +54,7 @@ public abstract class AbstractSolarPanelBlockEntity extends MachineBlockEntity i
     public static final int CHARGE_SLOT = 0;
     protected final boolean[] blockage = new boolean[9];
     protected int blocked = 0;
+    private boolean skyDirty = true;
     private final EnergySource energySource = new EnergySource(this);
     public long currentEnergyGeneration = 0;
     private long dayLength = 24000;
@@ -70,6 +71,24 @@ public void setLevel(Level level) {
         if (holder != null) {
             this.dayLength = holder.value().dayLength();
         }
+        if (!level.isClientSide) {
+            level.galacticraft$getSolarPanelManager().addPanel(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (this.level != null && !this.level.isClientSide) {
+            this.level.galacticraft$getSolarPanelManager().removePanel(this);
+        }
+    }
+
+    /**
+     * Called by the {@link dev.galacticraft.mod.machine.SolarPanelManager} when the sky light around the panel changed.
+     */
+    public void markSkyDirty() {
+        this.skyDirty = true;
     }
 
     @Override
@@ -77,8 +96,21 @@ public void tickConstant(@NotNull ServerLevel level, @NotNull BlockPos pos, @Not
         profiler.push("charge");
         this.drainPowerToSlot(CHARGE_SLOT);
         profiler.popPush("blockage");
+        this.updateBlockage(level, pos);
+        profiler.pop();
+    }
+
+    /**
+     * Recomputes the blocked columns above the panel, but only after the light engine reported a sky light change
+     * in one of the chunk sections holding them.
+     * A column is blocked if it cannot see the sky, so see-through blocks such as glass do not block it.
+     */
+    protected void updateBlockage(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+        if (!this.skyDirty) return;
+        this.skyDirty = false;
+
         this.blocked = 0;
-        for (int x = -1; x < 2; x++) { //todo: cache?
+        for (int x = -1; x < 2; x++) {
             for (int z = -1; z < 2; z++) {
                 //noinspection AssignmentUsedAsCondition
                 if (this.blockage[(z + 1) * 3 + (x + 1)] = !level.canSeeSky(pos.offset(x, 2, z))) {
@@ -86,7 +118,6 @@ public void tickConstant(@NotNull ServerLevel level, @NotNull BlockPos pos, @Not
                 }
             }
         }
-        profiler.pop();
     }
 
     @Override
@@ -41,6 +41,7 @@
 import dev.galacticraft.mod.content.block.machine.CoalGeneratorBlock;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
 import dev.galacticraft.mod.screen.CoalGeneratorMenu;
+import dev.galacticraft.mod.util.OxygenExposureCache;
 import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.minecraft.Util;
@@ -102,6 +103,7 @@ public class CoalGeneratorBlockEntity extends MachineBlockEntity {
     private boolean lit = false;
     private boolean curr = false;
     private boolean prev = false;
+    private final OxygenExposureCache oxygenExposure = new OxygenExposureCache();
 
     /*
      * Energy stats:
@@ -195,8 +197,7 @@ public void updateActiveState(Level level, BlockPos pos, BlockState state, boole
     }
 
     private boolean shouldExtinguish(ServerLevel level, BlockPos pos, BlockState state) {
-        return !level.isBreathable(pos.relative(state.getValue(BlockStateProperties.HORIZONTAL_FACING)))
-                && !level.isBreathable(pos);
+        return this.oxygenExposure.shouldExtinguish(level, pos, state.getValue(BlockStateProperties.HORIZONTAL_FACING));
     }
 
     private MachineStatus consumeFuel(ServerLevel level, BlockPos pos, BlockState state) {
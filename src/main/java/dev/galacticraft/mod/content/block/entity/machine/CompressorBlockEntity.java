@@ -38,6 +38,7 @@
 import dev.galacticraft.mod.recipe.CompressingRecipe;
 import dev.galacticraft.mod.recipe.GCRecipes;
 import dev.galacticraft.mod.screen.CompressorMenu;
+import dev.galacticraft.mod.util.OxygenExposureCache;
 import net.fabricmc.fabric.api.registry.FuelRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
@@ -71,6 +72,7 @@ public class CompressorBlockEntity extends BasicRecipeMachineBlockEntity<Craftin
     private long fuelSlotModification = -1;
     private boolean hasFuel = false;
     private boolean lit = false;
+    private final OxygenExposureCache oxygenExposure = new OxygenExposureCache();
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.builder()
@@ -182,8 +184,7 @@ public void updateActiveState(Level level, BlockPos pos, BlockState state, boole
     }
 
     private boolean shouldExtinguish(Level level, BlockPos pos, BlockState state) {
-        return !level.isBreathable(pos.relative(state.getValue(BlockStateProperties.HORIZONTAL_FACING)))
-                && !level.isBreathable(pos);
+        return this.oxygenExposure.shouldExtinguish(level, pos, state.getValue(BlockStateProperties.HORIZONTAL_FACING));
     }
 
     @Override
@@ -42,6 +42,8 @@
 import dev.galacticraft.mod.screen.FoodCannerMenu;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -49,7 +51,10 @@
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.ItemContainerContents;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
@@ -58,6 +63,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static dev.galacticraft.mod.Constant.FoodCanner.*;
 import static dev.galacticraft.mod.content.item.GCItems.CANNED_FOOD;
@@ -77,7 +83,26 @@ public class FoodCannerBlockEntity extends MachineBlockEntity {
     private boolean ejectCan = false;
     private boolean hasCan = false;
     private boolean hadCan = false;
-    private boolean[] rowsConsumed = {false, false, false, false};
+    private int rowsConsumed = 0b0000;
+    private int rowsOccupied = 0b0000;
+    private long gridModifications = -1;
+    private int canFill = 0;
+    private long canModifications = -1;
+
+    /**
+     * Where the canner continues when it reaches the start of an empty row, indexed by row and then by the bitmask of
+     * rows consumed so far. {@code -1} keeps the current progress.
+     */
+    private static final int[][] EMPTY_ROW_NEXT = new int[4][1 << 4];
+
+    static {
+        for (int consumed = 0; consumed < 1 << 4; consumed++) {
+            EMPTY_ROW_NEXT[0][consumed] = START_ROW_2;
+            EMPTY_ROW_NEXT[1][consumed] = (consumed & 0b0001) != 0 ? SKIP_ROW_2 : START_ROW_4;
+            EMPTY_ROW_NEXT[2][consumed] = (consumed & 0b1000) != 0 ? SKIP_ROW_3 : (consumed & 0b0011) != 0 ? FINAL_PROGRESS : -1;
+            EMPTY_ROW_NEXT[3][consumed] = START_ROW_3;
+        }
+    }
 
     private static final StorageSpec SPEC = StorageSpec.of(
             newMachineStorageSpec(),
@@ -177,11 +202,7 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
         } else if (this.ejectCan) {
             this.ejectCan = false;
             if (!this.transferringCan && !this.transferringFood) {
-                ItemStack itemStack = this.currentCan();
-                if (ItemStack.isSameItemSameComponents(itemStack, CANNED_FOOD.getDefaultInstance())) {
-                    itemStack = EMPTY_CAN.getDefaultInstance();
-                }
-                if (!this.itemStorage().slot(OUTPUT_SLOT).canInsert(itemStack.getItem(), itemStack.getComponentsPatch(), 1)) {
+                if (!this.canOutputCan()) {
                     return MachineStatuses.OUTPUT_FULL;
                 }
                 this.transferringCan = true;
@@ -189,10 +210,7 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
                 return GCMachineStatuses.TRANSFERRING_CAN;
             }
         } else if (!this.transferringCan && !this.transferringFood) {
-            ItemResourceSlot storage = this.itemStorage().slot(STORAGE_SLOT);
-            ItemStack can = storage.getResource().getDefaultInstance();
-            can.applyComponents(storage.getComponents());
-            if (CannedFoodItem.isFull(can)) {
+            if (this.canFill() >= CannedFoodItem.MAX_FOOD) {
                 if (!this.outputSlotEmpty()) {
                     this.transferringCan = false;
                     this.reset(0);
@@ -219,26 +237,21 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
             } else if (this.getProgress() == MAX_PROGRESS) {
                 this.transferringCan = false;
                 this.reset(0);
-                ItemStack itemStack = this.currentCan();
-                if (ItemStack.isSameItemSameComponents(itemStack, CANNED_FOOD.getDefaultInstance())) {
-                    itemStack = EMPTY_CAN.getDefaultInstance();
-                }
-                if (!this.itemStorage().slot(OUTPUT_SLOT).canInsert(itemStack.getItem(), itemStack.getComponentsPatch(), 1)) {
+                if (!this.canOutputCan()) {
                     return MachineStatuses.OUTPUT_FULL;
                 }
-                this.itemStorage().slot(STORAGE_SLOT).extractOne();
-                this.itemStorage().slot(OUTPUT_SLOT).insert(itemStack.getItem(), itemStack.getComponentsPatch(), 1);
+                ItemResourceSlot storage = this.itemStorage().slot(STORAGE_SLOT);
+                Item can = this.isBlankCan() ? EMPTY_CAN : storage.getResource();
+                DataComponentPatch components = this.isBlankCan() ? DataComponentPatch.EMPTY : storage.getComponents();
+                storage.extractOne();
+                this.itemStorage().slot(OUTPUT_SLOT).insert(can, components, 1);
             }
 
             return GCMachineStatuses.TRANSFERRING_CAN;
         }
 
-        boolean[] nonEmptyRows = new boolean[4];
-        boolean empty = true;
-        for (int row = 0; row < 4; row++) {
-            nonEmptyRows[row] = !this.isRowEmpty(row);
-            empty &= !nonEmptyRows[row];
-        }
+        int occupied = this.occupiedRows();
+        boolean empty = occupied == 0;
 
         if (this.getProgress() == START_ROW_1) {
             this.transferringFood = !empty;
@@ -248,33 +261,16 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
             return GCMachineStatuses.NO_FOOD;
         }
 
+        // rows are visited in ROW_ORDER, so skipping an empty row can land on the start of the next one in the same tick
         for (int row : ROW_ORDER) {
             if (this.getProgress() == ROW_PROGRESS[row]) {
-                if (nonEmptyRows[row]) {
+                if ((occupied & (1 << row)) != 0) {
                     this.setRowConsumed(row, true);
                     return GCMachineStatuses.CANNING;
-                } else {
-                    switch (row) {
-                        case 0:
-                            this.setProgress(START_ROW_2);
-                            break;
-                        case 1:
-                            if (this.getFirstRowConsumed()) {
-                                this.setProgress(SKIP_ROW_2);
-                            } else {
-                                this.setProgress(START_ROW_4);
-                            }
-                            break;
-                        case 2:
-                            if (this.getFourthRowConsumed()) {
-                                this.setProgress(SKIP_ROW_3);
-                            } else if (this.getFirstRowConsumed() || this.getSecondRowConsumed()) {
-                                this.setProgress(FINAL_PROGRESS);
-                            }
-                            break;
-                        case 3:
-                            this.setProgress(START_ROW_3);
-                    }
+                }
+                int next = EMPTY_ROW_NEXT[row][this.rowsConsumed];
+                if (next != -1) {
+                    this.setProgress(next);
                 }
             }
         }
@@ -305,6 +301,68 @@ private boolean noEnergy() {
         return !this.energyStorage().canExtract(Galacticraft.CONFIG.foodCannerEnergyConsumptionRate());
     }
 
+    /**
+     * {@return whether the can in the storage slot is a canned food item without any contents or other components}
+     * Such cans leave the canner as empty cans.
+     */
+    private boolean isBlankCan() {
+        ItemResourceSlot storage = this.itemStorage().slot(STORAGE_SLOT);
+        return storage.getResource() == CANNED_FOOD && storage.getComponents().isEmpty();
+    }
+
+    private boolean canOutputCan() {
+        ItemResourceSlot storage = this.itemStorage().slot(STORAGE_SLOT);
+        if (storage.isEmpty()) {
+            return this.itemStorage().slot(OUTPUT_SLOT).canInsert(Items.AIR, DataComponentPatch.EMPTY, 1);
+        }
+        if (this.isBlankCan()) {
+            return this.itemStorage().slot(OUTPUT_SLOT).canInsert(EMPTY_CAN, DataComponentPatch.EMPTY, 1);
+        }
+        return this.itemStorage().slot(OUTPUT_SLOT).canInsert(storage.getResource(), storage.getComponents(), 1);
+    }
+
+    /**
+     * {@return the number of food items in the can in the storage slot} Read from the container component of the slot
+     * and only recomputed when the slot changes.
+     */
+    private int canFill() {
+        ItemResourceSlot storage = this.itemStorage().slot(STORAGE_SLOT);
+        if (storage.getModifications() != this.canModifications) {
+            this.canModifications = storage.getModifications();
+            this.canFill = storage.isEmpty() ? 0 : fillLevel(storage.getResource(), storage.getComponents());
+        }
+        return this.canFill;
+    }
+
+    private static int fillLevel(Item item, DataComponentPatch components) {
+        Optional<? extends ItemContainerContents> patched = components.get(DataComponents.CONTAINER);
+        ItemContainerContents contents = patched != null ? patched.orElse(null) : item.components().get(DataComponents.CONTAINER);
+        if (contents == null) return 0;
+        int size = 0;
+        for (ItemStack content : contents.nonEmptyItems()) {
+            size += content.getCount();
+        }
+        return size;
+    }
+
+    /**
+     * {@return a bitmask of the grid rows holding any food} Only rescanned after the item storage changes.
+     */
+    private int occupiedRows() {
+        long modifications = this.itemStorage().getModifications();
+        if (modifications != this.gridModifications) {
+            this.gridModifications = modifications;
+            int occupied = 0;
+            for (int row = 0; row < 4; row++) {
+                if (!this.isRowEmpty(row)) {
+                    occupied |= 1 << row;
+                }
+            }
+            this.rowsOccupied = occupied;
+        }
+        return this.rowsOccupied;
+    }
+
     private ItemStack currentCan() {
         ItemResourceSlot storage = this.itemStorage().slot(STORAGE_SLOT);
         if (storage.getResource() == null) return ItemStack.EMPTY;
@@ -385,9 +443,7 @@ public void setProgress(int progress) {
 
     public void reset(int progress) {
         this.setProgress(progress);
-        for (int row = 0; row < 4; row++) {
-            this.setRowConsumed(row, false);
-        }
+        this.rowsConsumed = 0b0000;
     }
 
     public void ejectCan() {
@@ -416,26 +472,30 @@ public void saveAdditional(CompoundTag tag, HolderLookup.Provider lookup) {
     }
 
     public boolean getRowConsumed(int row) {
-        return this.rowsConsumed[row];
+        return (this.rowsConsumed & (1 << row)) != 0;
     }
 
     public void setRowConsumed(int row, boolean value) {
-        this.rowsConsumed[row] = value;
+        if (value) {
+            this.rowsConsumed |= 1 << row;
+        } else {
+            this.rowsConsumed &= ~(1 << row);
+        }
     }
 
     public boolean getFirstRowConsumed() {
-        return this.rowsConsumed[0];
+        return this.getRowConsumed(0);
     }
 
     public boolean getSecondRowConsumed() {
-        return this.rowsConsumed[1];
+        return this.getRowConsumed(1);
     }
 
     public boolean getThirdRowConsumed() {
-        return this.rowsConsumed[2];
+        return this.getRowConsumed(2);
     }
 
     public boolean getFourthRowConsumed() {
-        return this.rowsConsumed[3];
+        return this.getRowConsumed(3);
     }
 }
\ No newline at end of file
@@ -45,6 +45,7 @@
 import dev.galacticraft.mod.content.block.special.launchpad.AbstractLaunchPad;
 import dev.galacticraft.mod.content.block.special.launchpad.LaunchPadBlockEntity;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.MachineSleep;
 import dev.galacticraft.mod.screen.FuelLoaderMenu;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -70,7 +71,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
-public class FuelLoaderBlockEntity extends MachineBlockEntity {
+public class FuelLoaderBlockEntity extends MachineBlockEntity implements LaunchPadBlockEntity.DockListener {
     public static final long TRANSFER_RATE = 500;
     public static final int CHARGE_SLOT = 0;
     public static final int FUEL_INPUT_SLOT = 1;
@@ -78,6 +79,10 @@ public class FuelLoaderBlockEntity extends MachineBlockEntity {
     public static final int NUM_BUCKETS = 50;
     public static final long MAX_FUEL = FluidUtil.bucketsToDroplets(NUM_BUCKETS);
     public static final int MAX_PROGRESS = 81 * 2;
+    /**
+     * How often an unresolved pad or docked rocket is looked up again, in ticks.
+     */
+    public static final int RELINK_INTERVAL = 20;
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.spec(
@@ -112,6 +117,9 @@ public class FuelLoaderBlockEntity extends MachineBlockEntity {
     private int amount = 0;
     private int progress = 0;
     public Dockable linkedRocket = null;
+    private @Nullable LaunchPadBlockEntity launchPad = null;
+    private int relinkCooldown = 0;
+    private final MachineSleep sleep = new MachineSleep();
     private List<Direction> check = new ArrayList<Direction>();
 
     public FuelLoaderBlockEntity(BlockPos pos, BlockState state) {
@@ -132,6 +140,10 @@ private void incrementProgress(boolean active) {
         }
     }
 
+    public @Nullable LaunchPadBlockEntity getLaunchPad() {
+        return this.launchPad;
+    }
+
     public int getProgress() {
         return this.progress;
     }
@@ -153,19 +165,24 @@ public void setChanged() {
 
     @Override
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
+        MachineStatus sleeping = this.sleep.sleepingStatus(this);
+        if (sleeping != null) return sleeping;
+
         if (this.fluidStorage().isEmpty()) {
-            this.incrementProgress(false);
-            return GCMachineStatuses.NOT_ENOUGH_FUEL;
+            return this.idle(GCMachineStatuses.NOT_ENOUGH_FUEL);
         }
 
         if (this.noEnergy()) {
-            this.incrementProgress(false);
-            return MachineStatuses.NOT_ENOUGH_ENERGY;
+            return this.idle(MachineStatuses.NOT_ENOUGH_ENERGY);
         }
 
         if (this.linkedRocket == null) {
+            return this.idle(GCMachineStatuses.NO_ROCKET);
+        }
+
+        if (this.linkedRocket.getFuelTankAmount() >= this.linkedRocket.getFuelTankCapacity()) {
             this.incrementProgress(false);
-            return GCMachineStatuses.NO_ROCKET;
+            return GCMachineStatuses.FUEL_TANK_FULL;
         }
 
         FluidResourceSlot slot = this.fluidStorage().slot(FUEL_TANK);
@@ -187,6 +204,21 @@ public void setChanged() {
         }
     }
 
+    /**
+     * Winds the progress down, and once it has reached zero sleeps until a storage changes or a rocket docks.
+     */
+    private MachineStatus idle(MachineStatus status) {
+        this.incrementProgress(false);
+        return this.progress == 0 ? this.sleep.sleep(this, status) : status;
+    }
+
+    private void setLinkedRocket(@Nullable Dockable rocket) {
+        if (rocket != this.linkedRocket) {
+            this.linkedRocket = rocket;
+            this.sleep.wake();
+        }
+    }
+
     @Override
     public void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         if (this.check.size() > 0) {
@@ -197,6 +229,9 @@ public void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @Not
                     if (this.level.getBlockState(launchPad).getBlock() instanceof AbstractLaunchPad
                             && this.level.getBlockState(launchPad).getValue(AbstractLaunchPad.PART) == AbstractLaunchPad.Part.CENTER
                             && this.level.getBlockEntity(launchPad) instanceof LaunchPadBlockEntity) {
+                        if (!launchPad.equals(this.connectionPos)) {
+                            this.unlink();
+                        }
                         this.connectionPos = launchPad;
                     }
                 }
@@ -204,16 +239,67 @@ public void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @Not
             this.check.clear();
         }
 
-        if (this.level.isLoaded(this.connectionPos) && this.level.getBlockEntity(this.connectionPos) instanceof LaunchPadBlockEntity launchPad) {
-            this.linkedRocket = launchPad.getDockedEntity();
-        } else {
-            this.linkedRocket = null;
+        // the pad pushes dock changes to us, so only an unresolved link needs to be looked up
+        if (this.linkedRocket != null && this.linkedRocket.asEntity().isRemoved()) {
+            this.setLinkedRocket(null);
+        }
+        if (this.linkedRocket == null && this.connectionPos != BlockPos.ZERO && --this.relinkCooldown <= 0) {
+            this.relinkCooldown = RELINK_INTERVAL;
+            this.link();
         }
 
         this.chargeFromSlot(CHARGE_SLOT);
         this.takeFluidFromSlot(FUEL_INPUT_SLOT, FUEL_TANK, GCFluids.FUEL);
     }
 
+    private void link() {
+        if (this.launchPad == null) {
+            if (!this.level.isLoaded(this.connectionPos)) return;
+            if (this.level.getBlockEntity(this.connectionPos) instanceof LaunchPadBlockEntity launchPad) {
+                this.launchPad = launchPad;
+                launchPad.addListener(this);
+            } else {
+                // the pad was broken while we were not listening
+                this.connectionPos = BlockPos.ZERO;
+                return;
+            }
+        }
+        if (this.launchPad.getDockedUUID() != null) {
+            this.setLinkedRocket(this.launchPad.getDockedEntity());
+        }
+    }
+
+    private void unlink() {
+        if (this.launchPad != null) {
+            this.launchPad.removeListener(this);
+            this.launchPad = null;
+        }
+        this.setLinkedRocket(null);
+        this.relinkCooldown = 0;
+    }
+
+    @Override
+    public void onDockChanged(LaunchPadBlockEntity pad, @Nullable Dockable docked) {
+        if (pad == this.launchPad) {
+            this.setLinkedRocket(docked);
+        }
+    }
+
+    @Override
+    public void onPadRemoved(LaunchPadBlockEntity pad) {
+        if (pad == this.launchPad) {
+            this.launchPad = null;
+            this.setLinkedRocket(null);
+            this.relinkCooldown = 0;
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        this.unlink();
+    }
+
     @Override
     public void tickDisabled(@NotNull ServerLevel world, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         this.incrementProgress(false);
@@ -233,10 +319,10 @@ protected void saveAdditional(CompoundTag tag, HolderLookup.Provider lookup) {
     public void loadAdditional(CompoundTag tag, HolderLookup.Provider lookup) {
         super.loadAdditional(tag, lookup);
 
-        if (tag.contains("connection_pos", Tag.TAG_LONG)) {
-            this.connectionPos = BlockPos.of(tag.getLong("connection_pos"));
-        } else {
-            this.connectionPos = BlockPos.ZERO;
+        BlockPos connectionPos = tag.contains("connection_pos", Tag.TAG_LONG) ? BlockPos.of(tag.getLong("connection_pos")) : BlockPos.ZERO;
+        if (!connectionPos.equals(this.connectionPos)) {
+            this.unlink();
+            this.connectionPos = connectionPos;
         }
         this.progress = tag.getInt("progress");
     }
@@ -40,6 +40,7 @@
 import dev.galacticraft.mod.Galacticraft;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.MachineSleep;
 import dev.galacticraft.mod.screen.GCMenuTypes;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
@@ -55,6 +56,7 @@
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 public class OxygenCompressorBlockEntity extends MachineBlockEntity {
     public static final int CHARGE_SLOT = 0;
@@ -88,10 +90,17 @@ public class OxygenCompressorBlockEntity extends MachineBlockEntity {
             )
     );
 
+    private final MachineSleep sleep = new MachineSleep();
+
     public OxygenCompressorBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.OXYGEN_COMPRESSOR, pos, state, SPEC);
     }
 
+    @VisibleForTesting
+    public boolean isAsleep() {
+        return this.sleep.isAsleep();
+    }
+
     @Override
     protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         super.tickConstant(world, pos, state, profiler);
@@ -100,17 +109,20 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
 
     @Override
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
+        MachineStatus sleeping = this.sleep.sleepingStatus(this);
+        if (sleeping != null) return sleeping;
+
         FluidResourceSlot oxygenStorage = this.fluidStorage().slot(OXYGEN_TANK);
-        if (oxygenStorage.isEmpty()) return GCMachineStatuses.NOT_ENOUGH_OXYGEN;
+        if (oxygenStorage.isEmpty()) return this.sleep.sleep(this, GCMachineStatuses.NOT_ENOUGH_OXYGEN);
         profiler.push("find_storage");
         Storage<FluidVariant> tank = this.itemStorage().slot(OXYGEN_OUTPUT_SLOT).find(FluidStorage.ITEM);
         profiler.pop();
-        if (tank == null) return GCMachineStatuses.MISSING_OXYGEN_TANK;
+        if (tank == null) return this.sleep.sleep(this, GCMachineStatuses.MISSING_OXYGEN_TANK);
         long space;
         try (Transaction transaction = Transaction.openOuter()) {
             space = tank.insert(FluidVariant.of(Gases.OXYGEN), Long.MAX_VALUE, transaction);
         }
-        if (!tank.supportsInsertion() || space == 0) return GCMachineStatuses.OXYGEN_TANK_FULL;
+        if (!tank.supportsInsertion() || space == 0) return this.sleep.sleep(this, GCMachineStatuses.OXYGEN_TANK_FULL);
 
         profiler.push("transaction");
         if (this.energyStorage().canExtract(Galacticraft.CONFIG.oxygenCompressorEnergyConsumptionRate())) {
@@ -125,11 +137,11 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
                 }
             } else {
                 profiler.pop();
-                return GCMachineStatuses.NOT_ENOUGH_OXYGEN;
+                return this.sleep.sleep(this, GCMachineStatuses.NOT_ENOUGH_OXYGEN);
             }
         } else {
             profiler.pop();
-            return MachineStatuses.NOT_ENOUGH_ENERGY;
+            return this.sleep.sleep(this, MachineStatuses.NOT_ENOUGH_ENERGY);
         }
     }
 
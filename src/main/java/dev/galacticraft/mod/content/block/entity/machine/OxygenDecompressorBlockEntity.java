@@ -42,6 +42,7 @@
 import dev.galacticraft.mod.Galacticraft;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.MachineSleep;
 import dev.galacticraft.mod.screen.GCMenuTypes;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
@@ -93,6 +94,8 @@ public class OxygenDecompressorBlockEntity extends MachineBlockEntity {
 
     private final FluidSource fluidSource = new FluidSource(this);
 
+    private final MachineSleep sleep = new MachineSleep();
+
     public OxygenDecompressorBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.OXYGEN_DECOMPRESSOR, pos, state, SPEC);
     }
@@ -105,13 +108,18 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
 
     @Override
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
+        MachineStatus sleeping = this.sleep.sleepingStatus(this);
+        if (sleeping != null) return sleeping;
+
         profiler.push("transfer");
         this.fluidSource.trySpreadFluids(level, pos, state);
         Storage<FluidVariant> tank = this.itemStorage().slot(OXYGEN_INPUT_SLOT).find(FluidStorage.ITEM);
         profiler.pop();
-        if (tank == null) return GCMachineStatuses.MISSING_OXYGEN_TANK;
+        // with oxygen of our own left there is still something to spread, so keep ticking
+        boolean idle = this.fluidStorage().slot(OXYGEN_TANK).isEmpty();
+        if (tank == null) return idle ? this.sleep.sleep(this, GCMachineStatuses.MISSING_OXYGEN_TANK) : GCMachineStatuses.MISSING_OXYGEN_TANK;
         if (StorageUtil.simulateExtract(tank, FluidVariant.of(Gases.OXYGEN), Long.MAX_VALUE, null) == 0) {
-            return GCMachineStatuses.EMPTY_OXYGEN_TANK;
+            return idle ? this.sleep.sleep(this, GCMachineStatuses.EMPTY_OXYGEN_TANK) : GCMachineStatuses.EMPTY_OXYGEN_TANK;
         }
         profiler.push("transaction");
 
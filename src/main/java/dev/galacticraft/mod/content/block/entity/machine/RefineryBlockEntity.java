@@ -40,11 +40,15 @@
 import dev.galacticraft.mod.Galacticraft;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.content.GCFluids;
+import dev.galacticraft.mod.machine.FluidConversionBatch;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.MachineSleep;
 import dev.galacticraft.mod.screen.GCMenuTypes;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.player.Inventory;
@@ -64,6 +68,11 @@ public class RefineryBlockEntity extends MachineBlockEntity {
 
     @VisibleForTesting
     public static final long MAX_CAPACITY = FluidUtil.bucketsToDroplets(8);
+    public static final long FUEL_PER_TICK = FluidConstants.BUCKET / 20 / 5;
+    /**
+     * How many ticks of refining are collected before the oil and fuel tanks are actually updated.
+     */
+    public static final int BATCH_TICKS = 20;
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.spec(
@@ -102,6 +111,10 @@ public class RefineryBlockEntity extends MachineBlockEntity {
 
     private final FluidSource fluidSource = new FluidSource(this);
 
+    private final MachineSleep sleep = new MachineSleep();
+
+    private final FluidConversionBatch batch = new FluidConversionBatch(GCFluids.CRUDE_OIL, GCFluids.FUEL, BATCH_TICKS);
+
     public RefineryBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.REFINERY, pos, state, SPEC);
     }
@@ -117,30 +130,72 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
 
     @Override
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
-        profiler.push("transfer");
-        this.fluidSource.trySpreadFluids(level, pos, state);
+        MachineStatus sleeping = this.sleep.sleepingStatus(this);
+        if (sleeping != null) return sleeping;
 
         FluidResourceSlot oilTank = this.fluidStorage().slot(OIL_TANK);
-        if (oilTank.isEmpty()) return GCMachineStatuses.MISSING_OIL;
         FluidResourceSlot fuelTank = this.fluidStorage().slot(FUEL_TANK);
-        if (fuelTank.isFull()) return GCMachineStatuses.FUEL_TANK_FULL;
-        profiler.popPush("transaction");
+
+        profiler.push("transaction");
         try {
-            if (this.energyStorage().canExtract(Galacticraft.CONFIG.refineryEnergyConsumptionRate())) {
-                long space = fuelTank.tryInsert(GCFluids.FUEL, FluidConstants.BUCKET / 20 / 5);
-                if (space > 0) {
-                    this.energyStorage().extract(Galacticraft.CONFIG.refineryEnergyConsumptionRate());
-                    fuelTank.insert(GCFluids.FUEL, oilTank.extract(GCFluids.CRUDE_OIL, space));
-                }
-                return GCMachineStatuses.REFINING;
-            } else {
-                return MachineStatuses.NOT_ENOUGH_ENERGY;
+            FluidConversionBatch.Result result = this.batch.tick(oilTank, fuelTank, FUEL_PER_TICK, this::drawEnergy,
+                    () -> this.fluidSource.trySpreadFluids(level, pos, state));
+            MachineStatus status = switch (result) {
+                case CONVERTED -> GCMachineStatuses.REFINING;
+                case MISSING_INPUT -> GCMachineStatuses.MISSING_OIL;
+                case OUTPUT_FULL -> GCMachineStatuses.FUEL_TANK_FULL;
+                case NOT_ENOUGH_POWER -> MachineStatuses.NOT_ENOUGH_ENERGY;
+            };
+
+            // with fuel left there is still something to spread, so keep ticking
+            if (fuelTank.isEmpty() && (status == GCMachineStatuses.MISSING_OIL || status == MachineStatuses.NOT_ENOUGH_ENERGY)) {
+                return this.sleep.sleep(this, status);
             }
+            return status;
         } finally {
             profiler.pop();
         }
     }
 
+    /**
+     * Draws the energy for one tick of refining.
+     * Energy is still drawn every tick so that the buffer wires see stays the same as without batching.
+     */
+    private boolean drawEnergy() {
+        if (!this.energyStorage().canExtract(Galacticraft.CONFIG.refineryEnergyConsumptionRate())) {
+            return false;
+        }
+        this.energyStorage().extract(Galacticraft.CONFIG.refineryEnergyConsumptionRate());
+        return true;
+    }
+
+    /**
+     * Sets how many ticks of refining are collected before the fluids are moved. {@code 1} moves them every tick.
+     */
+    @VisibleForTesting
+    public void setBatchTicks(int batchTicks) {
+        this.batch.flush(this.fluidStorage().slot(OIL_TANK), this.fluidStorage().slot(FUEL_TANK));
+        this.batch.setTicks(batchTicks);
+    }
+
+    @VisibleForTesting
+    public boolean isAsleep() {
+        return this.sleep.isAsleep();
+    }
+
+    @Override
+    public void loadAdditional(CompoundTag tag, HolderLookup.Provider lookup) {
+        super.loadAdditional(tag, lookup);
+        this.batch.restore(tag.getLong(Constant.Nbt.PENDING_FUEL), tag.getInt(Constant.Nbt.BATCH_PROGRESS));
+    }
+
+    @Override
+    protected void saveAdditional(CompoundTag tag, HolderLookup.Provider lookup) {
+        super.saveAdditional(tag, lookup);
+        tag.putLong(Constant.Nbt.PENDING_FUEL, this.batch.getPending());
+        tag.putInt(Constant.Nbt.BATCH_PROGRESS, this.batch.getProgress());
+    }
+
     @Nullable
     @Override
     public MachineMenu<? extends MachineBlockEntity> createMenu(int syncId, Inventory inv, Player player) {
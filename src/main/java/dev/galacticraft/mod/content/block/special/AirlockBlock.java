@@ -32,6 +32,7 @@
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityTicker;
@@ -60,6 +61,14 @@ public BlockEntity newBlockEntity(BlockPos blockPos, BlockState blockState) {
         return null;
     }
 
+    @Override
+    protected void onPlace(BlockState blockState, Level level, BlockPos blockPos, BlockState oldState, boolean moved) {
+        super.onPlace(blockState, level, blockPos, oldState, moved);
+        if (!level.isClientSide && !(oldState.getBlock() instanceof AirlockBlock)) {
+            level.galacticraft$getAirlockManager().onFrameChanged(blockPos);
+        }
+    }
+
     @Override
     public void onRemove(BlockState blockState, Level level, BlockPos blockPos, BlockState newState, boolean moved) {
         if (this.controller) {
@@ -69,6 +78,18 @@ public void onRemove(BlockState blockState, Level level, BlockPos blockPos, Bloc
             }
         }
         super.onRemove(blockState, level, blockPos, newState, moved);
+        if (!level.isClientSide && !(newState.getBlock() instanceof AirlockBlock)) {
+            level.galacticraft$getAirlockManager().onFrameChanged(blockPos);
+        }
+    }
+
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos neighborPos, boolean notify) {
+        super.neighborChanged(state, level, pos, block, neighborPos, notify);
+        // the redstone signal may have changed
+        if (this.controller && !level.isClientSide && level.getBlockEntity(pos) instanceof AirlockControllerBlockEntity airlockController) {
+            airlockController.scheduleUpdate();
+        }
     }
 
     @Override
@@ -26,6 +26,7 @@
 import dev.galacticraft.mod.api.block.entity.FuelDock;
 import dev.galacticraft.mod.api.entity.Dockable;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -37,6 +38,7 @@
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.IntFunction;
 
@@ -44,6 +46,7 @@ public class LaunchPadBlockEntity extends BlockEntity implements FuelDock {
     private UUID entityUUID = null;
     private @Nullable Dockable docked;
     private Type type;
+    private final List<DockListener> listeners = new ReferenceArrayList<>();
 
     public LaunchPadBlockEntity(BlockPos pos, BlockState state, Type type) {
         super(GCBlockEntityTypes.LAUNCH_PAD, pos, state);
@@ -55,6 +58,7 @@ public LaunchPadBlockEntity(BlockPos pos, BlockState state) {
     }
 
     public void setDockedEntity(@Nullable Dockable dockable) {
+        Dockable previous = this.docked;
         if (dockable == null) {
             this.entityUUID = null;
             this.docked = null;
@@ -62,6 +66,41 @@ public void setDockedEntity(@Nullable Dockable dockable) {
             this.entityUUID = dockable.asEntity().getUUID();
             this.docked = dockable;
         }
+        if (previous != this.docked) {
+            this.fireDockChanged();
+        }
+    }
+
+    /**
+     * Subscribes a listener to dock changes of this pad until it is removed or the pad is unloaded.
+     */
+    public void addListener(DockListener listener) {
+        if (!this.listeners.contains(listener)) {
+            this.listeners.add(listener);
+        }
+    }
+
+    public void removeListener(DockListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    private void fireDockChanged() {
+        for (int i = this.listeners.size() - 1; i >= 0; i--) {
+            this.listeners.get(i).onDockChanged(this, this.docked);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        // covers both the pad being broken and its chunk unloading
+        if (!this.listeners.isEmpty()) {
+            DockListener[] listeners = this.listeners.toArray(new DockListener[0]);
+            this.listeners.clear();
+            for (DockListener listener : listeners) {
+                listener.onPadRemoved(this);
+            }
+        }
     }
 
     @Override
@@ -71,8 +110,13 @@ public BlockPos getDockPos() {
 
     public Dockable getDockedEntity() {
         if (this.entityUUID != null) {
-            if (this.docked == null && this.level instanceof ServerLevel) {
-                this.docked = (Dockable) ((ServerLevel) this.level).getEntity(this.entityUUID);
+            if ((this.docked == null || this.docked.asEntity().isRemoved()) && this.level instanceof ServerLevel level) {
+                // the docked entity may load after the pad, or unload before it
+                Dockable previous = this.docked;
+                this.docked = level.getEntity(this.entityUUID) instanceof Dockable dockable ? dockable : null;
+                if (previous != this.docked) {
+                    this.fireDockChanged();
+                }
             }
         } else {
             this.docked = null;
@@ -124,6 +168,15 @@ public Type getPadType() {
         return this.type;
     }
 
+    /**
+     * Receives dock and undock events from a launch pad, so that neighbours do not have to poll it.
+     */
+    public interface DockListener {
+        void onDockChanged(LaunchPadBlockEntity pad, @Nullable Dockable docked);
+
+        void onPadRemoved(LaunchPadBlockEntity pad);
+    }
+
     public enum Type implements StringRepresentable {
         ROCKET(0, "rocket"),
         FUEL(1, "fuel");
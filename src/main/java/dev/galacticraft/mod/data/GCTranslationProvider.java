@@ -903,6 +903,13 @@ protected void generateChatTranslations() {
         this.add(GcHouston.IN_OVERWORLD, "I don't need to be rescued!");
         this.add(GcHouston.SUCCESS, "You have been rescued. Better luck next time...");
 
+        this.add(Profile.STARTED, "Started profiling Galacticraft");
+        this.add(Profile.STOPPED, "Stopped profiling Galacticraft after %s seconds");
+        this.add(Profile.DUMPED, "Wrote Galacticraft profile to %s");
+        this.add(Profile.ALREADY_RUNNING, "Galacticraft profiling is already running");
+        this.add(Profile.NOT_RUNNING, "Galacticraft profiling is not running");
+        this.add(Profile.DUMP_FAILED, "Could not write the Galacticraft profile: %s");
+
         this.deathBy(GCDamageTypes.CRASH_LANDING, "%s came in too hot");
         this.deathBy(GCDamageTypes.METEOR_STRIKE, "%s was struck by a meteor",
                 "%s was struck by a meteor hurled by %s");
@@ -35,7 +35,6 @@
 import dev.galacticraft.mod.client.render.dimension.SatelliteSkyRenderer;
 import dev.galacticraft.mod.client.sounds.RocketSound;
 import dev.galacticraft.mod.content.entity.vehicle.RocketEntity;
-import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientWorldEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.DimensionRenderingRegistry;
@@ -78,9 +77,6 @@ public static void clientTick(Minecraft client) {
     }
 
     public static void tickFootprints(ClientLevel level) {
-        FootprintManager footprintManager = level.galacticraft$getFootprintManager();
-        footprintManager.getFootprints().forEach((packedPos, footprints) -> {
-            footprintManager.tick(level, packedPos);
-        });
+        level.galacticraft$getFootprintManager().tickAll(level);
     }
 }
\ No newline at end of file
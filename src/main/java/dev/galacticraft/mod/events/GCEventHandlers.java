@@ -29,23 +29,23 @@
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.CelestialTeleporter;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.Galacticraft;
-import dev.galacticraft.mod.content.GCCelestialBodies;
 import dev.galacticraft.mod.content.GCEntityTypes;
 import dev.galacticraft.mod.content.entity.FallingMeteorEntity;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import dev.galacticraft.mod.misc.meteor.MeteorScheduler;
+import dev.galacticraft.mod.misc.profiling.GCProfiler;
 import dev.galacticraft.mod.network.s2c.FootprintRemovedPacket;
 import dev.galacticraft.mod.util.Translations;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
-import net.minecraft.core.Holder;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -54,11 +54,14 @@
 import net.minecraft.world.level.block.state.BlockState;
 
 public class GCEventHandlers {
+    private static final MeteorScheduler<ServerLevel, ServerPlayer> METEORS = new MeteorScheduler<>();
+
     public static void init() {
         GCSleepEventHandlers.init();
         GCInteractionEventHandlers.init();
         ServerTickEvents.END_WORLD_TICK.register(GCEventHandlers::onWorldTick);
         ServerTickEvents.END_SERVER_TICK.register(GCEventHandlers::onServerTick);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> METEORS.clear());
     }
 
     public static void onPlayerChangePlanets(MinecraftServer server, ServerPlayer player, CelestialBody<?, ?> body, CelestialBody<?, ?> fromBody) {
@@ -71,8 +74,11 @@ public static void onPlayerChangePlanets(MinecraftServer server, ServerPlayer pl
     }
 
     public static void onWorldTick(ServerLevel level) {
+        GCProfiler.push(level, "world_tick");
+        GCProfiler.push(level, "footprints");
         FootprintManager footprintManager = level.galacticraft$getFootprintManager();
         if (!footprintManager.footprintBlockChanges.isEmpty()) {
+            GCProfiler.count(level, "block_changes", footprintManager.footprintBlockChanges.size());
             for (GlobalPos targetPoint : footprintManager.footprintBlockChanges) {
                 if (level.dimension().location().equals(targetPoint.dimension().location())) {
                     long packedPos = ChunkPos.asLong(targetPoint.pos());
@@ -84,39 +90,20 @@ public static void onWorldTick(ServerLevel level) {
 
             footprintManager.footprintBlockChanges.clear();
         }
+        GCProfiler.pop();
         level.galacticraft$getSealerManager().tick();
+        GCProfiler.pop();
     }
 
     public static void onServerTick(MinecraftServer server) {
         // throw meteors around players
-        PlayerLookup.all(server).forEach(player -> {
-            ServerLevel level = player.serverLevel();
-            Holder<CelestialBody<?, ?>> celestialBody = level.galacticraft$getCelestialBody();
-            if (celestialBody == null || celestialBody.is(GCCelestialBodies.EARTH)) return;
-
-            // calculate frequency of meteors on current celestial body
-            float atmospherePressure = celestialBody.value().atmosphere().pressure();
-            float frequency = (atmospherePressure <= Mth.EPSILON) ? 5.0f : (atmospherePressure * 100.0f);
-            frequency /= Galacticraft.CONFIG.meteorSpawnMultiplier();
-
-            // throw meteor
-            int chance = Math.max(1, (int) (frequency * 750.0f));
-            if (level.random.nextInt(chance) == 0) {
-                throwMeteor(server, level, player, 1);
-            }
-
-            // throw bigger meteor if you're lucky enough
-            if (level.random.nextInt(chance * 3) == 0) {
-                throwMeteor(server, level, player, 6);
-            }
-        });
+        GCProfiler.push(null, "meteors");
+        METEORS.tick(new MeteorScheduler.ServerHost(server), Galacticraft.CONFIG.meteorSpawnMultiplier(), GCEventHandlers::throwMeteor);
+        GCProfiler.pop();
     }
 
-    private static void throwMeteor(MinecraftServer server, ServerLevel level, Player targetPlayer, int meteorSize) {
-        Player nearestPlayer = level.getNearestPlayer(targetPlayer, 100.0);
-        if (nearestPlayer == null || nearestPlayer.getId() > targetPlayer.getId()) return;
-
-        int maxOffset = server.getPlayerList().getViewDistance() * Constant.Chunk.WIDTH - 1;
+    private static void throwMeteor(ServerLevel level, Player targetPlayer, int meteorSize) {
+        int maxOffset = level.getServer().getPlayerList().getViewDistance() * Constant.Chunk.WIDTH - 1;
 
         int offsetX = Math.min(maxOffset, level.random.nextInt(20) + 160);
         int offsetZ = level.random.nextInt(20) - 10;
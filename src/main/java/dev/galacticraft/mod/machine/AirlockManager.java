@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.mod.content.block.entity.AirlockControllerBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the airlock controllers of a level.
+ * <p>
+ * A change to an airlock frame block only invalidates the controllers whose frame could be affected by it.
+ * Controllers register their player trigger volume with the chunk sections it overlaps, and players are looked up
+ * by the section they are in, so the cost of proximity detection depends on where players are and not on how many
+ * controllers exist.
+ */
+public class AirlockManager {
+    // player bounding boxes reach outside the section of their position, so trigger volumes are registered with some margin
+    private static final double SECTION_MARGIN = 2.0;
+
+    private final List<AirlockControllerBlockEntity> controllers = new ArrayList<>();
+    private final Long2ObjectMap<List<AirlockControllerBlockEntity>> triggerSections = new Long2ObjectOpenHashMap<>();
+    private final Reference2ObjectMap<AirlockControllerBlockEntity, AABB> triggers = new Reference2ObjectOpenHashMap<>();
+    private ReferenceOpenHashSet<AirlockControllerBlockEntity> occupied = new ReferenceOpenHashSet<>();
+    private ReferenceOpenHashSet<AirlockControllerBlockEntity> nowOccupied = new ReferenceOpenHashSet<>();
+
+    public void addController(AirlockControllerBlockEntity controller) {
+        if (!this.controllers.contains(controller)) {
+            this.controllers.add(controller);
+        }
+    }
+
+    public void removeController(AirlockControllerBlockEntity controller) {
+        this.controllers.remove(controller);
+        this.setTrigger(controller, null);
+    }
+
+    /**
+     * Called when an airlock frame or controller block is placed or removed.
+     *
+     * @param pos the position of the changed block
+     */
+    public void onFrameChanged(BlockPos pos) {
+        for (AirlockControllerBlockEntity controller : this.controllers) {
+            if (controller.isNearFrame(pos)) {
+                controller.markFrameDirty();
+            }
+        }
+    }
+
+    /**
+     * Sets the volume in which players activate the given controller.
+     *
+     * @param controller the controller
+     * @param trigger the trigger volume, or {@code null} if the controller does not react to players
+     */
+    public void setTrigger(AirlockControllerBlockEntity controller, @Nullable AABB trigger) {
+        AABB previous = trigger != null ? this.triggers.put(controller, trigger) : this.triggers.remove(controller);
+        if (previous != null) {
+            forEachSection(previous, section -> {
+                List<AirlockControllerBlockEntity> list = this.triggerSections.get(section);
+                if (list != null) {
+                    list.remove(controller);
+                    if (list.isEmpty()) this.triggerSections.remove(section);
+                }
+            });
+        }
+        if (trigger != null) {
+            forEachSection(trigger, section -> this.triggerSections.computeIfAbsent(section, s -> new ArrayList<>()).add(controller));
+        } else if (this.occupied.remove(controller)) {
+            controller.setPlayerNearby(false);
+        }
+    }
+
+    /**
+     * Updates which controllers have a player in their trigger volume.
+     * Called by the level every tick; controllers are only notified when their state changes, and sleep otherwise.
+     *
+     * @param level the level of this manager
+     */
+    public void updateProximity(Level level) {
+        if (this.triggers.isEmpty() && this.occupied.isEmpty()) return;
+
+        for (Player player : level.players()) {
+            if (player.isSpectator()) continue;
+            List<AirlockControllerBlockEntity> candidates = this.triggerSections.get(SectionPos.asLong(player.blockPosition()));
+            if (candidates == null) continue;
+
+            AABB box = player.getBoundingBox();
+            for (int i = 0; i < candidates.size(); i++) {
+                AirlockControllerBlockEntity controller = candidates.get(i);
+                if (!this.nowOccupied.contains(controller) && controller.opensFor(player) && this.triggers.get(controller).intersects(box)) {
+                    this.nowOccupied.add(controller);
+                }
+            }
+        }
+
+        for (AirlockControllerBlockEntity controller : this.occupied) {
+            if (!this.nowOccupied.contains(controller)) {
+                controller.setPlayerNearby(false);
+            }
+        }
+        for (AirlockControllerBlockEntity controller : this.nowOccupied) {
+            if (!this.occupied.contains(controller)) {
+                controller.setPlayerNearby(true);
+            }
+        }
+
+        ReferenceOpenHashSet<AirlockControllerBlockEntity> swap = this.occupied;
+        this.occupied = this.nowOccupied;
+        this.nowOccupied = swap;
+        this.nowOccupied.clear();
+    }
+
+    private static void forEachSection(AABB box, LongConsumer consumer) {
+        int minX = SectionPos.blockToSectionCoord(box.minX - SECTION_MARGIN);
+        int minY = SectionPos.blockToSectionCoord(box.minY - SECTION_MARGIN);
+        int minZ = SectionPos.blockToSectionCoord(box.minZ - SECTION_MARGIN);
+        int maxX = SectionPos.blockToSectionCoord(box.maxX + SECTION_MARGIN);
+        int maxY = SectionPos.blockToSectionCoord(box.maxY + SECTION_MARGIN);
+        int maxZ = SectionPos.blockToSectionCoord(box.maxZ + SECTION_MARGIN);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    consumer.accept(SectionPos.asLong(x, y, z));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.machinelib.api.storage.slot.FluidResourceSlot;
+import net.minecraft.world.level.material.Fluid;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Collects the fluid a machine converts from one tank into another over several ticks and moves it in one go,
+ * so that the tanks (and everything watching them) only change once per batch.
+ * <p>
+ * The machine runs {@link #tick(FluidResourceSlot, FluidResourceSlot, long, BooleanSupplier, Runnable)} once per tick,
+ * which sizes the conversion with {@link #remainingInput(FluidResourceSlot)} and {@link #remainingSpace(FluidResourceSlot)}
+ * (both already account for the pending amount) and moves the batch with
+ * {@link #flush(FluidResourceSlot, FluidResourceSlot)} once it {@link #isComplete() is complete}.
+ */
+public class FluidConversionBatch {
+    private final Fluid input;
+    private final Fluid output;
+    private int ticks;
+    private int progress = 0;
+    private long pending = 0;
+
+    public FluidConversionBatch(Fluid input, Fluid output, int ticks) {
+        this.input = input;
+        this.output = output;
+        this.ticks = ticks;
+    }
+
+    /**
+     * Runs one tick of conversion.
+     * A batch that no longer fits is settled first. The output is spread after a batch has landed, while none is
+     * pending, or once the output tank is at least half full. Then up to {@code perTick} is added to the batch,
+     * sized against the tank levels the pending batch will leave behind, and the batch is moved once it is complete
+     * or the conversion stops.
+     *
+     * @param power draws what the tick costs and returns whether there was enough; only called when there is input
+     *              to convert and space to put it in
+     * @param spread pushes the output tank's contents out to its neighbours
+     * @return what the tick did
+     */
+    public Result tick(FluidResourceSlot inputTank, FluidResourceSlot outputTank, long perTick, BooleanSupplier power, Runnable spread) {
+        // someone else took input out or put output in, so settle the batch against what is actually there
+        if (this.isInvalidated(inputTank, outputTank)) this.flush(inputTank, outputTank);
+        if (!outputTank.isEmpty() && (this.isEmpty() || outputTank.getAmount() >= outputTank.getCapacity() / 2)) {
+            spread.run();
+        }
+
+        Result result = this.convert(inputTank, outputTank, perTick, power);
+        if (result != Result.CONVERTED || this.isComplete()) this.flush(inputTank, outputTank);
+        return result;
+    }
+
+    private Result convert(FluidResourceSlot inputTank, FluidResourceSlot outputTank, long perTick, BooleanSupplier power) {
+        long input = this.remainingInput(inputTank);
+        long space = this.remainingSpace(outputTank);
+        if (input <= 0) return Result.MISSING_INPUT;
+        if (space <= 0) return Result.OUTPUT_FULL;
+        if (!power.getAsBoolean()) return Result.NOT_ENOUGH_POWER;
+
+        this.add(Math.min(input, Math.min(space, perTick)));
+        return Result.CONVERTED;
+    }
+
+    /**
+     * {@return the input left in the tank once the pending batch has been moved}
+     */
+    public long remainingInput(FluidResourceSlot inputTank) {
+        return inputTank.getAmount() - this.pending;
+    }
+
+    /**
+     * {@return the free space left in the tank once the pending batch has been moved}
+     */
+    public long remainingSpace(FluidResourceSlot outputTank) {
+        return outputTank.getCapacity() - outputTank.getAmount() - this.pending;
+    }
+
+    /**
+     * {@return whether input was taken out or output was put in by someone else, so that the pending batch no longer fits}
+     * Input added or output drained in the meantime leave the batch valid.
+     */
+    public boolean isInvalidated(FluidResourceSlot inputTank, FluidResourceSlot outputTank) {
+        return this.remainingInput(inputTank) < 0 || this.remainingSpace(outputTank) < 0;
+    }
+
+    public void add(long amount) {
+        this.pending += amount;
+        this.progress++;
+    }
+
+    /**
+     * Moves the pending amount from the input tank to the output tank, limited by what both tanks allow, and starts a new batch.
+     *
+     * @return whether any fluid was pending
+     */
+    public boolean flush(FluidResourceSlot inputTank, FluidResourceSlot outputTank) {
+        boolean moved = this.pending > 0;
+        if (moved) {
+            long amount = outputTank.tryInsert(this.output, this.pending);
+            outputTank.insert(this.output, inputTank.extract(this.input, amount));
+        }
+        this.pending = 0;
+        this.progress = 0;
+        return moved;
+    }
+
+    public boolean isComplete() {
+        return this.progress >= this.ticks;
+    }
+
+    public boolean isEmpty() {
+        return this.progress == 0;
+    }
+
+    public long getPending() {
+        return this.pending;
+    }
+
+    public int getProgress() {
+        return this.progress;
+    }
+
+    /**
+     * Restores a batch that was saved before the machine was unloaded.
+     */
+    public void restore(long pending, int progress) {
+        this.pending = pending;
+        this.progress = progress;
+    }
+
+    /**
+     * Sets how many ticks of conversion are collected before the fluids are moved. {@code 1} moves them every tick.
+     * Does not flush the current batch.
+     */
+    public void setTicks(int ticks) {
+        this.ticks = Math.max(1, ticks);
+    }
+
+    public enum Result {
+        CONVERTED,
+        MISSING_INPUT,
+        OUTPUT_FULL,
+        NOT_ENOUGH_POWER
+    }
+}
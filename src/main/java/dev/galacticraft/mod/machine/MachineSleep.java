@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
+import dev.galacticraft.machinelib.api.machine.MachineStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lets a machine skip the body of its tick while it reports a blocked status that cannot change until one of its
+ * storages does, e.g. a compressor without oxygen or a refinery without oil.
+ * <p>
+ * A machine puts itself to sleep with {@link #sleep(MachineBlockEntity, MachineStatus)} when returning such a status,
+ * and checks {@link #sleepingStatus(MachineBlockEntity)} at the start of its tick. The machine wakes up as soon as the
+ * modification count of its item, fluid or energy storage moves, or when something outside of its storages that the
+ * status depends on calls {@link #wake()}.
+ * Only statuses whose tick has no other side effects (spreading fluids, decaying progress) should be slept on.
+ */
+public class MachineSleep {
+    private @Nullable MachineStatus status = null;
+    private long itemModifications;
+    private long fluidModifications;
+    private long energyModifications;
+
+    /**
+     * {@return the status to keep reporting while asleep, or {@code null} if the machine should run its tick}
+     */
+    public @Nullable MachineStatus sleepingStatus(MachineBlockEntity machine) {
+        if (this.status != null
+                && machine.itemStorage().getModifications() == this.itemModifications
+                && machine.fluidStorage().getModifications() == this.fluidModifications
+                && machine.energyStorage().getModifications() == this.energyModifications) {
+            return this.status;
+        }
+        this.status = null;
+        return null;
+    }
+
+    public MachineStatus sleep(MachineBlockEntity machine, MachineStatus status) {
+        this.status = status;
+        this.itemModifications = machine.itemStorage().getModifications();
+        this.fluidModifications = machine.fluidStorage().getModifications();
+        this.energyModifications = machine.energyStorage().getModifications();
+        return status;
+    }
+
+    public void wake() {
+        this.status = null;
+    }
+
+    /**
+     * {@return whether the machine's last tick put it to sleep or was skipped while it was asleep}
+     */
+    public boolean isAsleep() {
+        return this.status != null;
+    }
+}
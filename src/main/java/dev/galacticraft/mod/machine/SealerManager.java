@@ -24,11 +24,14 @@
 
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
+import dev.galacticraft.mod.misc.profiling.GCProfiler;
 import dev.galacticraft.mod.tag.GCBlockTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.*;
 
@@ -36,21 +39,74 @@
 
 public class SealerManager {
 
-    private static class SpaceToSeal {
+    @VisibleForTesting
+    static class SpaceToSeal {
 
         private final List<OxygenSealerBlockEntity> sealers = new ArrayList<>();
         private final Set<BlockPos> blocksToSeal = new HashSet<>();
         private final Deque<BlockPos> floodFillQueue = new ArrayDeque<>();
 
         public SpaceToSeal(OxygenSealerBlockEntity sealer) {
+            this(sealer.getBlockPos().offset(0, 1, 0), sealer);
+        }
+
+        @VisibleForTesting
+        SpaceToSeal(BlockPos start, OxygenSealerBlockEntity sealer) {
             sealers.add(sealer);
-            floodFillQueue.add(sealer.getBlockPos().offset(0, 1, 0));
+            floodFillQueue.add(start);
         }
 
         public boolean willSealSucceed() {
             return floodFillQueue.isEmpty();
         }
 
+        @VisibleForTesting
+        int size() {
+            return blocksToSeal.size();
+        }
+
+        /**
+         * Flood fills outwards from the queued positions until the space is closed off, has merged with a space that
+         * already sealed, or has grown past what its sealers can fill.
+         *
+         * @param level the blocks to fill through
+         * @param spacesToSeal the spaces filled so far, which this space merges with when it runs into one of them
+         */
+        @VisibleForTesting
+        void floodFill(BlockGetter level, Set<SpaceToSeal> spacesToSeal) {
+            while (!floodFillQueue.isEmpty()) {
+                BlockPos pos = floodFillQueue.pollFirst();
+                if (blocksToSeal.contains(pos)) continue;
+                // TODO: Better check to account for non-full blocks
+                BlockState blockState = level.getBlockState(pos);
+                if (blockState.is(GCBlockTags.SEALABLE)) continue;
+                if (blockState.isCollisionShapeFullBlock(level, pos) && !blockState.is(GCBlockTags.UNSEALABLE)) continue;
+
+                blocksToSeal.add(pos);
+                for (Direction direction : Direction.values()) floodFillQueue.add(pos.relative(direction));
+
+                boolean willAlreadySeal = false;
+                for (SpaceToSeal otherSpace : spacesToSeal) {
+                    if (this == otherSpace) continue;
+                    if (!otherSpace.blocksToSeal.contains(pos)) continue;
+                    // We have encountered a block that another sealer is trying to seal,
+                    // so both sealers must be within the same space, so we combine them.
+                    sealers.addAll(otherSpace.sealers);
+                    blocksToSeal.addAll(otherSpace.blocksToSeal);
+                    floodFillQueue.addAll(otherSpace.floodFillQueue);
+                    willAlreadySeal = otherSpace.willSealSucceed();
+                    spacesToSeal.remove(otherSpace);
+                    break;
+                }
+                // If we just combined with a space that was already filled,
+                // we must be in the same space, so we don't need to continue flood fill
+                if (willAlreadySeal) break;
+
+                // If the space has become too large to fill, stop performing flood fill
+                if (blocksToSeal.size() > sealers.size() * MAX_SEALER_VOLUME) break;
+            }
+        }
+
     }
 
     private final Level level;
@@ -67,7 +123,11 @@ public SealerManager(Level level) {
     public void tick() {
         // Update sealing status periodically
         if (this.level.getGameTime() % SEAL_CHECK_TIME == 0) {
+            GCProfiler.push(this.level, "sealers");
             updateSealedBlocks();
+            GCProfiler.count(this.level, "sealers", this.sealers.size());
+            GCProfiler.count(this.level, "sealed_blocks", this.sealedBlocks.size());
+            GCProfiler.pop();
         }
     }
 
@@ -86,57 +146,38 @@ public void updateSealedBlocks() {
         for (BlockPos pos : sealedBlocks) level.setBreathable(pos, false);
         sealedBlocks.clear();
 
+        Set<SpaceToSeal> spacesToSeal = findSpacesToSeal(this.level, this.sealers.values());
+        for (SpaceToSeal spaceToSeal : spacesToSeal) {
+            for (OxygenSealerBlockEntity sealer : spaceToSeal.sealers) sealer.setSealed(spaceToSeal.willSealSucceed());
+            if (!spaceToSeal.willSealSucceed()) continue;
+            for (BlockPos pos : spaceToSeal.blocksToSeal) {
+                sealedBlocks.add(pos);
+                level.setBreathable(pos, true);
+            }
+        }
+    }
+
+    /**
+     * Flood fills from every working sealer, merging the spaces that run into each other.
+     *
+     * @param level the level to fill in
+     * @param sealers the sealers to fill from
+     * @return the spaces the sealers are trying to seal
+     */
+    @VisibleForTesting
+    static Set<SpaceToSeal> findSpacesToSeal(BlockGetter level, Iterable<OxygenSealerBlockEntity> sealers) {
         Set<SpaceToSeal> spacesToSeal = new HashSet<>();
-        for (Map.Entry<BlockPos, OxygenSealerBlockEntity> entry : this.sealers.entrySet()) {
-            OxygenSealerBlockEntity sealer = entry.getValue();
+        for (OxygenSealerBlockEntity sealer : sealers) {
             if (!sealer.hasEnergy()) continue;
             if (!sealer.hasOxygen()) continue;
             if (sealer.isBlocked()) continue;
 
             // Flood fill to find all blocks this sealer is trying to seal
             SpaceToSeal spaceToSeal = new SpaceToSeal(sealer);
-            while (!spaceToSeal.floodFillQueue.isEmpty()) {
-                BlockPos pos = spaceToSeal.floodFillQueue.pollFirst();
-                if (spaceToSeal.blocksToSeal.contains(pos)) continue;
-                // TODO: Better check to account for non-full blocks
-                BlockState blockState = this.level.getBlockState(pos);
-                if (blockState.is(GCBlockTags.SEALABLE)) continue;
-                if (blockState.isCollisionShapeFullBlock(this.level, pos) && !blockState.is(GCBlockTags.UNSEALABLE)) continue;
-
-                spaceToSeal.blocksToSeal.add(pos);
-                for (Direction direction : Direction.values()) spaceToSeal.floodFillQueue.add(pos.relative(direction));
-
-                boolean willAlreadySeal = false;
-                for (SpaceToSeal otherSpace : spacesToSeal) {
-                    if (spaceToSeal == otherSpace) continue;
-                    if (!otherSpace.blocksToSeal.contains(pos)) continue;
-                    // We have encountered a block that another sealer is trying to seal,
-                    // so both sealers must be within the same space, so we combine them.
-                    spaceToSeal.sealers.addAll(otherSpace.sealers);
-                    spaceToSeal.blocksToSeal.addAll(otherSpace.blocksToSeal);
-                    spaceToSeal.floodFillQueue.addAll(otherSpace.floodFillQueue);
-                    willAlreadySeal = otherSpace.willSealSucceed();
-                    spacesToSeal.remove(otherSpace);
-                    break;
-                }
-                // If we just combined with a space that was already filled,
-                // we must be in the same space, so we don't need to continue flood fill
-                if (willAlreadySeal) break;
-
-                // If the space has become too large to fill, stop performing flood fill
-                if (spaceToSeal.blocksToSeal.size() > spaceToSeal.sealers.size() * MAX_SEALER_VOLUME) break;
-            }
+            spaceToSeal.floodFill(level, spacesToSeal);
             spacesToSeal.add(spaceToSeal);
         }
-
-        for (SpaceToSeal spaceToSeal : spacesToSeal) {
-            for (OxygenSealerBlockEntity sealer : spaceToSeal.sealers) sealer.setSealed(spaceToSeal.willSealSucceed());
-            if (!spaceToSeal.willSealSucceed()) continue;
-            for (BlockPos pos : spaceToSeal.blocksToSeal) {
-                sealedBlocks.add(pos);
-                level.setBreathable(pos, true);
-            }
-        }
+        return spacesToSeal;
     }
 
     public void addSealer(OxygenSealerBlockEntity sealer) {
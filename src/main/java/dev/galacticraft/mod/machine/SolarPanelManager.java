@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.mod.content.block.entity.machine.AbstractSolarPanelBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the solar panels of a level by the chunk sections that hold the columns they check for sky access.
+ * <p>
+ * Sky light is updated by the light engine some time after the block change that caused it. Instead of polling,
+ * panels are told to re-check their columns when the light engine reports a sky light change in one of those sections.
+ */
+public class SolarPanelManager {
+    private final Long2ObjectMap<List<AbstractSolarPanelBlockEntity>> sections = new Long2ObjectOpenHashMap<>();
+
+    public void addPanel(AbstractSolarPanelBlockEntity panel) {
+        forEachSection(panel.getBlockPos(), section -> {
+            List<AbstractSolarPanelBlockEntity> list = this.sections.computeIfAbsent(section, s -> new ArrayList<>());
+            if (!list.contains(panel)) list.add(panel);
+        });
+    }
+
+    public void removePanel(AbstractSolarPanelBlockEntity panel) {
+        forEachSection(panel.getBlockPos(), section -> {
+            List<AbstractSolarPanelBlockEntity> list = this.sections.get(section);
+            if (list != null) {
+                list.remove(panel);
+                if (list.isEmpty()) this.sections.remove(section);
+            }
+        });
+    }
+
+    /**
+     * Called on the server thread after the light engine changed the sky light of a chunk section.
+     *
+     * @param section the packed position of the changed section
+     */
+    public void onSkyLightChanged(long section) {
+        List<AbstractSolarPanelBlockEntity> panels = this.sections.get(section);
+        if (panels != null) {
+            for (int i = 0; i < panels.size(); i++) {
+                panels.get(i).markSkyDirty();
+            }
+        }
+    }
+
+    private static void forEachSection(BlockPos pos, LongConsumer consumer) {
+        // panels check the 3x3 columns two blocks above themselves
+        int y = SectionPos.blockToSectionCoord(pos.getY() + 2);
+        int minX = SectionPos.blockToSectionCoord(pos.getX() - 1);
+        int minZ = SectionPos.blockToSectionCoord(pos.getZ() - 1);
+        int maxX = SectionPos.blockToSectionCoord(pos.getX() + 1);
+        int maxZ = SectionPos.blockToSectionCoord(pos.getZ() + 1);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                consumer.accept(SectionPos.asLong(x, y, z));
+            }
+        }
+    }
+}
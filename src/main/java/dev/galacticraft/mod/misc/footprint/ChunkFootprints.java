@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.footprint;
+
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Struct-of-arrays storage for the footprints of a single chunk.
+ * Footprints are kept in insertion order in a ring buffer, so the earliest added footprint is always at the head.
+ * Ages are stored as given, so a footprint synced from the server may be older than one added before it.
+ * Positions are stored as offsets from the chunk origin and owners as indices into {@link FootprintOwners}.
+ */
+public class ChunkFootprints {
+    public static final int MAX_FOOTPRINTS = 512;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int originX;
+    private final int originZ;
+
+    private float[] x;
+    private float[] y;
+    private float[] z;
+    private float[] rotation;
+    private short[] age;
+    private int[] owner;
+    private int[] id;
+    private byte[] column;
+    private final short[] columnCounts = new short[256];
+
+    private int head = 0;
+    private int size = 0;
+    private int nextId = 0;
+
+    public ChunkFootprints(long chunkPos) {
+        this.originX = ChunkPos.getX(chunkPos) << 4;
+        this.originZ = ChunkPos.getZ(chunkPos) << 4;
+        this.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds a footprint at the given world position. If the chunk is at {@link #MAX_FOOTPRINTS}, the earliest added footprint is evicted.
+     *
+     * @param owner the index of the owner, which must already be acquired from {@code owners}
+     * @param owners the owner table to release the owner of an evicted footprint from
+     */
+    public void add(double x, double y, double z, float rotation, short age, int owner, FootprintOwners owners) {
+        if (this.size == this.x.length) {
+            if (this.size < MAX_FOOTPRINTS) {
+                this.grow();
+            } else {
+                owners.release(this.owner[this.head]);
+                this.removeHead();
+            }
+        }
+
+        float localX = (float) (x - this.originX);
+        float localZ = (float) (z - this.originZ);
+        int i = this.index(this.size++);
+        this.x[i] = localX;
+        this.y[i] = (float) y;
+        this.z[i] = localZ;
+        this.rotation[i] = rotation;
+        this.age[i] = age;
+        this.owner[i] = owner;
+        this.id[i] = this.nextId++;
+        this.column[i] = (byte) columnKey(Mth.floor(localX), Mth.floor(localZ));
+        this.columnCounts[this.column[i] & 0xFF]++;
+    }
+
+    /**
+     * Ages every footprint and drops the ones that reached {@link Footprint#MAX_AGE}.
+     *
+     * @param owners the owner table to release the owners of expired footprints from
+     */
+    public void age(short amount, FootprintOwners owners) {
+        boolean expired = false;
+        for (int n = 0, i = this.head; n < this.size; n++, i = (i + 1) & (this.x.length - 1)) {
+            this.age[i] += amount;
+            expired |= this.age[i] >= Footprint.MAX_AGE;
+        }
+
+        // ages are not ordered, so expired footprints can be anywhere in the ring
+        if (expired) {
+            this.removeIf(i -> this.age[i] >= Footprint.MAX_AGE, owners);
+        }
+    }
+
+    /**
+     * Removes all footprints in the given block column.
+     *
+     * @param owners the owner table to release the owners of removed footprints from
+     * @return whether any footprint was removed
+     */
+    public boolean removeColumn(int blockX, int blockZ, FootprintOwners owners) {
+        int key = columnKey(blockX - this.originX, blockZ - this.originZ);
+        if (this.columnCounts[key] == 0) {
+            return false;
+        }
+
+        this.removeIf(i -> (this.column[i] & 0xFF) == key, owners);
+        return true;
+    }
+
+    /**
+     * Removes every footprint whose ring index matches the filter, keeping the rest in insertion order.
+     */
+    private void removeIf(IntPredicate filter, FootprintOwners owners) {
+        int mask = this.x.length - 1;
+        int kept = 0;
+        for (int n = 0; n < this.size; n++) {
+            int src = (this.head + n) & mask;
+            if (filter.test(src)) {
+                owners.release(this.owner[src]);
+                this.columnCounts[this.column[src] & 0xFF]--;
+                continue;
+            }
+            if (kept != n) {
+                int dst = (this.head + kept) & mask;
+                this.x[dst] = this.x[src];
+                this.y[dst] = this.y[src];
+                this.z[dst] = this.z[src];
+                this.rotation[dst] = this.rotation[src];
+                this.age[dst] = this.age[src];
+                this.owner[dst] = this.owner[src];
+                this.id[dst] = this.id[src];
+                this.column[dst] = this.column[src];
+            }
+            kept++;
+        }
+        this.size = kept;
+    }
+
+    public void clear(FootprintOwners owners) {
+        for (int n = 0; n < this.size; n++) {
+            owners.release(this.owner[this.index(n)]);
+        }
+        this.head = 0;
+        this.size = 0;
+        Arrays.fill(this.columnCounts, (short) 0);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public double getX(int n) {
+        return this.originX + this.x[this.index(n)];
+    }
+
+    public double getY(int n) {
+        return this.y[this.index(n)];
+    }
+
+    public double getZ(int n) {
+        return this.originZ + this.z[this.index(n)];
+    }
+
+    public float getRotation(int n) {
+        return this.rotation[this.index(n)];
+    }
+
+    public short getAge(int n) {
+        return this.age[this.index(n)];
+    }
+
+    public int getOwner(int n) {
+        return this.owner[this.index(n)];
+    }
+
+    /**
+     * Returns the id of a footprint. Ids increase in insertion order and are never reused within this chunk.
+     */
+    public int getId(int n) {
+        return this.id[this.index(n)];
+    }
+
+    /**
+     * Returns the id that the next added footprint will receive.
+     */
+    public int getNextId() {
+        return this.nextId;
+    }
+
+    /**
+     * Returns the index of the first footprint with an id of at least {@code id}, or {@link #size()} if there is none.
+     */
+    public int indexOfId(int id) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.id[this.index(mid)] < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int index(int n) {
+        return (this.head + n) & (this.x.length - 1);
+    }
+
+    private void removeHead() {
+        this.columnCounts[this.column[this.head] & 0xFF]--;
+        this.head = (this.head + 1) & (this.x.length - 1);
+        this.size--;
+    }
+
+    private void grow() {
+        float[] x = this.x;
+        float[] y = this.y;
+        float[] z = this.z;
+        float[] rotation = this.rotation;
+        short[] age = this.age;
+        int[] owner = this.owner;
+        int[] id = this.id;
+        byte[] column = this.column;
+
+        // unroll the ring so that the head is at index 0 again
+        int tail = x.length - this.head;
+        this.allocate(x.length * 2);
+        copyRing(x, this.x, this.head, tail);
+        copyRing(y, this.y, this.head, tail);
+        copyRing(z, this.z, this.head, tail);
+        copyRing(rotation, this.rotation, this.head, tail);
+        copyRing(age, this.age, this.head, tail);
+        copyRing(owner, this.owner, this.head, tail);
+        copyRing(id, this.id, this.head, tail);
+        copyRing(column, this.column, this.head, tail);
+        this.head = 0;
+    }
+
+    private void allocate(int capacity) {
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.z = new float[capacity];
+        this.rotation = new float[capacity];
+        this.age = new short[capacity];
+        this.owner = new int[capacity];
+        this.id = new int[capacity];
+        this.column = new byte[capacity];
+    }
+
+    private static void copyRing(Object src, Object dst, int head, int tail) {
+        System.arraycopy(src, head, dst, 0, tail);
+        System.arraycopy(src, 0, dst, tail, head);
+    }
+
+    private static int columnKey(int localX, int localZ) {
+        return (localX & 15) | (localZ & 15) << 4;
+    }
+}
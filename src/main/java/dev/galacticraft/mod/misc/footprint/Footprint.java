@@ -22,59 +22,19 @@
 
 package dev.galacticraft.mod.misc.footprint;
 
-import dev.galacticraft.mod.util.StreamCodecs;
-import io.netty.buffer.ByteBuf;
-import net.minecraft.core.UUIDUtil;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Vector3d;
 
-import java.util.UUID;
-
 public class Footprint {
-    public static final StreamCodec<ByteBuf, Footprint> STREAM_CODEC = StreamCodecs.composite(
-            ResourceLocation.STREAM_CODEC,
-            f -> f.dimension,
-            ByteBufCodecs.DOUBLE,
-            f -> f.position.x,
-            ByteBufCodecs.DOUBLE,
-            f -> f.position.y,
-            ByteBufCodecs.DOUBLE,
-            f -> f.position.z,
-            ByteBufCodecs.FLOAT,
-            f -> f.rotation,
-            ByteBufCodecs.SHORT,
-            f -> f.age,
-            UUIDUtil.STREAM_CODEC,
-            f -> f.owner,
-            (id, x, y, z, r, a, o) -> new Footprint(id, new Vector3d(x, y, z), r, a, o)
-    );
-
     public static final short MAX_AGE = 3200;
-    public final ResourceLocation dimension;
-    public final float rotation;
-    public final Vector3d position;
-    public short age;
-    public final UUID owner;
-
-    public Footprint(ResourceLocation dimension, Vector3d position, float rotation, UUID ownerUUID) {
-        this(dimension, position, rotation, (short) 0, ownerUUID);
-    }
-
-    public Footprint(ResourceLocation dimension, Vector3d position, float rotation, short age, UUID ownerUUID) {
-        this.dimension = dimension;
-        this.position = position;
-        this.rotation = rotation;
-        this.age = age;
-        this.owner = ownerUUID;
-    }
 
-    public static Vector3d getFootprintPosition(Level level, float rotation, Vector3d startPosition, Vec3 playerCenter) {
-        Vector3d position = new Vector3d(startPosition);
+    /**
+     * Moves the given footprint position so that the footprint fits inside the block it is on.
+     * The position is modified in place and returned.
+     */
+    public static Vector3d getFootprintPosition(Level level, float rotation, Vector3d position, Vec3 playerCenter) {
 
         float footprintScale = 0.375F;
         double xMin = Double.POSITIVE_INFINITY;
@@ -25,56 +25,84 @@
 import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 public class FootprintManager {
     public List<GlobalPos> footprintBlockChanges = Lists.newArrayList();
-    public Long2ObjectMap<List<Footprint>> globalFootprints = new Long2ObjectOpenHashMap<>();
+    protected final Long2ObjectMap<ChunkFootprints> globalFootprints = new Long2ObjectOpenHashMap<>();
+    protected final FootprintOwners owners = new FootprintOwners();
 
     public void tick(Level level, long packedPos) {
         if (level.getGameTime() % 20 == 0) {
+            ChunkFootprints footprints = this.globalFootprints.get(packedPos);
 
-            Long2ObjectMap<List<Footprint>> footprintMap = globalFootprints;
-            if (footprintMap != null) {
-                List<Footprint> footprints = footprintMap.get(packedPos);
+            if (footprints != null) {
+                footprints.age((short) 20, this.owners);
+                onChange(level, packedPos, footprints);
 
-                if (footprints != null) {
-                    List<Footprint> toRemove = new ArrayList<>();
-
-                    for (Footprint footprint : footprints) {
-                        footprint.age += (short) 20;
-
-                        if (footprint.age >= Footprint.MAX_AGE) {
-                            toRemove.add(footprint);
-                        }
-                    }
-
-                    if (!toRemove.isEmpty()) {
-                        footprints.removeAll(toRemove);
-                    }
-
-                    footprintMap.put(packedPos, footprints);
+                if (footprints.isEmpty()) {
+                    this.globalFootprints.remove(packedPos);
+                }
+            }
+        }
+    }
 
-                    onChange(level, packedPos, footprints);
+    /**
+     * Ticks every chunk with footprints, used on the client where chunks are not ticked individually.
+     */
+    public void tickAll(Level level) {
+        if (level.getGameTime() % 20 == 0) {
+            ObjectIterator<Long2ObjectMap.Entry<ChunkFootprints>> iterator = this.globalFootprints.long2ObjectEntrySet().iterator();
+            while (iterator.hasNext()) {
+                Long2ObjectMap.Entry<ChunkFootprints> entry = iterator.next();
+                ChunkFootprints footprints = entry.getValue();
+                footprints.age((short) 20, this.owners);
+                onChange(level, entry.getLongKey(), footprints);
+
+                if (footprints.isEmpty()) {
+                    iterator.remove();
                 }
             }
         }
     }
 
-    public void onChange(Level level, long pos, List<Footprint> footprints) {
+    public void onChange(Level level, long pos, ChunkFootprints footprints) {
+    }
+
+    public void addFootprint(long packedPos, double x, double y, double z, float rotation, short age, UUID owner) {
+        ChunkFootprints footprints = this.globalFootprints.computeIfAbsent(packedPos, ChunkFootprints::new);
+        footprints.add(x, y, z, rotation, age, this.owners.acquire(owner), this.owners);
     }
 
-    public void addFootprint(long packedPos, Footprint footprint) {
-        List<Footprint> footprints = globalFootprints.computeIfAbsent(packedPos, key -> new ArrayList<>());
+    /**
+     * Removes all footprints in the block column of the given position.
+     *
+     * @return whether any footprint was removed
+     */
+    public boolean removeFootprints(BlockPos pos) {
+        ChunkFootprints footprints = this.globalFootprints.get(ChunkPos.asLong(pos));
+        return footprints != null && footprints.removeColumn(pos.getX(), pos.getZ(), this.owners);
+    }
+
+    public void clearFootprints(long packedPos) {
+        ChunkFootprints footprints = this.globalFootprints.remove(packedPos);
+        if (footprints != null) {
+            footprints.clear(this.owners);
+        }
+    }
 
-        footprints.add(footprint);
+    public Long2ObjectMap<ChunkFootprints> getFootprints() {
+        return this.globalFootprints;
     }
 
-    public Long2ObjectMap<List<Footprint>> getFootprints() {
-        return globalFootprints;
+    public FootprintOwners getOwners() {
+        return this.owners;
     }
 }
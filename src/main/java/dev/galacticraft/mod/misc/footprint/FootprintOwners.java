@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.footprint;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maps footprint owners to small integer indices. Indices are reference counted and reused once no footprint refers to them.
+ */
+public class FootprintOwners {
+    private final Object2IntMap<UUID> ids = new Object2IntOpenHashMap<>();
+    private final List<UUID> owners = new ArrayList<>();
+    private final IntArrayList references = new IntArrayList();
+    private final IntArrayList free = new IntArrayList();
+
+    public FootprintOwners() {
+        this.ids.defaultReturnValue(-1);
+    }
+
+    /**
+     * Returns the index of the given owner and adds a reference to it.
+     */
+    public int acquire(UUID owner) {
+        int id = this.ids.getInt(owner);
+        if (id == -1) {
+            if (this.free.isEmpty()) {
+                id = this.owners.size();
+                this.owners.add(owner);
+                this.references.add(0);
+            } else {
+                id = this.free.popInt();
+                this.owners.set(id, owner);
+            }
+            this.ids.put(owner, id);
+        }
+        this.references.set(id, this.references.getInt(id) + 1);
+        return id;
+    }
+
+    public void release(int id) {
+        int references = this.references.getInt(id) - 1;
+        this.references.set(id, references);
+        if (references == 0) {
+            this.ids.removeInt(this.owners.get(id));
+            this.owners.set(id, null);
+            this.free.push(id);
+        }
+    }
+
+    /**
+     * Returns the index of the given owner without adding a reference, or {@code -1} if it owns no footprints.
+     */
+    public int getId(UUID owner) {
+        return this.ids.getInt(owner);
+    }
+
+    public @Nullable UUID getOwner(int id) {
+        return this.owners.get(id);
+    }
+}
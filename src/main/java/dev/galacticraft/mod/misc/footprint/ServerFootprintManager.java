@@ -23,24 +23,62 @@
 package dev.galacticraft.mod.misc.footprint;
 
 import dev.galacticraft.mod.network.s2c.FootprintPacket;
+import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.UUID;
 
 public class ServerFootprintManager extends FootprintManager {
+    /**
+     * For each chunk, the next footprint id of the last sync sent to each tracking player.
+     * Players missing from the map have not received the chunk yet and get a full snapshot.
+     */
+    private final Long2ObjectMap<Object2IntMap<UUID>> synced = new Long2ObjectOpenHashMap<>();
+
     @Override
-    public void onChange(Level level, long packedPos, List<Footprint> footprints) {
+    public void onChange(Level level, long packedPos, ChunkFootprints footprints) {
+        if (footprints.isEmpty()) {
+            // the chunk is about to be dropped, so its ids will start over
+            this.synced.remove(packedPos);
+            return;
+        }
+
         if (level.getGameTime() % 100 == 0) {
-            PlayerLookup.tracking((ServerLevel) level, new ChunkPos(packedPos)).forEach(player -> {
-                List<Footprint> toSync = new ArrayList<>(footprints);
-                toSync.removeIf(footprint -> footprint.owner.equals(player.getUUID()));
-                ServerPlayNetworking.send(player, new FootprintPacket(packedPos, toSync));
-            });
+            Collection<ServerPlayer> players = PlayerLookup.tracking((ServerLevel) level, new ChunkPos(packedPos));
+            Object2IntMap<UUID> previous = this.synced.get(packedPos);
+            if (players.isEmpty()) {
+                this.synced.remove(packedPos);
+                return;
+            }
+
+            int latest = footprints.getNextId();
+            Object2IntMap<UUID> current = new Object2IntOpenHashMap<>(players.size());
+            Int2ObjectMap<FootprintPacket> packets = new Int2ObjectArrayMap<>();
+            for (ServerPlayer player : players) {
+                int baseline = previous != null ? previous.getOrDefault(player.getUUID(), -1) : -1;
+                current.put(player.getUUID(), latest);
+                if (baseline != latest) {
+                    // players sharing a baseline share the same encoded packet
+                    FootprintPacket packet = packets.get(baseline);
+                    if (packet == null) {
+                        packet = FootprintPacket.create(packedPos, footprints, baseline, this.owners);
+                        packets.put(baseline, packet);
+                    }
+                    ServerPlayNetworking.send(player, packet);
+                }
+            }
+            this.synced.put(packedPos, current);
         }
     }
 }
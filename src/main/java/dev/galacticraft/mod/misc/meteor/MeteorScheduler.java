@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.meteor;
+
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.mod.content.GCCelestialBodies;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.Holder;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.util.*;
+
+/**
+ * Schedules falling meteors for every group of players on meteor-prone celestial bodies.
+ * <p>
+ * Players within {@link #CLUSTER_RADIUS} blocks of each other share one meteor stream, aimed at the member with the lowest entity id.
+ * Clusters are rebuilt every {@link #CLUSTER_INTERVAL} ticks. Each cluster draws the tick of its next small and large impact
+ * from a geometric distribution, the discrete counterpart of an exponential, whose mean matches the per-tick
+ * {@code 1 / chance} roll this replaces. Pending impacts wait in a priority queue, so ticks without a meteor only peek at its head.
+ *
+ * @param <L> the type of the levels meteors fall in
+ * @param <P> the type of the players meteors are aimed at
+ */
+public class MeteorScheduler<L, P> {
+    public static final double CLUSTER_RADIUS = 100.0;
+    public static final int CLUSTER_INTERVAL = 20;
+    public static final int SMALL_METEOR = 1;
+    public static final int LARGE_METEOR = 6;
+    // large meteors are three times rarer than small ones
+    public static final int LARGE_METEOR_RARITY = 3;
+
+    private final Map<UUID, Cluster<L>> clusters = new HashMap<>();
+    private final PriorityQueue<Impact<L>> impacts = new PriorityQueue<>(Comparator.comparingLong(Impact::tick));
+    private long tick;
+    private int staleImpacts;
+
+    /**
+     * Matches the original per-tick roll: one small meteor per {@code chance} ticks on average.
+     */
+    public static int chance(float atmospherePressure, float multiplier) {
+        float frequency = (atmospherePressure <= Mth.EPSILON) ? 5.0f : (atmospherePressure * 100.0f);
+        frequency /= multiplier;
+        return Math.max(1, (int) (frequency * 750.0f));
+    }
+
+    /**
+     * {@return the number of ticks until the next success of a per-tick roll with probability {@code 1 / chance}}
+     */
+    public static long ticksUntilNext(RandomSource random, long chance) {
+        if (chance <= 1) return 1;
+        double u = 1.0 - random.nextDouble(); // (0, 1]
+        return Math.max(1, (long) Math.ceil(Math.log(u) / Math.log1p(-1.0 / chance)));
+    }
+
+    public void tick(Host<L, P> host, float multiplier, MeteorThrower<L, P> thrower) {
+        if (this.tick % CLUSTER_INTERVAL == 0) {
+            this.rebuildClusters(host, multiplier);
+        }
+
+        Impact<L> impact;
+        while ((impact = this.impacts.peek()) != null && impact.tick() <= this.tick) {
+            this.impacts.poll();
+            Cluster<L> cluster = impact.cluster();
+            if (cluster.removed) {
+                if (this.staleImpacts > 0) this.staleImpacts--;
+                continue;
+            }
+
+            P target = host.player(cluster.anchor);
+            if (target != null && host.level(target) == cluster.level && !host.isSpectator(target)) {
+                thrower.throwMeteor(cluster.level, target, impact.size());
+            }
+            this.schedule(host, cluster, impact.size(), impact.chance());
+        }
+        this.tick++;
+    }
+
+    public void clear() {
+        this.clusters.clear();
+        this.impacts.clear();
+        this.tick = 0;
+        this.staleImpacts = 0;
+    }
+
+    /**
+     * {@return the number of impacts waiting in the queue, including those of removed clusters}
+     */
+    @VisibleForTesting
+    int pendingImpacts() {
+        return this.impacts.size();
+    }
+
+    private void rebuildClusters(Host<L, P> host, float multiplier) {
+        for (Cluster<L> cluster : this.clusters.values()) {
+            cluster.seen = false;
+        }
+
+        for (L level : host.levels()) {
+            List<P> players = host.players(level);
+            if (players.isEmpty()) continue;
+            int chance = host.chance(level, multiplier);
+            if (chance <= 0) continue;
+
+            for (P anchor : cluster(host, players)) {
+                UUID uuid = host.uuid(anchor);
+                Cluster<L> cluster = this.clusters.get(uuid);
+                if (cluster == null || cluster.level != level || cluster.chance != chance) {
+                    if (cluster != null) this.remove(cluster);
+                    cluster = new Cluster<>(uuid, level, chance);
+                    this.clusters.put(uuid, cluster);
+                    this.schedule(host, cluster, SMALL_METEOR, chance);
+                    this.schedule(host, cluster, LARGE_METEOR, (long) chance * LARGE_METEOR_RARITY);
+                }
+                cluster.seen = true;
+            }
+        }
+
+        for (Iterator<Cluster<L>> iterator = this.clusters.values().iterator(); iterator.hasNext(); ) {
+            Cluster<L> cluster = iterator.next();
+            if (!cluster.seen) {
+                this.remove(cluster);
+                iterator.remove();
+            }
+        }
+
+        // impacts of removed clusters are skipped lazily, but purge them once they make up most of the queue
+        if (this.staleImpacts > this.impacts.size() / 2) {
+            this.impacts.removeIf(impact -> impact.cluster().removed);
+            this.staleImpacts = 0;
+        }
+    }
+
+    private void remove(Cluster<L> cluster) {
+        cluster.removed = true;
+        this.staleImpacts += 2;
+    }
+
+    private void schedule(Host<L, P> host, Cluster<L> cluster, int size, long chance) {
+        this.impacts.add(new Impact<>(this.tick + ticksUntilNext(host.random(cluster.level), chance), cluster, size, chance));
+    }
+
+    /**
+     * Groups players that are within {@link #CLUSTER_RADIUS} of each other, directly or through other players,
+     * using a grid of {@code CLUSTER_RADIUS}-wide buckets so that only neighbouring buckets are compared.
+     *
+     * @return the player with the lowest entity id of each group
+     */
+    private static <P> List<P> cluster(Host<?, P> host, List<P> allPlayers) {
+        List<P> players = new ArrayList<>(allPlayers.size());
+        List<Vec3> positions = new ArrayList<>(allPlayers.size());
+        for (P player : allPlayers) {
+            if (!host.isSpectator(player)) {
+                players.add(player);
+                positions.add(host.position(player));
+            }
+        }
+
+        int[] parent = new int[players.size()];
+        Long2ObjectOpenHashMap<IntArrayList> buckets = new Long2ObjectOpenHashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            parent[i] = i;
+            Vec3 position = positions.get(i);
+            int cellX = Mth.floor(position.x / CLUSTER_RADIUS);
+            int cellZ = Mth.floor(position.z / CLUSTER_RADIUS);
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    IntArrayList bucket = buckets.get(cellKey(cellX + dx, cellZ + dz));
+                    if (bucket == null) continue;
+                    for (int j = 0; j < bucket.size(); j++) {
+                        int other = bucket.getInt(j);
+                        if (position.distanceToSqr(positions.get(other)) <= CLUSTER_RADIUS * CLUSTER_RADIUS) {
+                            union(parent, i, other);
+                        }
+                    }
+                }
+            }
+            buckets.computeIfAbsent(cellKey(cellX, cellZ), k -> new IntArrayList()).add(i);
+        }
+
+        Map<Integer, P> anchors = new HashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            anchors.merge(find(parent, i), players.get(i), (a, b) -> host.id(a) <= host.id(b) ? a : b);
+        }
+        return new ArrayList<>(anchors.values());
+    }
+
+    private static long cellKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+
+    /**
+     * The levels and players the scheduler sees. {@link ServerHost} reads them from a running server.
+     */
+    public interface Host<L, P> {
+        Iterable<L> levels();
+
+        List<P> players(L level);
+
+        /**
+         * {@return the small meteor chance for the level, or {@code 0} if meteors do not fall there}
+         */
+        int chance(L level, float multiplier);
+
+        RandomSource random(L level);
+
+        @Nullable P player(UUID uuid);
+
+        L level(P player);
+
+        UUID uuid(P player);
+
+        int id(P player);
+
+        Vec3 position(P player);
+
+        boolean isSpectator(P player);
+    }
+
+    public record ServerHost(MinecraftServer server) implements Host<ServerLevel, ServerPlayer> {
+        @Override
+        public Iterable<ServerLevel> levels() {
+            return this.server.getAllLevels();
+        }
+
+        @Override
+        public List<ServerPlayer> players(ServerLevel level) {
+            return level.players();
+        }
+
+        @Override
+        public int chance(ServerLevel level, float multiplier) {
+            Holder<CelestialBody<?, ?>> body = level.galacticraft$getCelestialBody();
+            return body == null || body.is(GCCelestialBodies.EARTH) ? 0 : MeteorScheduler.chance(body.value().atmosphere().pressure(), multiplier);
+        }
+
+        @Override
+        public RandomSource random(ServerLevel level) {
+            return level.random;
+        }
+
+        @Override
+        public @Nullable ServerPlayer player(UUID uuid) {
+            return this.server.getPlayerList().getPlayer(uuid);
+        }
+
+        @Override
+        public ServerLevel level(ServerPlayer player) {
+            return player.serverLevel();
+        }
+
+        @Override
+        public UUID uuid(ServerPlayer player) {
+            return player.getUUID();
+        }
+
+        @Override
+        public int id(ServerPlayer player) {
+            return player.getId();
+        }
+
+        @Override
+        public Vec3 position(ServerPlayer player) {
+            return player.position();
+        }
+
+        @Override
+        public boolean isSpectator(ServerPlayer player) {
+            return player.isSpectator();
+        }
+    }
+
+    @FunctionalInterface
+    public interface MeteorThrower<L, P> {
+        void throwMeteor(L level, P target, int size);
+    }
+
+    private record Impact<L>(long tick, Cluster<L> cluster, int size, long chance) {
+    }
+
+    private static class Cluster<L> {
+        private final UUID anchor;
+        private final L level;
+        private final int chance;
+        private boolean seen;
+        private boolean removed;
+
+        private Cluster(UUID anchor, L level, int chance) {
+            this.anchor = anchor;
+            this.level = level;
+            this.chance = chance;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.profiling;
+
+import com.sun.management.ThreadMXBean;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Named, nestable timers and counters for Galacticraft's own share of the server tick.
+ * <p>
+ * Sections are opened with {@link #push(Level, String)} and closed with {@link #pop()}, and record their invocation
+ * count, inclusive time and the bytes allocated by the thread while they ran. Sections are grouped by the dimension of
+ * the outermost open section, or under "server" for sections without a level.
+ * Only the thread that called {@link #start()} is recorded. While the profiler is stopped every call returns after a
+ * single static field read, so instrumentation can stay in hot paths.
+ */
+public final class GCProfiler {
+    private static final @Nullable ThreadMXBean THREADS = ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled() ? threads : null;
+
+    private static boolean enabled = false;
+    private static @Nullable Thread owner = null;
+    private static long startedAt;
+    private static long stoppedAt;
+
+    // the null key holds sections opened without a level
+    private static final Map<ResourceKey<Level>, Node> dimensions = new Object2ObjectLinkedOpenHashMap<>();
+    private static Node[] nodes = new Node[16];
+    private static long[] startTimes = new long[16];
+    private static long[] startAllocations = new long[16];
+    private static int depth = 0;
+
+    private GCProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@return whether sections opened on the calling thread are recorded}
+     */
+    public static boolean isRecording() {
+        return enabled && Thread.currentThread() == owner;
+    }
+
+    /**
+     * Clears all recorded sections and starts recording the calling thread.
+     */
+    public static void start() {
+        dimensions.clear();
+        depth = 0;
+        owner = Thread.currentThread();
+        startedAt = System.nanoTime();
+        enabled = true;
+    }
+
+    /**
+     * Stops recording, keeping what was recorded for {@link #report()}.
+     */
+    public static void stop() {
+        enabled = false;
+        depth = 0;
+        stoppedAt = System.nanoTime();
+    }
+
+    /**
+     * {@return how long the profiler has been (or was) recording, in nanoseconds}
+     */
+    public static long elapsed() {
+        return (enabled ? System.nanoTime() : stoppedAt) - startedAt;
+    }
+
+    public static void push(@Nullable Level level, String name) {
+        if (!isRecording()) return;
+
+        Node node = current(level).child(name);
+        if (depth == nodes.length) {
+            nodes = Arrays.copyOf(nodes, depth * 2);
+            startTimes = Arrays.copyOf(startTimes, depth * 2);
+            startAllocations = Arrays.copyOf(startAllocations, depth * 2);
+        }
+        nodes[depth] = node;
+        startAllocations[depth] = allocatedBytes();
+        startTimes[depth] = System.nanoTime();
+        depth++;
+    }
+
+    public static void pop() {
+        if (!isRecording() || depth == 0) return;
+
+        long time = System.nanoTime();
+        depth--;
+        nodes[depth].record(time - startTimes[depth], allocatedBytes() - startAllocations[depth]);
+        nodes[depth] = null;
+    }
+
+    /**
+     * Adds {@code amount} to the counter {@code name} of the innermost open section.
+     */
+    public static void count(@Nullable Level level, String name, long amount) {
+        if (!isRecording()) return;
+        current(level).counters.addTo(name, amount);
+    }
+
+    /**
+     * {@return a plain text report of everything recorded since the last start, one tree per dimension}
+     */
+    public static String report() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Galacticraft profile, %.2f s%s%n", elapsed() / 1.0e9, enabled ? " (still running)" : ""));
+        if (THREADS == null) builder.append("Allocation tracking is not supported by this JVM").append(System.lineSeparator());
+        for (Map.Entry<@Nullable ResourceKey<Level>, Node> entry : dimensions.entrySet()) {
+            builder.append(System.lineSeparator());
+            builder.append("== ").append(entry.getKey() == null ? "server" : entry.getKey().location()).append(" ==").append(System.lineSeparator());
+            entry.getValue().append(builder, 0);
+        }
+        return builder.toString();
+    }
+
+    private static Node current(@Nullable Level level) {
+        if (depth > 0) return nodes[depth - 1];
+        return dimensions.computeIfAbsent(level == null ? null : level.dimension(), key -> new Node(""));
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static class Node {
+        private final String name;
+        private final Object2ObjectLinkedOpenHashMap<String, Node> children = new Object2ObjectLinkedOpenHashMap<>();
+        private final Object2LongLinkedOpenHashMap<String> counters = new Object2LongLinkedOpenHashMap<>();
+        private long calls;
+        private long totalTime;
+        private long maxTime;
+        private long allocated;
+
+        private Node(String name) {
+            this.name = name;
+        }
+
+        private Node child(String name) {
+            Node child = this.children.get(name);
+            if (child == null) {
+                child = new Node(name);
+                this.children.put(name, child);
+            }
+            return child;
+        }
+
+        private void record(long time, long allocated) {
+            this.calls++;
+            this.totalTime += time;
+            this.maxTime = Math.max(this.maxTime, time);
+            this.allocated += allocated;
+        }
+
+        private void append(StringBuilder builder, int indent) {
+            String prefix = "  ".repeat(indent);
+            if (!this.name.isEmpty()) {
+                builder.append(String.format("%s%s: %d calls, %.3f ms total, %.2f us avg, %.2f us max, %d bytes allocated%n",
+                        prefix, this.name, this.calls, this.totalTime / 1.0e6,
+                        this.totalTime / 1.0e3 / Math.max(1, this.calls), this.maxTime / 1.0e3, this.allocated));
+                prefix += "  ";
+            }
+            for (Object2LongMap.Entry<String> counter : this.counters.object2LongEntrySet()) {
+                builder.append(prefix).append('#').append(counter.getKey()).append(": ").append(counter.getLongValue()).append(System.lineSeparator());
+            }
+            for (Node child : this.children.values()) {
+                child.append(builder, this.name.isEmpty() ? indent : indent + 1);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@
 package dev.galacticraft.mod.mixin;
 
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import dev.galacticraft.mod.util.OxygenExposureCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -41,13 +42,16 @@
 
 @Mixin(AbstractFurnaceBlockEntity.class)
 public abstract class AbstractFurnaceBlockEntityMixin extends BlockEntity {
+    @Unique
+    private final OxygenExposureCache gc$oxygenExposure = new OxygenExposureCache();
+
     AbstractFurnaceBlockEntityMixin() {
         super(null, null, null);
     }
 
     @Inject(method = "serverTick", at = @At("HEAD"))
     private static void gc$extinguishFurnace(Level level, BlockPos blockPos, BlockState blockState, AbstractFurnaceBlockEntity be, CallbackInfo ci) {
-        if (be.litTime > 0 && gc$shouldExtinguish(level, blockPos, blockState)) {
+        if (be.litTime > 0 && gc$shouldExtinguish(level, blockPos, blockState, be)) {
             be.litTime = 0;
             blockState = blockState.setValue(AbstractFurnaceBlock.LIT, false);
             level.setBlock(blockPos, blockState, Block.UPDATE_ALL);
@@ -59,15 +63,14 @@ public abstract class AbstractFurnaceBlockEntityMixin extends BlockEntity {
 
     @ModifyExpressionValue(method = "serverTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/entity/AbstractFurnaceBlockEntity;canBurn(Lnet/minecraft/core/RegistryAccess;Lnet/minecraft/world/item/crafting/RecipeHolder;Lnet/minecraft/core/NonNullList;I)Z"))
     private static boolean gc$canBurn(boolean original, Level level, BlockPos blockPos, BlockState blockState, AbstractFurnaceBlockEntity be) {
-        if (gc$shouldExtinguish(level, blockPos, blockState)) {
+        if (gc$shouldExtinguish(level, blockPos, blockState, be)) {
             return false;
         }
         return original;
     }
 
     @Unique
-    private static boolean gc$shouldExtinguish(Level level, BlockPos blockPos, BlockState blockState) {
-        return !level.isBreathable(blockPos.relative(blockState.getValue(AbstractFurnaceBlock.FACING)))
-                && !level.isBreathable(blockPos);
+    private static boolean gc$shouldExtinguish(Level level, BlockPos blockPos, BlockState blockState, AbstractFurnaceBlockEntity be) {
+        return ((AbstractFurnaceBlockEntityMixin) (Object) be).gc$oxygenExposure.shouldExtinguish(level, blockPos, blockState.getValue(AbstractFurnaceBlock.FACING));
     }
 }
\ No newline at end of file
@@ -41,6 +41,7 @@
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.tags.FluidTags;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
@@ -56,8 +57,11 @@
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3d;
@@ -76,6 +80,11 @@ public abstract class EntityMixin implements EntityAccessor {
     private @Unique double distanceSinceLastStep;
     private @Unique int lastStep = -1;
     private @Unique int timeInAcid = 0;
+    private @Unique @Nullable Vector3d footprintPos = null;
+    private @Unique @Nullable BlockPos.MutableBlockPos footprintBlockPos = null;
+    private static final @Unique int CONTACT_OIL = 1;
+    private static final @Unique int CONTACT_FUEL = 1 << 1;
+    private static final @Unique int CONTACT_SULFURIC_ACID = 1 << 2;
 
     @Shadow
     public abstract Vec3 getDeltaMovement();
@@ -106,9 +115,6 @@ public abstract class EntityMixin implements EntityAccessor {
     @Shadow
     private Vec3 position;
 
-    @Shadow
-    protected UUID uuid;
-
     @Shadow
     public abstract boolean isAlwaysTicking();
 
@@ -152,6 +158,9 @@ public abstract class EntityMixin implements EntityAccessor {
     @Shadow
     public abstract Vec3 position();
 
+    @Shadow
+    public abstract AABB getBoundingBox();
+
     @Shadow
     public abstract EntityType<?> getType();
 
@@ -161,9 +170,14 @@ public abstract class EntityMixin implements EntityAccessor {
 
     @Inject(method = "updateInWaterStateAndDoWaterCurrentPushing", at = @At("TAIL"))
     private void checkWaterStateGC(CallbackInfo ci) {
-        Player player = level.getPlayerByUUID(uuid);
-        boolean invulnerable = player != null && player.getAbilities().invulnerable;
-        if (this.updateFluidHeightAndDoFluidPushing(GCFluidTags.OIL, 0.0028d) || this.updateFluidHeightAndDoFluidPushing(GCFluidTags.FUEL, 0.0028d)) {
+        int contacts = this.galacticraft$findFluidContacts();
+        if (contacts == 0) {
+            this.timeInAcid = 0;
+            return;
+        }
+
+        boolean invulnerable = (Object) this instanceof Player player && player.getAbilities().invulnerable;
+        if (((contacts & CONTACT_OIL) != 0 && this.updateFluidHeightAndDoFluidPushing(GCFluidTags.OIL, 0.0028d)) || ((contacts & CONTACT_FUEL) != 0 && this.updateFluidHeightAndDoFluidPushing(GCFluidTags.FUEL, 0.0028d))) {
             if (this.isOnFire()) {
                 level.explode(level.getEntity(id), position.x, position.y, position.z, 0f, Level.ExplosionInteraction.NONE);
                 if (!invulnerable) {
@@ -172,7 +186,7 @@ private void checkWaterStateGC(CallbackInfo ci) {
             }
         }
 
-        if (this.updateFluidHeightAndDoFluidPushing(GCFluidTags.SULFURIC_ACID, 0.0028d)) {
+        if ((contacts & CONTACT_SULFURIC_ACID) != 0 && this.updateFluidHeightAndDoFluidPushing(GCFluidTags.SULFURIC_ACID, 0.0028d)) {
             // The entity enters an acid fluid, this entity needs to take damage
             if (!invulnerable && !this.getType().is(GCEntityTypeTags.IMMUNE_TO_ACID)) {
                 boolean damage = this.timeInAcid >= 30;
@@ -207,6 +221,56 @@ private void checkWaterStateGC(CallbackInfo ci) {
         }
     }
 
+    /**
+     * Finds which Galacticraft fluids intersect the bounding box of this entity in a single pass, so that
+     * {@link Entity#updateFluidHeightAndDoFluidPushing(TagKey, double)} only runs for fluids that are actually present.
+     * Sections without any modded fluid are skipped without looking at their blocks.
+     */
+    @Unique
+    private int galacticraft$findFluidContacts() {
+        AABB box = this.getBoundingBox().deflate(0.001);
+        int minX = Mth.floor(box.minX);
+        int maxX = Mth.ceil(box.maxX);
+        int minY = Mth.floor(box.minY);
+        int maxY = Mth.ceil(box.maxY);
+        int minZ = Mth.floor(box.minZ);
+        int maxZ = Mth.ceil(box.maxZ);
+
+        int contacts = 0;
+        for (int sectionX = SectionPos.blockToSectionCoord(minX); sectionX <= SectionPos.blockToSectionCoord(maxX - 1); sectionX++) {
+            for (int sectionZ = SectionPos.blockToSectionCoord(minZ); sectionZ <= SectionPos.blockToSectionCoord(maxZ - 1); sectionZ++) {
+                LevelChunk chunk = this.level.getChunkSource().getChunkNow(sectionX, sectionZ);
+                if (chunk == null) continue;
+
+                for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY - 1); sectionY++) {
+                    int index = chunk.getSectionIndexFromSectionY(sectionY);
+                    if (index < 0 || index >= chunk.getSectionsCount()) continue;
+                    LevelChunkSection section = chunk.getSection(index);
+                    if (!section.galacticraft$hasModdedFluid()) continue;
+
+                    int x0 = Math.max(minX, SectionPos.sectionToBlockCoord(sectionX));
+                    int x1 = Math.min(maxX, SectionPos.sectionToBlockCoord(sectionX + 1));
+                    int y0 = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY));
+                    int y1 = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY + 1));
+                    int z0 = Math.max(minZ, SectionPos.sectionToBlockCoord(sectionZ));
+                    int z1 = Math.min(maxZ, SectionPos.sectionToBlockCoord(sectionZ + 1));
+                    for (int x = x0; x < x1; x++) {
+                        for (int y = y0; y < y1; y++) {
+                            for (int z = z0; z < z1; z++) {
+                                FluidState fluid = section.getFluidState(x & 15, y & 15, z & 15);
+                                if (fluid.isEmpty() || fluid.is(FluidTags.WATER) || fluid.is(FluidTags.LAVA)) continue;
+                                if (fluid.is(GCFluidTags.OIL)) contacts |= CONTACT_OIL;
+                                if (fluid.is(GCFluidTags.FUEL)) contacts |= CONTACT_FUEL;
+                                if (fluid.is(GCFluidTags.SULFURIC_ACID)) contacts |= CONTACT_SULFURIC_ACID;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return contacts;
+    }
+
     @Unique
     private void sulfuricAcidEffects() {
         this.playSound(SoundEvents.LAVA_EXTINGUISH, 0.7F, 1.6F + (level.getRandom().nextFloat() - level.getRandom().nextFloat()) * 0.4F);
@@ -218,40 +282,43 @@ private void sulfuricAcidEffects() {
     // GC 4 ticks footprints on the client and server, however we will just do it on the server
     @Inject(method = "move", at = @At("HEAD"))
     private void tickFootprints(MoverType type, Vec3 motion, CallbackInfo ci) {
-        if (!this.getType().is(GCEntityTypeTags.HAS_FOOTPRINTS)) {
+        // Cached flags, so entities that never leave footprints only pay for two field reads
+        if (!this.getType().galacticraft$hasFootprints() || !this.level.galacticraft$hasFootprints()) {
             return;
         } else if ((Object) this instanceof Player player && player.getAbilities().flying) {
             return;
         } else if (this.getVehicle() != null) {
             return;
         }
-        // The entity has footprints, is not flying and is not riding anything
+        // The entity has footprints, is not flying, is not riding anything and is in a footprint dimension
 
         double motionSqrd = motion.horizontalDistanceSqr();
-        Holder<DimensionType> dimensionType = this.level.dimensionTypeRegistration();
 
-        // Check that the entity is moving fast enough and is in a footprint dimension
-        if (motionSqrd > 0.001D && dimensionType.is(GCDimensionTypeTags.FOOTPRINTS_DIMENSIONS)) {
+        // Check that the entity is moving fast enough
+        if (motionSqrd > 0.001D) {
             // If it has been long enough since the last step
             if (this.galacticraft$getDistanceSinceLastStep() > 0.35D) {
                 float rotation = this.getYRot() * Mth.DEG_TO_RAD;
 
                 // Set the footprint position to the block below
-                Vector3d pos = new Vector3d(
+                if (this.footprintPos == null) {
+                    this.footprintPos = new Vector3d();
+                    this.footprintBlockPos = new BlockPos.MutableBlockPos();
+                }
+                Vector3d pos = this.footprintPos.set(
                         this.getX() + this.galacticraft$getLastStep() * Mth.cos(rotation) * 0.25D,
                         Math.floor(this.getY()),
                         this.getZ() + this.galacticraft$getLastStep() * Mth.sin(rotation) * 0.25D
                 );
-                pos = Footprint.getFootprintPosition(this.level, rotation - Mth.PI, pos, this.position());
+                Footprint.getFootprintPosition(this.level, rotation - Mth.PI, pos, this.position());
 
-                BlockPos blockPos = new BlockPos(Mth.floor(pos.x), Mth.floor(pos.y - 0.05D), Mth.floor(pos.z));
-                BlockState state = this.level.getBlockState(blockPos);
+                BlockState state = this.level.getBlockState(this.footprintBlockPos.set(Mth.floor(pos.x), Mth.floor(pos.y - 0.05D), Mth.floor(pos.z)));
 
                 // If the block below is the moon block
                 if (state.is(GCBlockTags.FOOTPRINTS)) {
                     long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.x), SectionPos.blockToSectionCoord(pos.z));
                     short age = (short) (this.level.getGameTime() % 20);
-                    this.level.galacticraft$getFootprintManager().addFootprint(chunkKey, new Footprint(dimensionType.unwrapKey().get().location(), pos, rotation, age, this.getUUID()));
+                    this.level.galacticraft$getFootprintManager().addFootprint(chunkKey, pos.x, pos.y, pos.z, rotation, age, this.getUUID());
                 }
 
                 // Change the sign of the lastStep variable
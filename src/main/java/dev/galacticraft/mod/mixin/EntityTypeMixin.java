@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.mixin;
+
+import dev.galacticraft.impl.internal.TagGeneration;
+import dev.galacticraft.mod.accessor.FootprintEntityTypeAccessor;
+import dev.galacticraft.mod.tag.GCEntityTypeTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.EntityType;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+
+@Mixin(EntityType.class)
+public abstract class EntityTypeMixin implements FootprintEntityTypeAccessor {
+    private @Unique int footprintTagGeneration = -1;
+    private @Unique boolean hasFootprints = false;
+
+    @Shadow
+    public abstract boolean is(TagKey<EntityType<?>> tag);
+
+    @Override
+    public boolean galacticraft$hasFootprints() {
+        int generation = TagGeneration.get();
+        if (this.footprintTagGeneration != generation) {
+            this.hasFootprints = this.is(GCEntityTypeTags.HAS_FOOTPRINTS);
+            this.footprintTagGeneration = generation;
+        }
+        return this.hasFootprints;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.mixin;
+
+import dev.galacticraft.mod.accessor.ChunkSectionFluidAccessor;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(LevelChunkSection.class)
+public abstract class LevelChunkSectionMixin implements ChunkSectionFluidAccessor {
+    private @Unique short moddedFluidCount = 0;
+
+    @Inject(method = "setBlockState(IIILnet/minecraft/world/level/block/state/BlockState;Z)Lnet/minecraft/world/level/block/state/BlockState;", at = @At("RETURN"))
+    private void galacticraft$countModdedFluids(int x, int y, int z, BlockState state, boolean useLocks, CallbackInfoReturnable<BlockState> cir) {
+        BlockState oldState = cir.getReturnValue();
+        if (isModdedFluid(oldState)) {
+            this.moddedFluidCount--;
+        }
+        if (isModdedFluid(state)) {
+            this.moddedFluidCount++;
+        }
+    }
+
+    @Inject(method = "recalcBlockCounts", at = @At("RETURN"))
+    private void galacticraft$recountModdedFluids(CallbackInfo ci) {
+        this.recountModdedFluids();
+    }
+
+    @Inject(method = "read", at = @At("RETURN"))
+    private void galacticraft$recountModdedFluidsFromPacket(FriendlyByteBuf buf, CallbackInfo ci) {
+        // the client does not recalculate block counts when receiving a section
+        this.recountModdedFluids();
+    }
+
+    @Override
+    public boolean galacticraft$hasModdedFluid() {
+        return this.moddedFluidCount > 0;
+    }
+
+    @Unique
+    private void recountModdedFluids() {
+        this.moddedFluidCount = 0;
+        ((LevelChunkSection) (Object) this).getStates().count((state, count) -> {
+            if (isModdedFluid(state)) {
+                this.moddedFluidCount += (short) count;
+            }
+        });
+    }
+
+    @Unique
+    private static boolean isModdedFluid(BlockState state) {
+        Fluid fluid = state.getFluidState().getType();
+        return fluid != Fluids.EMPTY && !fluid.isSame(Fluids.WATER) && !fluid.isSame(Fluids.LAVA);
+    }
+}
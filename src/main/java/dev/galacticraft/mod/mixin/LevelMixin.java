@@ -23,18 +23,39 @@
 package dev.galacticraft.mod.mixin;
 
 import dev.galacticraft.mod.accessor.GCLevelAccessor;
+import dev.galacticraft.mod.machine.AirlockManager;
 import dev.galacticraft.mod.machine.SealerManager;
+import dev.galacticraft.mod.machine.SolarPanelManager;
 import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 
 @Mixin(Level.class)
-public class LevelMixin implements GCLevelAccessor {
+public abstract class LevelMixin implements GCLevelAccessor {
     @Unique
     private final SealerManager sealerManager = new SealerManager((Level) (Object) this);
+    @Unique
+    private final AirlockManager airlockManager = new AirlockManager();
+    @Unique
+    private final SolarPanelManager solarPanelManager = new SolarPanelManager();
 
     @Override
     public SealerManager galacticraft$getSealerManager() {
         return sealerManager;
     }
+
+    @Override
+    public AirlockManager galacticraft$getAirlockManager() {
+        return this.airlockManager;
+    }
+
+    @Override
+    public SolarPanelManager galacticraft$getSolarPanelManager() {
+        return this.solarPanelManager;
+    }
+
+    @Override
+    public boolean galacticraft$hasFootprints() {
+        return ((Level) (Object) this).galacticraft$getEnvironment().footprints();
+    }
 }
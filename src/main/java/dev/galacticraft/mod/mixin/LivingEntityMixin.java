@@ -26,13 +26,11 @@
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.accessor.CryogenicAccessor;
 import dev.galacticraft.mod.content.GCBlocks;
 import dev.galacticraft.mod.content.block.special.TinLadderBlock;
 import dev.galacticraft.mod.content.item.CannedFoodItem;
-import dev.galacticraft.mod.tag.GCDimensionTypeTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
@@ -150,34 +148,26 @@ public void setCryogenicChamberCooldown(int cryogenicChamberCooldown) {
     @ModifyReturnValue(method = "getAttributeValue", at = @At(value = "RETURN"))
     private double gc$adjustSafeFallDistance(double original, Holder<Attribute> attribute) {
         if (attribute == Attributes.SAFE_FALL_DISTANCE) {
-            Holder<CelestialBody<?, ?>> holder = this.level().galacticraft$getCelestialBody();
-            if (holder != null) {
-                double gravity = holder.value().gravity();
-                return gravity > 0 ? original / gravity : original;
-            }
+            double gravity = this.level().galacticraft$getEnvironment().gravity();
+            return gravity > 0 ? original / gravity : original;
         }
         return original;
     }
 
     @ModifyArg(method = "calculateFallDamage", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/Mth;ceil(D)I"), index = 0)
     protected double gc$adjustFallDamage(double original) {
-        Holder<CelestialBody<?, ?>> holder = this.level().galacticraft$getCelestialBody();
-        return holder != null ? original * holder.value().gravity() : original;
+        return original * this.level().galacticraft$getEnvironment().gravity();
     }
 
     @ModifyExpressionValue(method = "travel", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;isFallFlying()Z"))
     private boolean gc$canStartFallFlying(boolean original) {
-        return this.level().galacticraft$hasDimensionTypeTag(GCDimensionTypeTags.VACUUM) ? false : original;
+        return this.level().galacticraft$getEnvironment().vacuum() ? false : original;
     }
 
     @ModifyArg(method = "travel", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;setDeltaMovement(Lnet/minecraft/world/phys/Vec3;)V", ordinal = 6), index = 0)
     private Vec3 gc$adjustAtmosphericDrag(Vec3 original) {
-        Holder<CelestialBody<?, ?>> holder = this.level().galacticraft$getCelestialBody();
-        if (holder != null) {
-            float drag = holder.value().atmosphere().pressure() / 2000.0F;
-            return original.multiply(1.0F - drag, 1.0F - drag * 2.0F, 1.0F - drag);
-        }
-        return original;
+        float drag = this.level().galacticraft$getEnvironment().drag();
+        return drag != 0.0F ? original.multiply(1.0F - drag, 1.0F - drag * 2.0F, 1.0F - drag) : original;
     }
 
     @WrapOperation(method = "triggerItemUseEffects", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;spawnItemParticles(Lnet/minecraft/world/item/ItemStack;I)V"))
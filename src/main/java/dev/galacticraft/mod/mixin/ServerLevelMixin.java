@@ -55,6 +55,7 @@
 
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 @Mixin(ServerLevel.class)
@@ -93,6 +94,11 @@ private void onBlockChanges(BlockPos pos, BlockState oldState, BlockState newSta
         }
     }
 
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void tickAirlockProximity(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        this.galacticraft$getAirlockManager().updateProximity(this);
+    }
+
     @Inject(method = "tickChunk", at = @At("HEAD"))
     private void tickFootprints(LevelChunk chunk, int randomTickSpeed, CallbackInfo ci) {
         var profiler = getProfiler();
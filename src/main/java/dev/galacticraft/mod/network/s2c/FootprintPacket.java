@@ -24,33 +24,131 @@
 
 import dev.galacticraft.impl.network.s2c.S2CPayload;
 import dev.galacticraft.mod.Constant;
-import dev.galacticraft.mod.client.render.FootprintRenderer;
-import dev.galacticraft.mod.misc.footprint.Footprint;
+import dev.galacticraft.mod.misc.footprint.ChunkFootprints;
+import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import dev.galacticraft.mod.misc.footprint.FootprintOwners;
 import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2IntArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
-public record FootprintPacket(long chunk, List<Footprint> footprints) implements S2CPayload {
+/**
+ * Synchronizes the footprints of a chunk. The footprints are encoded once into {@link #data} so the same payload can be
+ * sent to every player tracking the chunk.
+ * <p>
+ * Positions are quantized relative to the chunk origin and owners are written as indices into an owner table at the
+ * start of the payload. The dimension is implied by the level the client is in.
+ *
+ * @param chunk the packed position of the chunk
+ * @param data the encoded footprints
+ */
+public record FootprintPacket(long chunk, byte[] data) implements S2CPayload {
     public static final StreamCodec<ByteBuf, FootprintPacket> STREAM_CODEC = StreamCodec.composite(
             StreamCodecs.LONG,
             p -> p.chunk,
-            ByteBufCodecs.<ByteBuf, Footprint>list().apply(Footprint.STREAM_CODEC),
-            p -> p.footprints,
+            ByteBufCodecs.BYTE_ARRAY,
+            p -> p.data,
             FootprintPacket::new
     );
     public static final ResourceLocation ID = Constant.id("footprint");
     public static final CustomPacketPayload.Type<FootprintPacket> TYPE = new CustomPacketPayload.Type<>(ID);
 
+    private static final float POSITION_SCALE = 4096.0F;
+    private static final float HEIGHT_SCALE = 16.0F;
+    private static final float ROTATION_SCALE = 256.0F / Mth.TWO_PI;
+
+    /**
+     * Encodes the footprints of a chunk that were added after {@code baseline}.
+     *
+     * @param baseline the next footprint id at the time of the last sync, or {@code -1} to send a full snapshot
+     */
+    public static FootprintPacket create(long chunk, ChunkFootprints footprints, int baseline, FootprintOwners owners) {
+        int start = baseline < 0 ? 0 : footprints.indexOfId(baseline);
+        int count = footprints.size() - start;
+
+        Int2IntMap localOwners = new Int2IntArrayMap();
+        List<UUID> ownerTable = new ArrayList<>();
+        for (int i = start; i < footprints.size(); i++) {
+            int owner = footprints.getOwner(i);
+            if (!localOwners.containsKey(owner)) {
+                localOwners.put(owner, ownerTable.size());
+                ownerTable.add(owners.getOwner(owner));
+            }
+        }
+
+        double originX = ChunkPos.getX(chunk) << 4;
+        double originZ = ChunkPos.getZ(chunk) << 4;
+        ByteBuf buf = Unpooled.buffer(8 + ownerTable.size() * 16 + count * 10);
+        buf.writeBoolean(baseline < 0);
+        VarInt.write(buf, ownerTable.size());
+        for (UUID owner : ownerTable) {
+            UUIDUtil.STREAM_CODEC.encode(buf, owner);
+        }
+        VarInt.write(buf, count);
+        for (int i = start; i < footprints.size(); i++) {
+            buf.writeShort(Mth.clamp(Mth.floor((footprints.getX(i) - originX) * POSITION_SCALE), 0, 0xFFFF));
+            buf.writeShort(Mth.clamp(Mth.floor((footprints.getZ(i) - originZ) * POSITION_SCALE), 0, 0xFFFF));
+            buf.writeShort(Mth.floor(footprints.getY(i) * HEIGHT_SCALE));
+            buf.writeByte(Mth.floor(footprints.getRotation(i) * ROTATION_SCALE));
+            VarInt.write(buf, footprints.getAge(i));
+            VarInt.write(buf, localOwners.get(footprints.getOwner(i)));
+        }
+
+        byte[] data = new byte[buf.readableBytes()];
+        buf.readBytes(data);
+        return new FootprintPacket(chunk, data);
+    }
+
+    /**
+     * Decodes the footprints into the given manager. A snapshot replaces every footprint of the chunk, while a delta
+     * skips the footprints of {@code self}, which the client already recorded itself.
+     */
+    public void apply(FootprintManager manager, UUID self) {
+        ByteBuf buf = Unpooled.wrappedBuffer(this.data);
+        boolean snapshot = buf.readBoolean();
+        if (snapshot) {
+            manager.clearFootprints(this.chunk);
+        }
+
+        UUID[] owners = new UUID[VarInt.read(buf)];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = UUIDUtil.STREAM_CODEC.decode(buf);
+        }
+
+        double originX = ChunkPos.getX(this.chunk) << 4;
+        double originZ = ChunkPos.getZ(this.chunk) << 4;
+        int count = VarInt.read(buf);
+        for (int i = 0; i < count; i++) {
+            double x = originX + buf.readUnsignedShort() / POSITION_SCALE;
+            double z = originZ + buf.readUnsignedShort() / POSITION_SCALE;
+            double y = buf.readShort() / HEIGHT_SCALE;
+            float rotation = buf.readUnsignedByte() / ROTATION_SCALE;
+            short age = (short) VarInt.read(buf);
+            UUID owner = owners[VarInt.read(buf)];
+            if (snapshot || !owner.equals(self)) {
+                manager.addFootprint(this.chunk, x, y, z, rotation, age, owner);
+            }
+        }
+    }
+
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
-        return () -> FootprintRenderer.setFootprints(this.chunk, this.footprints);
+        return () -> this.apply(context.player().level().galacticraft$getFootprintManager(), context.player().getUUID());
     }
 
     @Override
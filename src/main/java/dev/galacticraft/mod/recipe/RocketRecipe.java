@@ -38,6 +38,7 @@
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static dev.galacticraft.mod.Constant.RocketWorkbench.CENTER_X;
@@ -55,6 +56,10 @@ public class RocketRecipe implements Recipe<RecipeInput> {
 
     private final int bodyHeight;
 
+    private final NonNullList<Ingredient> ingredients;
+    private final Ingredient[] slots;
+    private final Ingredient[] distinctIngredients;
+
     public RocketRecipe(String group, ItemStack result, int bodyHeight, Ingredient body, Ingredient cone, Ingredient engine, Ingredient fins, Ingredient boosters, Ingredient storage) {
         this.group = group;
         this.result = result;
@@ -66,10 +71,21 @@ public RocketRecipe(String group, ItemStack result, int bodyHeight, Ingredient b
         this.fins = fins;
         this.boosters = boosters;
         this.storage = storage;
+
+        this.slots = this.layoutIngredients().toArray(new Ingredient[0]);
+        this.ingredients = NonNullList.of(Ingredient.EMPTY, this.slots.clone());
+        this.distinctIngredients = Arrays.stream(this.slots).distinct().toArray(Ingredient[]::new);
     }
 
+    /**
+     * {@return the ingredient in each workbench slot}
+     */
     @Override
     public @NotNull NonNullList<Ingredient> getIngredients() {
+        return this.ingredients;
+    }
+
+    private NonNullList<Ingredient> layoutIngredients() {
         NonNullList<Ingredient> ingredients = NonNullList.create();
         ingredients.add(this.cone);
 
@@ -100,19 +116,28 @@ public RocketRecipe(String group, ItemStack result, int bodyHeight, Ingredient b
 
     @Override
     public boolean matches(RecipeInput input, Level level) {
-        NonNullList<Ingredient> ingredients = this.getIngredients();
-
-        if (ingredients.size() != input.size())
+        if (this.slots.length != input.size())
             return false;
 
-        for (int i = 0; i < ingredients.size(); i++) {
-            if (!ingredients.get(i).test(input.getItem(i)))
+        for (int i = 0; i < this.slots.length; i++) {
+            if (!this.slots[i].test(input.getItem(i)))
                 return false;
         }
 
         return true;
     }
 
+    /**
+     * {@return whether the stack can be placed in any slot of this recipe}
+     */
+    public boolean isIngredient(ItemStack stack) {
+        for (Ingredient ingredient : this.distinctIngredients) {
+            if (ingredient.test(stack))
+                return true;
+        }
+        return false;
+    }
+
     @Override
     public @NotNull ItemStack assemble(RecipeInput input, HolderLookup.Provider lookup) {
         return this.getResultItem(lookup).copy();
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeInput;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Looks up rocket recipes by the first non-empty stack of the input, so that matching only tests
+ * recipes whose ingredient in that slot could accept it. Results are always reported in recipe manager order, identical to a linear scan.
+ */
+public final class RocketRecipeIndex {
+    // keyed by the recipe manager's recipe collection, which is replaced whenever recipes are (re)loaded
+    private static final Map<Collection<RecipeHolder<?>>, RocketRecipeIndex> INDICES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<RecipeHolder<RocketRecipe>> recipes;
+    // per slot: the recipes whose ingredient in that slot accepts an item
+    private final List<Map<Item, IntList>> bySlotItem = new ArrayList<>();
+    // per slot: the recipes whose ingredient in that slot is a custom ingredient that may accept items it does not list
+    private final List<IntList> alwaysTest = new ArrayList<>();
+    private final IntList acceptsAllEmpty = new IntArrayList();
+
+    public RocketRecipeIndex(List<RecipeHolder<RocketRecipe>> recipes) {
+        this.recipes = List.copyOf(recipes);
+
+        Set<Item> items = new ReferenceOpenHashSet<>();
+        for (int i = 0; i < this.recipes.size(); i++) {
+            List<Ingredient> ingredients = this.recipes.get(i).value().getIngredients();
+            boolean acceptsEmpty = true;
+            for (int slot = 0; slot < ingredients.size(); slot++) {
+                if (this.bySlotItem.size() == slot) {
+                    this.bySlotItem.add(new Reference2ObjectOpenHashMap<>());
+                    this.alwaysTest.add(new IntArrayList());
+                }
+
+                Ingredient ingredient = ingredients.get(slot);
+                acceptsEmpty &= ingredient.test(ItemStack.EMPTY);
+                if (ingredient.requiresTesting()) {
+                    this.alwaysTest.get(slot).add(i);
+                    continue;
+                }
+
+                Map<Item, IntList> byItem = this.bySlotItem.get(slot);
+                items.clear();
+                for (ItemStack stack : ingredient.getItems()) {
+                    if (items.add(stack.getItem())) {
+                        byItem.computeIfAbsent(stack.getItem(), k -> new IntArrayList()).add(i);
+                    }
+                }
+            }
+            if (acceptsEmpty) {
+                this.acceptsAllEmpty.add(i);
+            }
+        }
+    }
+
+    public static RocketRecipeIndex get(RecipeManager manager) {
+        return INDICES.computeIfAbsent(manager.getRecipes(), k -> new RocketRecipeIndex(manager.getAllRecipesFor(GCRecipes.ROCKET_TYPE)));
+    }
+
+    public List<RecipeHolder<RocketRecipe>> recipes() {
+        return this.recipes;
+    }
+
+    public @Nullable RecipeHolder<RocketRecipe> findFirst(RecipeInput input, Level level) {
+        List<RecipeHolder<RocketRecipe>> matches = this.find(input, level, true);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    public List<RecipeHolder<RocketRecipe>> findAll(RecipeInput input, Level level) {
+        return this.find(input, level, false);
+    }
+
+    private List<RecipeHolder<RocketRecipe>> find(RecipeInput input, Level level, boolean firstOnly) {
+        int slot = 0;
+        while (slot < input.size() && input.getItem(slot).isEmpty()) {
+            slot++;
+        }
+
+        if (slot == input.size()) {
+            return this.scan(this.acceptsAllEmpty, IntList.of(), input, level, firstOnly);
+        }
+        if (slot >= this.bySlotItem.size()) {
+            // no recipe has that many slots
+            return List.of();
+        }
+        IntList candidates = this.bySlotItem.get(slot).getOrDefault(input.getItem(slot).getItem(), IntList.of());
+        return this.scan(candidates, this.alwaysTest.get(slot), input, level, firstOnly);
+    }
+
+    /**
+     * Tests the union of two sorted candidate lists in ascending recipe order.
+     */
+    private List<RecipeHolder<RocketRecipe>> scan(IntList a, IntList b, RecipeInput input, Level level, boolean firstOnly) {
+        List<RecipeHolder<RocketRecipe>> matches = new ArrayList<>(0);
+        int i = 0;
+        int j = 0;
+        while (i < a.size() || j < b.size()) {
+            int next;
+            if (j >= b.size() || (i < a.size() && a.getInt(i) < b.getInt(j))) {
+                next = a.getInt(i++);
+            } else {
+                next = b.getInt(j++);
+            }
+
+            RecipeHolder<RocketRecipe> recipe = this.recipes.get(next);
+            if (recipe.value().matches(input, level)) {
+                matches.add(recipe);
+                if (firstOnly) break;
+            }
+        }
+        return matches;
+    }
+}
@@ -35,6 +35,7 @@
 import dev.galacticraft.mod.content.rocket.part.data.RocketUpgradeData;
 import dev.galacticraft.mod.machine.storage.VariableSizedContainer;
 import dev.galacticraft.mod.recipe.RocketRecipe;
+import dev.galacticraft.mod.recipe.RocketRecipeIndex;
 import dev.galacticraft.mod.tag.GCItemTags;
 import dev.galacticraft.mod.world.inventory.RocketResultSlot;
 import io.netty.buffer.ByteBuf;
@@ -53,6 +54,7 @@
 import net.minecraft.world.item.EitherHolder;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.TntBlock;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -166,7 +168,7 @@ public RocketWorkbenchMenu(int syncId, Inventory playerInventory, OpeningData da
     }
 
     protected boolean isIngredient(ItemStack stack) {
-        return this.recipe.value().getIngredients().stream().distinct().anyMatch(ingredient -> ingredient.test(stack));
+        return this.recipe.value().isIngredient(stack);
     }
 
     protected boolean isWorkbenchInventory(int slotIndex) {
@@ -263,8 +265,10 @@ public void onSizeChanged() {
 
     @Override
     public void onItemChanged() {
-        if (this.recipe.value().matches(this.workbench.ingredients.asInput(), this.workbench.getLevel())) {
-            ItemStack output = this.recipe.value().result().copy();
+        Level level = this.workbench.getLevel();
+        RecipeHolder<RocketRecipe> match = RocketRecipeIndex.get(level.getRecipeManager()).findFirst(this.workbench.ingredients.asInput(), level);
+        if (match != null) {
+            ItemStack output = match.value().result().copy();
 
             RocketData base = output.getOrDefault(GCDataComponents.ROCKET_DATA, RocketPrefabs.TIER_1);
             RocketData upgraded = this.withWorkbenchUpgrade(base);
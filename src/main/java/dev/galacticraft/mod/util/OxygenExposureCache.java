@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.util;
+
+import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-block-entity cache of whether a burning block should go out, i.e. whether neither the block nor the one in
+ * front of it is breathable. The answer is only recomputed when the oxygen version of one of the two chunk sections
+ * involved changes, so repeated checks within and across ticks are field reads.
+ */
+public class OxygenExposureCache {
+    private @Nullable Level level = null;
+    private long pos = Long.MAX_VALUE;
+    private @Nullable Direction facing = null;
+    private boolean defaultBreathable;
+    private @Nullable LevelChunk frontChunk = null;
+    private int frontChunkX;
+    private int frontChunkZ;
+    private @Nullable ChunkSectionOxygenAccessor section = null;
+    private @Nullable ChunkSectionOxygenAccessor frontSection = null;
+    private int version;
+    private int frontVersion;
+    private boolean extinguish;
+
+    public boolean shouldExtinguish(Level level, BlockPos pos, Direction facing) {
+        if (level != this.level || pos.asLong() != this.pos || facing != this.facing
+                || level.getDefaultBreathable() != this.defaultBreathable || this.frontChunkReloaded(level)) {
+            this.resolve(level, pos, facing);
+        } else if (version(this.section) == this.version && version(this.frontSection) == this.frontVersion) {
+            return this.extinguish;
+        }
+
+        this.version = version(this.section);
+        this.frontVersion = version(this.frontSection);
+        this.extinguish = !level.isBreathable(pos.relative(facing)) && !level.isBreathable(pos);
+        return this.extinguish;
+    }
+
+    private void resolve(Level level, BlockPos pos, Direction facing) {
+        this.level = level;
+        this.pos = pos.asLong();
+        this.facing = facing;
+        this.defaultBreathable = level.getDefaultBreathable();
+
+        LevelChunk chunk = level.getChunkAt(pos);
+        BlockPos front = pos.relative(facing);
+        this.frontChunkX = SectionPos.blockToSectionCoord(front.getX());
+        this.frontChunkZ = SectionPos.blockToSectionCoord(front.getZ());
+        boolean sameChunk = this.frontChunkX == chunk.getPos().x && this.frontChunkZ == chunk.getPos().z;
+        // a neighbouring chunk can unload and come back with new sections while this one stays loaded
+        this.frontChunk = sameChunk ? null : level.getChunk(this.frontChunkX, this.frontChunkZ);
+        this.section = section(level, chunk, pos.getY());
+        this.frontSection = section(level, sameChunk ? chunk : this.frontChunk, front.getY());
+    }
+
+    private boolean frontChunkReloaded(Level level) {
+        return this.frontChunk != null && level.getChunkSource().getChunkNow(this.frontChunkX, this.frontChunkZ) != this.frontChunk;
+    }
+
+    private static @Nullable ChunkSectionOxygenAccessor section(Level level, LevelChunk chunk, int y) {
+        // outside the build height the answer only depends on the default breathability of the level
+        if (y < level.getMinBuildHeight() || y >= level.getMaxBuildHeight()) return null;
+        return (ChunkSectionOxygenAccessor) chunk.getSection(chunk.getSectionIndex(y));
+    }
+
+    private static int version(@Nullable ChunkSectionOxygenAccessor section) {
+        return section == null ? 0 : section.galacticraft$getOxygenVersion();
+    }
+}
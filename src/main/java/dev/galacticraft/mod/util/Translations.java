@@ -147,6 +147,15 @@ interface GcHouston {
         String SUCCESS = "commands.galacticraft.gchouston.success";
     }
 
+    interface Profile {
+        String STARTED = "commands.galacticraft.profile.started";
+        String STOPPED = "commands.galacticraft.profile.stopped";
+        String DUMPED = "commands.galacticraft.profile.dumped";
+        String ALREADY_RUNNING = "commands.galacticraft.profile.already_running";
+        String NOT_RUNNING = "commands.galacticraft.profile.not_running";
+        String DUMP_FAILED = "commands.galacticraft.profile.dump_failed";
+    }
+
     interface Config {
         String TITLE = "config.galacticraft.title";
         String RESET = "config.galacticraft.reset";
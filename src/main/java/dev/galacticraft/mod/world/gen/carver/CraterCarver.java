@@ -32,12 +32,15 @@
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.CarvingMask;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.levelgen.Aquifer;
 import net.minecraft.world.level.levelgen.carver.CarvingContext;
 import net.minecraft.world.level.levelgen.carver.WorldCarver;
+import org.jetbrains.annotations.VisibleForTesting;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 public class CraterCarver extends WorldCarver<CraterCarverConfig> {
@@ -49,66 +52,161 @@ public CraterCarver(Codec<CraterCarverConfig> configCodec) {
     public boolean carve(CarvingContext context, CraterCarverConfig config, ChunkAccess chunk, Function<BlockPos, Holder<Biome>> posToBiome, RandomSource random, Aquifer aquiferSampler, ChunkPos pos, CarvingMask carvingMask) {
         int y = config.y.sample(random, context);
         //pos = center chunk pos
-        BlockPos craterCenter = pos.getBlockAt(random.nextInt(16), y, random.nextInt(16));
+        Crater crater = Crater.plan(random, pos, y, config);
+
+        // most craters that start nearby do not reach this chunk at all
+        if (!crater.reaches(chunk.getPos())) {
+            return false;
+        }
 
         if (!chunk.getReferencesForStructure(context.registryAccess().registryOrThrow(Registries.STRUCTURE).getOrThrow(GCStructures.Moon.VILLAGE)).isEmpty()) {
             return false;
         }
 
-        BlockPos.MutableBlockPos mutable = craterCenter.mutable();
-
-        double radius = 8 + (random.nextDouble() * (config.maxRadius - config.minRadius));
-        if (random.nextBoolean() && radius < (config.minRadius + config.idealRangeOffset) || radius > (config.maxRadius - config.idealRangeOffset))
-            radius = 8 + (random.nextDouble() * (config.maxRadius - config.minRadius));
-        double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
-        boolean fresh = random.nextInt(16) == 1;
-        for (int innerChunkX = 0; innerChunkX < 16; innerChunkX++) { //iterate through positions in chunk
-            for (int innerChunkZ = 0; innerChunkZ < 16; innerChunkZ++) {
-                double toDig = 0;
-
-                double xDev = Math.abs((chunk.getPos().getBlockX(innerChunkX)) - craterCenter.getX());
-                double zDev = Math.abs((chunk.getPos().getBlockZ(innerChunkZ)) - craterCenter.getZ());
-                if (xDev >= 0 && xDev < 32 && zDev >= 0 && zDev < 32) {
-                    if (xDev * xDev + zDev * zDev < radius * radius) { //distance to crater and depth
-                        xDev /= radius;
-                        zDev /= radius;
-                        final double sqrtY = xDev * xDev + zDev * zDev;
-                        double yDev = sqrtY * sqrtY * 6;
-                        double craterDepth = 5 - yDev;
-                        craterDepth *= depthMultiplier;
-                        if (craterDepth > 0.0) {
-                            toDig = craterDepth;
-                        }
-                    }
+        dig(crater, chunk, carvingMask, topPos -> context.topMaterial(posToBiome, chunk, topPos, false));
+        return true;
+    }
 
-                    if (toDig >= 1) {
-                        toDig++; // Increase crater depth, but for sum, not each crater
-                        if (fresh) toDig++; // Dig one more block, because we're not replacing the top with turf
-                    }
-                    BlockPos.MutableBlockPos copy = new BlockPos.MutableBlockPos();
-                    mutable.set(innerChunkX, y, innerChunkZ);
-                    for (int dug = 0; dug < toDig; dug++) {
-                        mutable.move(Direction.DOWN);
-                        if (!chunk.getBlockState(mutable).isAir() || carvingMask.get(innerChunkX, mutable.getY() + 64, innerChunkZ) || dug > 0) {
-                            chunk.setBlockState(mutable, AIR, false);
-                            if (dug == 0) {
-                                carvingMask.set(innerChunkX, mutable.getY() + 64, innerChunkZ);
-                            }
-                            if (!fresh && dug + 1 >= toDig && !chunk.getBlockState(copy.set(mutable).move(Direction.DOWN, 2)).isAir()) {
-                                context.topMaterial(posToBiome, chunk, mutable, false).ifPresent(blockStatex -> chunk.setBlockState(mutable.move(Direction.DOWN), blockStatex, false));
+    /**
+     * Digs the columns of {@code chunk} that the crater reaches.
+     *
+     * @param topMaterial the block that covers the floor of a crater that is not fresh, looked up for the lowest dug position
+     */
+    @VisibleForTesting
+    static void dig(Crater crater, ChunkAccess chunk, CarvingMask carvingMask, Function<BlockPos, Optional<BlockState>> topMaterial) {
+        ChunkPos chunkPos = chunk.getPos();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        BlockPos.MutableBlockPos below = new BlockPos.MutableBlockPos();
+        int maxX = crater.maxX(chunkPos);
+        int minZ = crater.minZ(chunkPos);
+        int maxZ = crater.maxZ(chunkPos);
+        for (int innerChunkX = crater.minX(chunkPos); innerChunkX <= maxX; innerChunkX++) { //iterate through positions in chunk
+            for (int innerChunkZ = minZ; innerChunkZ <= maxZ; innerChunkZ++) {
+                double toDig = crater.depth(chunkPos.getBlockX(innerChunkX), chunkPos.getBlockZ(innerChunkZ));
+                mutable.set(innerChunkX, crater.y(), innerChunkZ);
+                for (int dug = 0; dug < toDig; dug++) {
+                    mutable.move(Direction.DOWN);
+                    if (!chunk.getBlockState(mutable).isAir() || carvingMask.get(innerChunkX, mutable.getY() + 64, innerChunkZ) || dug > 0) {
+                        chunk.setBlockState(mutable, AIR, false);
+                        if (dug == 0) {
+                            carvingMask.set(innerChunkX, mutable.getY() + 64, innerChunkZ);
+                        }
+                        if (!crater.fresh() && dug + 1 >= toDig && !chunk.getBlockState(below.set(mutable).move(Direction.DOWN, 2)).isAir()) {
+                            Optional<BlockState> top = topMaterial.apply(mutable);
+                            if (top.isPresent()) {
+                                chunk.setBlockState(mutable.move(Direction.DOWN), top.get(), false);
                             }
-                        } else {
-                            dug--;
                         }
+                    } else {
+                        dug--;
                     }
                 }
             }
         }
-        return true;
     }
 
     @Override
     public boolean isStartChunk(CraterCarverConfig config, RandomSource random) {
         return random.nextFloat() <= config.probability;
     }
+
+    /**
+     * The centre, size and shape of one crater. All of it comes from the random of the chunk the crater starts in, so
+     * every chunk that the crater reaches into plans the same crater.
+     *
+     * @param y the height the crater is dug down from
+     * @param depthMultiplier scales the depth profile of the whole crater
+     * @param fresh whether the floor is left bare instead of being covered with the biome's top material
+     */
+    @VisibleForTesting
+    record Crater(int centerX, int y, int centerZ, double radius, double depthMultiplier, boolean fresh) {
+        // columns further from the centre than this are never dug, whatever the radius
+        private static final int MAX_REACH = 32;
+
+        static Crater plan(RandomSource random, ChunkPos start, int y, CraterCarverConfig config) {
+            return plan(random, start, y, config.minRadius, config.maxRadius, config.idealRangeOffset);
+        }
+
+        @VisibleForTesting
+        static Crater plan(RandomSource random, ChunkPos start, int y, int minRadius, int maxRadius, int idealRangeOffset) {
+            int centerX = start.getBlockX(random.nextInt(16));
+            int centerZ = start.getBlockZ(random.nextInt(16));
+            double radius = 8 + (random.nextDouble() * (maxRadius - minRadius));
+            if (random.nextBoolean() && radius < (minRadius + idealRangeOffset) || radius > (maxRadius - idealRangeOffset))
+                radius = 8 + (random.nextDouble() * (maxRadius - minRadius));
+            double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
+            boolean fresh = random.nextInt(16) == 1;
+            return new Crater(centerX, y, centerZ, radius, depthMultiplier, fresh);
+        }
+
+        /**
+         * {@return how many blocks from the centre, along either axis, a column may be and still be dug}
+         */
+        int reach() {
+            return (int) Math.ceil(Math.min(this.radius, MAX_REACH));
+        }
+
+        /**
+         * {@return whether any column of the chunk is within the crater's reach}
+         */
+        boolean reaches(ChunkPos chunk) {
+            return this.minX(chunk) <= this.maxX(chunk) && this.minZ(chunk) <= this.maxZ(chunk);
+        }
+
+        /**
+         * {@return the first column within reach along x, as an offset into the chunk}
+         */
+        int minX(ChunkPos chunk) {
+            return Math.max(this.centerX - this.reach() - chunk.getMinBlockX(), 0);
+        }
+
+        /**
+         * {@return the last column within reach along x, as an offset into the chunk}
+         */
+        int maxX(ChunkPos chunk) {
+            return Math.min(this.centerX + this.reach() - chunk.getMinBlockX(), 15);
+        }
+
+        /**
+         * {@return the first column within reach along z, as an offset into the chunk}
+         */
+        int minZ(ChunkPos chunk) {
+            return Math.max(this.centerZ - this.reach() - chunk.getMinBlockZ(), 0);
+        }
+
+        /**
+         * {@return the last column within reach along z, as an offset into the chunk}
+         */
+        int maxZ(ChunkPos chunk) {
+            return Math.min(this.centerZ + this.reach() - chunk.getMinBlockZ(), 15);
+        }
+
+        /**
+         * {@return how deep the column at the given block coordinates is dug, or {@code 0} if it is left alone}
+         */
+        double depth(int x, int z) {
+            double xDev = Math.abs(x - this.centerX);
+            double zDev = Math.abs(z - this.centerZ);
+            if (xDev >= MAX_REACH || zDev >= MAX_REACH || xDev * xDev + zDev * zDev >= this.radius * this.radius) {
+                return 0;
+            }
+
+            xDev /= this.radius;
+            zDev /= this.radius;
+            final double sqrtY = xDev * xDev + zDev * zDev;
+            double yDev = sqrtY * sqrtY * 6;
+            double craterDepth = 5 - yDev;
+            craterDepth *= this.depthMultiplier;
+            if (craterDepth <= 0.0) {
+                return 0;
+            }
+
+            double toDig = craterDepth;
+            if (toDig >= 1) {
+                toDig++; // Increase crater depth, but for sum, not each crater
+                if (this.fresh) toDig++; // Dig one more block, because we're not replacing the top with turf
+            }
+            return toDig;
+        }
+    }
 }
@@ -200,6 +200,13 @@ private ChunkAccess generateChunkData(Blender blender, RandomState randomState,
         final int rangeY = AsteroidChunkGenerator.MAX_ASTEROID_Y - AsteroidChunkGenerator.MIN_ASTEROID_Y;
         final int rangeSize = AsteroidChunkGenerator.MAX_ASTEROID_RADIUS - AsteroidChunkGenerator.MIN_ASTEROID_RADIUS;
 
+        //density is sampled every second block over the 6x6 chunk area around this chunk
+        final int densityMinX = (chunkX - 3) * 16;
+        final int densityMinZ = (chunkZ - 3) * 16;
+        final int densitySize = 6 * 16 / 2;
+        final float[] density = new float[densitySize * densitySize];
+        this.asteroidDensity.fillNoise2d(density, densityMinX, densityMinZ, 2, 2, densitySize, densitySize);
+
         //If asteroid centre is nearby might need to generate some asteroid parts in this chunk
         for (int i = chunkX - 3; i < chunkX + 3; i++) {
             int minX = i * 16;
@@ -210,9 +217,9 @@ private ChunkAccess generateChunkData(Blender blender, RandomState randomState,
 
                 //something about redundant code in gc4's code
                 for (int x = minX; x < maxX; x += 2) {
+                    int densityRow = ((x - densityMinX) >> 1) * densitySize;
                     for (int z = minZ; z < maxZ; z += 2) {
-                        //the next line is called 3136 times per chunk generated apparently? saying something about slow getNoise
-                        if (this.randFromPointPos(x, z) < (this.asteroidDensity.getNoise(x, z) + 0.4) / asteroidChance) {
+                        if (this.randFromPointPos(x, z) < (density[densityRow + ((z - densityMinZ) >> 1)] + 0.4) / asteroidChance) {
                             random.setSeed(x + z * 3067);
                             int y = random.nextInt(rangeY) + AsteroidChunkGenerator.MIN_ASTEROID_Y;
                             int size = random.nextInt(rangeSize) + AsteroidChunkGenerator.MIN_ASTEROID_RADIUS;
@@ -271,33 +278,15 @@ private void generateAsteroid(Random rand, int asteroidX, int asteroidY, int ast
         float[] sizeZArray = new float[xSize * ySize];
         float[] sizeYArray = new float[xSize * zSize];
 
-        for (int x = 0; x < xSize; x++) {
-            int xx = x * zSize;
-            float xxx = x + noiseOffsetX;
-            for (int z = 0; z < zSize; z++) {
-                sizeYArray[xx + z] = this.asteroidSkewY.getNoise(xxx, z + noiseOffsetZ);
-            }
-        }
+        this.asteroidSkewY.fillNoise2d(sizeYArray, noiseOffsetX, noiseOffsetZ, 1, 1, xSize, zSize);
 
         AsteroidData asteroidData = new AsteroidData(sizeYArray, xMin, zMin, xMax, zMax, zSize, size, asteroidX, asteroidY, asteroidZ);
         this.largeAsteroidsLastChunkX = chunkX;
         this.largeAsteroidsLastChunkZ = chunkZ;
 
-        for (int y = 0; y < ySize; y++) {
-            int yy = y * zSize;
-            float yyy = y + noiseOffsetY;
-            for (int z = 0; z < zSize; z++) {
-                sizeXArray[yy + z] = this.asteroidSkewX.getNoise(yyy, z + noiseOffsetZ);
-            }
-        }
-
-        for (int x = 0; x < xSize; x++) {
-            int xx = x * ySize;
-            float xxx = x + noiseOffsetX;
-            for (int y = 0; y < ySize; y++) {
-                sizeZArray[xx + y] = this.asteroidSkewZ.getNoise(xxx, y + noiseOffsetY);
-            }
-        }
+        this.asteroidSkewX.fillNoise2d(sizeXArray, noiseOffsetY, noiseOffsetZ, 1, 1, ySize, zSize);
+        this.asteroidSkewZ.fillNoise2d(sizeZArray, noiseOffsetX, noiseOffsetY, 1, 1, xSize, ySize);
+        float[] turbulence = new float[ySize];
 
         double shellThickness = 0;
         int terrainY = 0;
@@ -326,6 +315,7 @@ private void generateAsteroid(Random rand, int asteroidX, int asteroidY, int ast
                 int distanceZ = asteroidZ - (z + chunkZ);
                 int indexBase = indexBaseX | z * AsteroidChunkGenerator.CHUNK_SIZE_Y;
                 float zz = z + chunkZ;
+                this.asteroidTurbulance.fillNoise3dY(turbulence, xx, yMin, zz, 1, ySize);
 
                 for (int y = yMin; y < yMax; y++) {
                     float dSizeX = distanceX / (size + sizeXArray[(y - yMin) * zSize + z - zMin]);
@@ -336,7 +326,7 @@ private void generateAsteroid(Random rand, int asteroidX, int asteroidY, int ast
                     distanceY *= distanceY;
                     float distance = dSizeX + distanceY / sizeY + dSizeZ;
                     float distanceAbove = distance;
-                    distance += this.asteroidTurbulance.getNoise(xx, y, zz);
+                    distance += turbulence[y - yMin];
 
                     if (distance <= 1) {
                         int index = indexBase | y;
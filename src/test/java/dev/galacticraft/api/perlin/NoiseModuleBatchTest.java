@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.api.perlin;
+
+import dev.galacticraft.api.perlin.generator.Billowed;
+import dev.galacticraft.api.perlin.generator.Gradient;
+import dev.galacticraft.api.perlin.generator.RidgedMulti;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NoiseModuleBatchTest {
+    private static final int ITERATIONS = 500;
+
+    @Test
+    public void gradient() {
+        Random random = new Random(26);
+        for (int i = 0; i < ITERATIONS; i++) {
+            check(configure(new Gradient(random.nextLong(), 1, 0.2F), random), random);
+            check(configure(new Gradient(random.nextLong(), 3, 0.5F), random), random);
+        }
+    }
+
+    @Test
+    public void billowed() {
+        Random random = new Random(27);
+        for (int i = 0; i < ITERATIONS; i++) {
+            check(configure(new Billowed(random.nextLong(), 2, 0.25F), random), random);
+            check(configure(new Billowed(random.nextLong(), 4, 0.5F), random), random);
+        }
+    }
+
+    @Test
+    public void ridgedMulti() {
+        Random random = new Random(28);
+        for (int i = 0; i < ITERATIONS; i++) {
+            check(configure(new RidgedMulti(random.nextLong(), 3), random), random);
+        }
+    }
+
+    private static NoiseModule configure(NoiseModule module, Random random) {
+        module.frequencyX = random.nextFloat() * 0.1F;
+        module.frequencyY = random.nextFloat() * 0.1F;
+        module.frequencyZ = random.nextFloat() * 0.1F;
+        module.amplitude = random.nextFloat() * 8.0F;
+        return module;
+    }
+
+    private static void check(NoiseModule module, Random random) {
+        float x0 = (random.nextFloat() - 0.5F) * 100000.0F;
+        float y0 = (random.nextFloat() - 0.5F) * 512.0F;
+        float z0 = (random.nextFloat() - 0.5F) * 100000.0F;
+        float dx = random.nextInt(3) == 0 ? 1.0F : random.nextFloat() * 4.0F;
+        float dz = random.nextInt(3) == 0 ? 1.0F : random.nextFloat() * 4.0F;
+        int nx = 1 + random.nextInt(24);
+        int nz = 1 + random.nextInt(24);
+
+        float[] grid = new float[nx * nz];
+        module.fillNoise2d(grid, x0, z0, dx, dz, nx, nz);
+        for (int ix = 0; ix < nx; ix++) {
+            for (int iz = 0; iz < nz; iz++) {
+                assertBitEquals(module.getNoise(x0 + ix * dx, z0 + iz * dz), grid[ix * nz + iz]);
+            }
+        }
+
+        float[] line = new float[nz];
+        module.fillNoise3dY(line, x0, y0, z0, dz, nz);
+        for (int iy = 0; iy < nz; iy++) {
+            assertBitEquals(module.getNoise(x0, y0 + iy * dz, z0), line[iy]);
+        }
+    }
+
+    private static void assertBitEquals(float expected, float actual) {
+        assertEquals(Float.floatToRawIntBits(expected), Float.floatToRawIntBits(actual), () -> expected + " != " + actual);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.satellite;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SatelliteStoreTest {
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final ResourceLocation EARTH = ResourceLocation.fromNamespaceAndPath("galacticraft", "earth");
+    private static final ResourceLocation MOON = ResourceLocation.fromNamespaceAndPath("galacticraft", "moon");
+    private static final ResourceLocation A = ResourceLocation.fromNamespaceAndPath("galacticraft", "satellite_a");
+    private static final ResourceLocation B = ResourceLocation.fromNamespaceAndPath("galacticraft", "satellite_b");
+    private static final ResourceLocation C = ResourceLocation.fromNamespaceAndPath("galacticraft", "satellite_c");
+
+    private record TestSatellite(UUID owner, Optional<ResourceLocation> parent, String name) {
+        static final Codec<TestSatellite> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                UUIDUtil.STRING_CODEC.fieldOf("owner").forGetter(TestSatellite::owner),
+                ResourceLocation.CODEC.optionalFieldOf("parent").forGetter(TestSatellite::parent),
+                Codec.STRING.fieldOf("name").forGetter(TestSatellite::name)
+        ).apply(instance, TestSatellite::new));
+    }
+
+    private static SatelliteStore<TestSatellite> createStore() {
+        return new SatelliteStore<>(TestSatellite.CODEC, TestSatellite::owner, TestSatellite::parent);
+    }
+
+    private static Set<String> names(Collection<TestSatellite> satellites) {
+        return satellites.stream().map(TestSatellite::name).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void roundTrip(@TempDir Path dir) throws IOException {
+        Path directory = dir.resolve("satellites");
+        SatelliteStore<TestSatellite> store = createStore();
+        store.put(A, new TestSatellite(ALICE, Optional.of(EARTH), "a"));
+        store.put(B, new TestSatellite(ALICE, Optional.of(MOON), "b"));
+        store.put(C, new TestSatellite(BOB, Optional.of(EARTH), "c"));
+        assertEquals(3, store.save(directory, NbtOps.INSTANCE));
+        assertFalse(store.isDirty());
+        assertEquals(0, store.save(directory, NbtOps.INSTANCE));
+
+        SatelliteStore<TestSatellite> loaded = createStore();
+        loaded.load(directory, dir.resolve("satellites.dat"), NbtOps.INSTANCE);
+        assertEquals(store.view(), loaded.view());
+        assertFalse(loaded.isDirty());
+        assertEquals(Set.of("a", "b"), names(loaded.getOwnedBy(ALICE)));
+        assertEquals(Set.of("a", "c"), names(loaded.getOrbiting(EARTH)));
+    }
+
+    @Test
+    public void onlyChangedSatellitesAreWritten(@TempDir Path dir) throws IOException {
+        Path directory = dir.resolve("satellites");
+        SatelliteStore<TestSatellite> store = createStore();
+        store.put(A, new TestSatellite(ALICE, Optional.of(EARTH), "a"));
+        store.put(B, new TestSatellite(ALICE, Optional.of(MOON), "b"));
+        store.put(C, new TestSatellite(BOB, Optional.of(EARTH), "c"));
+        store.save(directory, NbtOps.INSTANCE);
+
+        store.put(A, new TestSatellite(ALICE, Optional.of(MOON), "a2"));
+        store.remove(B);
+        assertEquals(2, store.save(directory, NbtOps.INSTANCE));
+        assertFalse(Files.exists(SatelliteStore.file(directory, B)));
+
+        assertEquals(Set.of("a2"), names(store.getOwnedBy(ALICE)));
+        assertEquals(Set.of("c"), names(store.getOrbiting(EARTH)));
+        assertEquals(Set.of("a2"), names(store.getOrbiting(MOON)));
+
+        SatelliteStore<TestSatellite> loaded = createStore();
+        loaded.load(directory, dir.resolve("satellites.dat"), NbtOps.INSTANCE);
+        assertEquals(store.view(), loaded.view());
+        assertNull(loaded.get(B));
+    }
+
+    @Test
+    public void markDirtyRewritesSatellite(@TempDir Path dir) {
+        Path directory = dir.resolve("satellites");
+        SatelliteStore<TestSatellite> store = createStore();
+        store.put(A, new TestSatellite(ALICE, Optional.of(EARTH), "a"));
+        store.save(directory, NbtOps.INSTANCE);
+
+        store.markDirty(B);
+        assertFalse(store.isDirty());
+        store.markDirty(A);
+        assertTrue(store.isDirty());
+        assertEquals(1, store.save(directory, NbtOps.INSTANCE));
+        assertEquals(Set.of("a"), names(store.getOwnedBy(ALICE)));
+    }
+
+    @Test
+    public void interruptedWriteKeepsPreviousRecord(@TempDir Path dir) throws IOException {
+        Path directory = dir.resolve("satellites");
+        SatelliteStore<TestSatellite> store = createStore();
+        TestSatellite original = new TestSatellite(ALICE, Optional.of(EARTH), "a");
+        store.put(A, original);
+        store.save(directory, NbtOps.INSTANCE);
+
+        // a save that crashed after starting to write the temporary file
+        Path file = SatelliteStore.file(directory, A);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, new byte[]{0x1f, (byte) 0x8b, 0x08});
+
+        SatelliteStore<TestSatellite> loaded = createStore();
+        loaded.load(directory, dir.resolve("satellites.dat"), NbtOps.INSTANCE);
+        assertEquals(original, loaded.get(A));
+        assertFalse(Files.exists(temp));
+    }
+
+    @Test
+    public void migratesLegacyFile(@TempDir Path dir) throws IOException {
+        Path legacy = dir.resolve("satellites.dat");
+        ListTag list = new ListTag();
+        CompoundTag compound = (CompoundTag) TestSatellite.CODEC.encodeStart(NbtOps.INSTANCE, new TestSatellite(BOB, Optional.empty(), "legacy")).getOrThrow();
+        compound.putString("id", C.toString());
+        list.add(compound);
+        CompoundTag root = new CompoundTag();
+        root.put("satellites", list);
+        NbtIo.writeCompressed(root, legacy);
+
+        Path directory = dir.resolve("satellites");
+        SatelliteStore<TestSatellite> store = createStore();
+        store.load(directory, legacy, NbtOps.INSTANCE);
+        assertEquals("legacy", store.get(C).name());
+        assertTrue(store.isDirty());
+        assertEquals(1, store.save(directory, NbtOps.INSTANCE));
+        assertTrue(Files.exists(SatelliteStore.file(directory, C)));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.universe.position;
+
+import dev.galacticraft.impl.universe.position.config.OrbitalCelestialPositionConfig;
+import dev.galacticraft.impl.universe.position.type.OrbitalCelestialPositionType;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CelestialEphemerisTest {
+    private static final int BODIES = 300;
+    private static final int TIMESTAMPS = 200;
+
+    @Test
+    public void matchesRecursivePositions() {
+        Random random = new Random(35);
+        int[] parents = new int[BODIES];
+        CelestialEphemeris.Orbit[] orbits = new CelestialEphemeris.Orbit[BODIES];
+        CelestialEphemeris.Orbit[] galaxyOrbits = new CelestialEphemeris.Orbit[BODIES];
+
+        // build a random forest, then shuffle ids so that parents do not always come first
+        int[] shuffle = new int[BODIES];
+        for (int i = 0; i < BODIES; i++) shuffle[i] = i;
+        for (int i = BODIES - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = shuffle[i];
+            shuffle[i] = shuffle[j];
+            shuffle[j] = tmp;
+        }
+        for (int i = 0; i < BODIES; i++) {
+            int body = shuffle[i];
+            parents[body] = i < 3 || random.nextInt(10) == 0 ? -1 : shuffle[i - 1 - random.nextInt(Math.min(i, 8))];
+            orbits[body] = orbit(random);
+            if (parents[body] == -1) galaxyOrbits[body] = orbit(random);
+        }
+
+        CelestialEphemeris ephemeris = new CelestialEphemeris(parents, orbits, galaxyOrbits);
+        for (int t = 0; t < TIMESTAMPS; t++) {
+            long time = random.nextLong(10_000_000L);
+            float delta = random.nextFloat();
+            ephemeris.update(time, delta);
+            for (int body = 0; body < BODIES; body++) {
+                Vector3f expected = recursive(body, parents, orbits, galaxyOrbits, time, delta);
+                assertEquals(expected.x, ephemeris.getX(body), "x of body " + body + " at " + time);
+                assertEquals(expected.y, ephemeris.getY(body), "y of body " + body + " at " + time);
+            }
+        }
+    }
+
+    @Test
+    public void skipsIdsWithoutBodies() {
+        Random random = new Random(7);
+        CelestialEphemeris.Orbit sun = orbit(random);
+        CelestialEphemeris.Orbit galaxy = orbit(random);
+        CelestialEphemeris.Orbit planet = orbit(random);
+        // id 1 belonged to a satellite that has since been removed
+        int[] parents = {-1, -1, 0};
+        CelestialEphemeris.Orbit[] orbits = {sun, null, planet};
+        CelestialEphemeris.Orbit[] galaxyOrbits = {galaxy, null, null};
+
+        CelestialEphemeris ephemeris = new CelestialEphemeris(parents, orbits, galaxyOrbits);
+        ephemeris.update(1234L, 0.5F);
+        Vector3f expected = recursive(2, parents, orbits, galaxyOrbits, 1234L, 0.5F);
+        assertEquals(expected.x, ephemeris.getX(2));
+        assertEquals(expected.y, ephemeris.getY(2));
+        assertEquals(0.0F, ephemeris.getX(1));
+    }
+
+    @Test
+    public void rejectsCycles() {
+        CelestialEphemeris.Orbit orbit = orbit(new Random(0));
+        assertThrows(IllegalArgumentException.class, () -> new CelestialEphemeris(new int[]{1, 0}, new CelestialEphemeris.Orbit[]{orbit, orbit}, new CelestialEphemeris.Orbit[2]));
+    }
+
+    // mirrors the recursive lookup formerly used by the celestial screen
+    private static Vector3f recursive(int body, int[] parents, CelestialEphemeris.Orbit[] orbits, CelestialEphemeris.Orbit[] galaxyOrbits, long time, float delta) {
+        Vector3f bodyPos = new Vector3f((float) orbits[body].x(time, delta), (float) orbits[body].y(time, delta), 0.0F);
+        if (parents[body] != -1) {
+            bodyPos.add(recursive(parents[body], parents, orbits, galaxyOrbits, time, delta));
+        } else {
+            bodyPos.add((float) galaxyOrbits[body].x(time, delta), (float) galaxyOrbits[body].y(time, delta), 0.0F);
+        }
+        return bodyPos;
+    }
+
+    private static CelestialEphemeris.Orbit orbit(Random random) {
+        OrbitalCelestialPositionConfig config = new OrbitalCelestialPositionConfig(0.1 + random.nextDouble() * 20.0, random.nextDouble() * 10.0, random.nextDouble() * Math.PI * 2.0, random.nextBoolean());
+        return new CelestialEphemeris.Orbit() {
+            @Override
+            public double x(long time, float delta) {
+                return OrbitalCelestialPositionType.INSTANCE.x(config, time, delta);
+            }
+
+            @Override
+            public double y(long time, float delta) {
+                return OrbitalCelestialPositionType.INSTANCE.y(config, time, delta);
+            }
+        };
+    }
+}
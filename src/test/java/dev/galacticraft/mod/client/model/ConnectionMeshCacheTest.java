@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.client.model;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
+import net.fabricmc.fabric.impl.client.indigo.renderer.IndigoRenderer;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionMeshCacheTest {
+    private static final Renderer RENDERER = IndigoRenderer.INSTANCE;
+
+    @Test
+    public void maskMatchesConnections() {
+        for (int i = 0; i < ConnectionMeshCache.CONNECTION_STATES; i++) {
+            boolean[] connections = new boolean[6];
+            for (int d = 0; d < 6; d++) {
+                connections[d] = (i & (1 << d)) != 0;
+            }
+            assertEquals(i, ConnectionMeshCache.mask(connections));
+            for (int d = 0; d < 6; d++) {
+                assertEquals(connections[d], ConnectionMeshCache.isConnected(i, d));
+            }
+        }
+    }
+
+    @Test
+    public void vacuumGlassKeysAreUnique() {
+        IntOpenHashSet keys = new IntOpenHashSet();
+        for (int i = 0; i < ConnectionMeshCache.CONNECTION_STATES; i++) {
+            for (Direction.Axis axis : new Direction.Axis[]{Direction.Axis.X, Direction.Axis.Z}) {
+                int key = VacuumGlassBakedModel.key((i & 1) != 0, (i & 2) != 0, (i & 4) != 0, (i & 8) != 0, (i & 16) != 0, (i & 32) != 0, axis);
+                assertTrue(key < ConnectionMeshCache.CONNECTION_STATES * 2);
+                assertTrue(keys.add(key));
+            }
+        }
+    }
+
+    @Test
+    public void cachedGeometryMatchesFreshGeometry() {
+        ConnectionMeshCache cache = new ConnectionMeshCache(RENDERER, 2, (emitter, key) -> VacuumGlassBakedModel.emitGeometry(emitter, emitter, emitter, key));
+        assertEquals(ConnectionMeshCache.CONNECTION_STATES * 2, cache.size());
+
+        MeshBuilder builder = RENDERER.meshBuilder();
+        for (int key = 0; key < cache.size(); key++) {
+            VacuumGlassBakedModel.emitGeometry(builder.getEmitter(), builder.getEmitter(), builder.getEmitter(), key);
+            float[] fresh = vertexData(builder.build());
+            float[] cached = vertexData(cache.get(key));
+            assertTrue(fresh.length > 0);
+            assertArrayEquals(fresh, cached, "key " + key);
+        }
+    }
+
+    private static float[] vertexData(Mesh mesh) {
+        FloatArrayList data = new FloatArrayList();
+        mesh.forEach(quad -> {
+            data.add(quad.nominalFace() == null ? -1 : quad.nominalFace().get3DDataValue());
+            data.add(quad.cullFace() == null ? -1 : quad.cullFace().get3DDataValue());
+            for (int i = 0; i < 4; i++) {
+                data.add(quad.x(i));
+                data.add(quad.y(i));
+                data.add(quad.z(i));
+                data.add(quad.u(i));
+                data.add(quad.v(i));
+            }
+        });
+        return data.toFloatArray();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.client.render.dimension.star;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StarFieldTest {
+    @Test
+    public void generationIsDeterministic() {
+        StarField a = StarField.generate(27893L, 2000, 850);
+        StarField b = StarField.generate(27893L, 2000, 850);
+        assertTrue(a.size() > 0);
+        assertFieldsEqual(a, b);
+    }
+
+    @Test
+    public void cachedFieldMatchesGenerated(@TempDir Path cacheDir) {
+        StarField generated = StarField.generate(42L, 2000, 850);
+        StarField first = StarField.loadOrGenerate(cacheDir, 42L, 2000, 850);
+        StarField cached = StarField.loadOrGenerate(cacheDir, 42L, 2000, 850);
+        assertFieldsEqual(generated, first);
+        assertFieldsEqual(generated, cached);
+    }
+
+    private static void assertFieldsEqual(StarField expected, StarField actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i));
+            assertEquals(expected.getY(i), actual.getY(i));
+            assertEquals(expected.getZ(i), actual.getZ(i));
+            assertEquals(expected.getSize(i), actual.getSize(i));
+            assertEquals(expected.getRotation(i), actual.getRotation(i));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.block.entity.AirlockControllerBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Airlock tests.
+ */
+public class AirlockTestSuite implements GalacticraftGameTest {
+    // 3x3 vertical frames in the x-y plane with the controller at the bottom centre
+    private static final BlockPos[] CONTROLLERS = {new BlockPos(2, 1, 1), new BlockPos(2, 1, 4), new BlockPos(2, 1, 7)};
+    private static final int SETTLE_TICKS = 12;
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = SETTLE_TICKS * 6 + 20)
+    public void airlockProximityMatchesPollingTest(GameTestHelper context) {
+        for (BlockPos controller : CONTROLLERS) {
+            for (int x = -1; x <= 1; x++) {
+                for (int y = 0; y <= 2; y++) {
+                    if (x == 0 && y == 1) continue;
+                    context.setBlock(controller.offset(x, y, 0), x == 0 && y == 0 ? GCBlocks.AIR_LOCK_CONTROLLER : GCBlocks.AIR_LOCK_FRAME);
+                }
+            }
+        }
+
+        ServerPlayer player = context.makeMockServerPlayerInLevel();
+        player.moveTo(context.absoluteVec(new Vec3(6.5, 1.0, 6.5)));
+
+        // nobody near: every airlock is sealed, then the player walks past each controller and away again
+        this.runAt(context, SETTLE_TICKS, () -> {
+            this.checkAirlocks(context, -1);
+            this.walk(context, player, 0);
+        });
+    }
+
+    private void walk(GameTestHelper context, ServerPlayer player, int airlock) {
+        if (airlock < CONTROLLERS.length) {
+            BlockPos controller = CONTROLLERS[airlock];
+            player.moveTo(context.absoluteVec(new Vec3(controller.getX() + 0.5, controller.getY(), controller.getZ() - 0.6)));
+            this.runAt(context, SETTLE_TICKS, () -> {
+                this.checkAirlocks(context, airlock);
+                this.walk(context, player, airlock + 1);
+            });
+        } else {
+            player.moveTo(context.absoluteVec(new Vec3(6.5, 1.0, 6.5)));
+            this.runFinalTaskAt(context, SETTLE_TICKS, () -> {
+                this.checkAirlocks(context, -1);
+                context.getLevel().getServer().getPlayerList().remove(player);
+            });
+        }
+    }
+
+    private void checkAirlocks(GameTestHelper context, int open) {
+        for (int i = 0; i < CONTROLLERS.length; i++) {
+            BlockPos controllerPos = CONTROLLERS[i];
+            AirlockControllerBlockEntity controller = context.getBlockEntity(controllerPos);
+            AABB trigger = controller.getTriggerBox();
+            boolean polled = trigger != null && !context.getLevel().getEntitiesOfClass(Player.class, trigger).isEmpty();
+            if (polled != (i == open)) {
+                context.fail(String.format("Expected a player near airlock %d to be %s by polling!", i, i == open), controllerPos);
+            }
+
+            BlockPos seal = controllerPos.above();
+            boolean sealed = context.getBlockState(seal).is(GCBlocks.AIR_LOCK_SEAL);
+            if (sealed == polled) {
+                context.fail(String.format("Expected airlock %d to be %s but it was %s!", i, polled ? "open" : "sealed", sealed ? "sealed" : "open"), seal);
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@
 
 public interface GalacticraftGameTest extends FabricGameTest {
     String SINGLE_BLOCK = "galacticraft-test:single_block";
+    String STRESS_AREA = "galacticraft-test:stress_area";
 
     default void runNext(GameTestHelper context, Runnable runnable) {
         context.runAtTickTime(context.getTick() + 1, runnable);
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.mod.util.OxygenExposureCache;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.FurnaceBlock;
+import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+
+/**
+ * Toggles oxygen around a burning furnace and checks that the cached exposure flag puts it out and lets it relight
+ * on the same tick as checking {@code isBreathable} directly would.
+ */
+public class OxygenExposureTestSuite implements GalacticraftGameTest {
+    private static final BlockPos FURNACE = new BlockPos(2, 1, 2);
+    // {furnace breathable, front breathable}
+    private static final boolean[][] ROUNDS = {
+            {true, true},
+            {false, true},
+            {false, false},
+            {true, false},
+            {false, false},
+            {false, true},
+            {false, false},
+            {true, true}
+    };
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = ROUNDS.length * 3 + 20)
+    public void furnaceFollowsOxygenChangesTest(GameTestHelper context) {
+        context.setBlock(FURNACE, Blocks.FURNACE.defaultBlockState().setValue(FurnaceBlock.FACING, Direction.NORTH));
+        AbstractFurnaceBlockEntity furnace = context.getBlockEntity(FURNACE);
+        furnace.setItem(0, new ItemStack(Items.RAW_IRON, 64));
+        furnace.setItem(1, new ItemStack(Items.COAL, 64));
+        this.runAt(context, 2, () -> this.runRound(context, new OxygenExposureCache(), 0));
+    }
+
+    private void runRound(GameTestHelper context, OxygenExposureCache cache, int round) {
+        ServerLevel level = context.getLevel();
+        BlockPos furnacePos = context.absolutePos(FURNACE);
+        BlockPos frontPos = furnacePos.relative(Direction.NORTH);
+        level.setBreathable(furnacePos, ROUNDS[round][0]);
+        level.setBreathable(frontPos, ROUNDS[round][1]);
+
+        // the cache has to see the change straight away, without waiting for a tick
+        boolean expected = !level.isBreathable(frontPos) && !level.isBreathable(furnacePos);
+        if (cache.shouldExtinguish(level, furnacePos, Direction.NORTH) != expected) {
+            context.fail(String.format("Round %d: the exposure cache disagreed with isBreathable", round), FURNACE);
+            return;
+        }
+
+        this.runAt(context, 2, () -> {
+            AbstractFurnaceBlockEntity furnace = context.getBlockEntity(FURNACE);
+            if ((furnace.litTime > 0) == expected) {
+                context.fail(String.format("Round %d: expected the furnace to be %s after the change", round, expected ? "out" : "burning"), FURNACE);
+                return;
+            }
+
+            if (round + 1 < ROUNDS.length) {
+                this.runAt(context, 1, () -> this.runRound(context, cache, round + 1));
+            } else {
+                level.setBreathable(furnacePos, true);
+                level.setBreathable(frontPos, true);
+                context.succeed();
+            }
+        });
+    }
+}
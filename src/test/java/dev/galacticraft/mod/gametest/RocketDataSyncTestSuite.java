@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.api.rocket.RocketData;
+import dev.galacticraft.api.rocket.RocketPrefabs;
+import dev.galacticraft.mod.content.rocket.part.data.ExplosiveRocketData;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compares the compact rocket data stream codec against the codec-backed form it replaced.
+ */
+public class RocketDataSyncTestSuite implements GalacticraftGameTest {
+    private static final StreamCodec<RegistryFriendlyByteBuf, RocketData> CODEC_FORM = ByteBufCodecs.fromCodecWithRegistriesTrusted(RocketData.CODEC);
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void rocketDataRoundTripTest(GameTestHelper context) {
+        RegistryAccess registryAccess = context.getLevel().registryAccess();
+        RocketData tier1 = RocketPrefabs.TIER_1;
+        List<RocketData> samples = List.of(
+                RocketPrefabs.MISSING,
+                tier1,
+                RocketPrefabs.TIER_1_STORAGE_UPGRADE,
+                new RocketData(tier1.cone(), tier1.body(), tier1.fin(), tier1.booster(), tier1.engine(), tier1.upgrade(),
+                        Optional.of(new ExplosiveRocketData(ResourceLocation.withDefaultNamespace("tnt"))), 0xFF3366CC)
+        );
+
+        int compactTotal = 0;
+        int codecTotal = 0;
+        for (RocketData data : samples) {
+            RegistryFriendlyByteBuf compact = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+            RegistryFriendlyByteBuf codec = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+            RocketData.STREAM_CODEC.encode(compact, data);
+            CODEC_FORM.encode(codec, data);
+            compactTotal += compact.readableBytes();
+            codecTotal += codec.readableBytes();
+
+            RocketData fromCompact = RocketData.STREAM_CODEC.decode(compact);
+            RocketData fromCodec = CODEC_FORM.decode(codec);
+            if (!fromCompact.equals(fromCodec)) {
+                throw new GameTestAssertException("Compact form decoded to " + fromCompact + " but codec form decoded to " + fromCodec);
+            }
+            if (compact.isReadable()) {
+                throw new GameTestAssertException("Compact form left " + compact.readableBytes() + " bytes unread");
+            }
+        }
+
+        if (compactTotal >= codecTotal) {
+            throw new GameTestAssertException(String.format("Expected compact form to be smaller: %d bytes vs %d bytes", compactTotal, codecTotal));
+        }
+        context.succeed();
+    }
+}
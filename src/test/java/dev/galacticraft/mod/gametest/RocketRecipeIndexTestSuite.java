@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.recipe.RocketRecipe;
+import dev.galacticraft.mod.recipe.RocketRecipeIndex;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeInput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that indexed rocket recipe lookups agree with a linear scan over the same recipes.
+ */
+public class RocketRecipeIndexTestSuite implements GalacticraftGameTest {
+    private static final Ingredient[] PARTS = {
+            Ingredient.of(Items.IRON_INGOT),
+            Ingredient.of(Items.GOLD_INGOT),
+            Ingredient.of(Items.IRON_INGOT, Items.COPPER_INGOT),
+            Ingredient.of(ItemTags.PLANKS),
+            Ingredient.EMPTY
+    };
+    private static final ItemStack[] POOL = {
+            ItemStack.EMPTY,
+            new ItemStack(Items.IRON_INGOT),
+            new ItemStack(Items.GOLD_INGOT),
+            new ItemStack(Items.COPPER_INGOT),
+            new ItemStack(Items.OAK_PLANKS),
+            new ItemStack(Items.STONE)
+    };
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void indexedMatchingEqualsLinearScanTest(GameTestHelper context) {
+        RandomSource random = RandomSource.create(4096L);
+        List<RecipeHolder<RocketRecipe>> recipes = new ArrayList<>();
+        for (int i = 0; i < 48; i++) {
+            RocketRecipe recipe = new RocketRecipe("", new ItemStack(Items.DIAMOND), 1 + random.nextInt(2),
+                    this.part(random, false), this.part(random, true), this.part(random, false), this.part(random, false),
+                    this.part(random, true), this.part(random, true));
+            recipes.add(new RecipeHolder<>(Constant.id("test/rocket_" + i), recipe));
+        }
+        RocketRecipeIndex index = new RocketRecipeIndex(recipes);
+
+        try {
+            recipes.get(0).value().getIngredients().set(0, Ingredient.of(Items.STONE));
+            throw new GameTestAssertException("Recipe ingredients should not be modifiable");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        for (int i = 0; i < 4000; i++) {
+            SimpleInput input;
+            if (i % 2 == 0) {
+                // a filled-in layout of a random recipe, with some slots swapped for random items
+                RocketRecipe recipe = recipes.get(random.nextInt(recipes.size())).value();
+                ItemStack[] stacks = new ItemStack[recipe.getIngredients().size()];
+                for (int slot = 0; slot < stacks.length; slot++) {
+                    ItemStack[] items = recipe.getIngredients().get(slot).getItems();
+                    stacks[slot] = items.length == 0 || random.nextInt(10) == 0 ? POOL[random.nextInt(POOL.length)] : items[random.nextInt(items.length)];
+                }
+                input = new SimpleInput(stacks);
+            } else {
+                ItemStack[] stacks = new ItemStack[8 + random.nextInt(8)];
+                for (int slot = 0; slot < stacks.length; slot++) {
+                    stacks[slot] = POOL[random.nextInt(POOL.length)];
+                }
+                input = new SimpleInput(stacks);
+            }
+
+            List<RecipeHolder<RocketRecipe>> expected = new ArrayList<>();
+            for (RecipeHolder<RocketRecipe> recipe : recipes) {
+                if (recipe.value().matches(input, context.getLevel())) {
+                    expected.add(recipe);
+                }
+            }
+            List<RecipeHolder<RocketRecipe>> actual = index.findAll(input, context.getLevel());
+            if (!expected.equals(actual)) {
+                throw new GameTestAssertException("Indexed matches " + actual + " differ from linear scan " + expected);
+            }
+            RecipeHolder<RocketRecipe> first = index.findFirst(input, context.getLevel());
+            if (first != (expected.isEmpty() ? null : expected.get(0))) {
+                throw new GameTestAssertException("Indexed first match " + first + " differs from linear scan");
+            }
+        }
+        context.succeed();
+    }
+
+    private Ingredient part(RandomSource random, boolean optional) {
+        return PARTS[random.nextInt(optional ? PARTS.length : PARTS.length - 1)];
+    }
+
+    private record SimpleInput(ItemStack[] stacks) implements RecipeInput {
+        @Override
+        public ItemStack getItem(int slot) {
+            return this.stacks[slot];
+        }
+
+        @Override
+        public int size() {
+            return this.stacks.length;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.api.gas.Gases;
+import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import dev.galacticraft.machinelib.api.util.BlockFace;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.api.pipe.FluidPipe;
+import dev.galacticraft.mod.api.pipe.PipeNetwork;
+import dev.galacticraft.mod.api.wire.Wire;
+import dev.galacticraft.mod.api.wire.WireNetwork;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
+import dev.galacticraft.mod.machine.SealerFloodFill;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.animal.Pig;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.material.Fluids;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Builds bases far larger than the other tests do and times the Galacticraft work that one tick of each costs. A
+ * scenario fails when its median tick takes longer than the budget checked in to {@code stress_thresholds.properties}.
+ * Every scenario has its own batch so that no other test shares its ticks.
+ */
+public class StressTestSuite implements GalacticraftGameTest {
+    private static final int WARMUP_TICKS = 40;
+    private static final int SAMPLE_TICKS = 100;
+    private static final int TIMEOUT_TICKS = WARMUP_TICKS + SAMPLE_TICKS + 40;
+    private static final Properties THRESHOLDS = loadThresholds();
+    private static final double SCALE = Double.parseDouble(System.getProperty("galacticraft.stress.scale", "1"));
+
+    @GameTest(template = STRESS_AREA, batch = "stress_sealers", timeoutTicks = TIMEOUT_TICKS)
+    public void sealerBaseStressTest(GameTestHelper context) {
+        // 64 powered sealers in an 8x8 grid inside a closed glass room
+        for (int x = 0; x < 18; x++) {
+            for (int z = 0; z < 18; z++) {
+                for (int y = 0; y < 5; y++) {
+                    if (x == 0 || x == 17 || z == 0 || z == 17 || y == 0 || y == 4) {
+                        context.setBlock(new BlockPos(x, y, z), Blocks.GLASS);
+                    }
+                }
+            }
+        }
+
+        List<OxygenSealerBlockEntity> sealers = new ArrayList<>();
+        List<Runnable> tickers = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            BlockPos pos = new BlockPos(2 + (i % 8) * 2, 1, 2 + (i / 8) * 2);
+            context.setBlock(pos, GCBlocks.OXYGEN_SEALER);
+            OxygenSealerBlockEntity sealer = context.getBlockEntity(pos);
+            sealer.energyStorage().setEnergy(Long.MAX_VALUE / 2);
+            sealer.fluidStorage().slot(OxygenSealerBlockEntity.OXYGEN_TANK).set(Gases.OXYGEN, OxygenSealerBlockEntity.MAX_OXYGEN);
+            sealers.add(sealer);
+            tickers.add(this.ticker(context, pos));
+        }
+
+        // the gametest level is breathable, so the manager would skip its flood fill; run the same fill directly
+        ServerLevel level = context.getLevel();
+        if (SealerFloodFill.run(level, sealers) == 0) {
+            context.fail("Expected the sealers to seal the room!");
+            return;
+        }
+        this.measure(context, "sealers", () -> {
+            for (Runnable ticker : tickers) ticker.run();
+            SealerFloodFill.run(level, sealers);
+        });
+    }
+
+    @GameTest(template = STRESS_AREA, batch = "stress_pipes", timeoutTicks = TIMEOUT_TICKS)
+    public void pipeNetworkStressTest(GameTestHelper context) {
+        // a 50x40 sheet of 2,000 pipes with a cauldron on every tenth one
+        List<BlockPos> cauldrons = new ArrayList<>();
+        for (int x = 0; x < 50; x++) {
+            for (int z = 0; z < 40; z++) {
+                context.setBlock(new BlockPos(x, 1, z), GCBlocks.GLASS_FLUID_PIPE);
+                if (x % 10 == 0) {
+                    BlockPos cauldron = new BlockPos(x, 2, z);
+                    context.setBlock(cauldron, Blocks.CAULDRON);
+                    cauldrons.add(context.absolutePos(cauldron));
+                }
+            }
+        }
+
+        PipeNetwork network = context.getBlockEntity(new BlockPos(0, 1, 0)) instanceof FluidPipe pipe ? pipe.getNetwork() : null;
+        if (network == null) {
+            context.fail("Expected the pipes to form a network!", new BlockPos(0, 1, 0));
+            return;
+        }
+
+        ServerLevel level = context.getLevel();
+        FluidVariant water = FluidVariant.of(Fluids.WATER);
+        this.measure(context, "pipes", () -> {
+            // empty the cauldrons outside the timed section so that every tick has somewhere to send the water
+            for (BlockPos pos : cauldrons) {
+                if (!level.getBlockState(pos).is(Blocks.CAULDRON)) {
+                    level.setBlock(pos, Blocks.CAULDRON.defaultBlockState(), Block.UPDATE_CLIENTS);
+                }
+            }
+        }, () -> {
+            try (Transaction transaction = Transaction.openOuter()) {
+                network.insert(water, FluidConstants.BUCKET * cauldrons.size(), transaction);
+                transaction.commit();
+            }
+        }, () -> {});
+    }
+
+    @GameTest(template = STRESS_AREA, batch = "stress_wires", timeoutTicks = TIMEOUT_TICKS)
+    public void wireGridStressTest(GameTestHelper context) {
+        // a 40x25 sheet of 1,000 wires with an electric furnace on top of every tenth one
+        // the furnaces go down first and accept energy from below, so the network finds them when the wires are placed
+        List<MachineBlockEntity> consumers = new ArrayList<>();
+        for (int x = 0; x < 40; x += 10) {
+            for (int z = 0; z < 25; z++) {
+                BlockPos pos = new BlockPos(x, 2, z);
+                context.setBlock(pos, GCBlocks.ELECTRIC_FURNACE);
+                MachineBlockEntity consumer = context.getBlockEntity(pos);
+                consumer.getIOConfig().get(BlockFace.BOTTOM).setOption(ResourceType.ENERGY, ResourceFlow.INPUT);
+                consumers.add(consumer);
+            }
+        }
+        for (int x = 0; x < 40; x++) {
+            for (int z = 0; z < 25; z++) {
+                context.setBlock(new BlockPos(x, 1, z), GCBlocks.ALUMINUM_WIRE);
+            }
+        }
+
+        WireNetwork network = context.getBlockEntity(new BlockPos(0, 1, 0)) instanceof Wire wire ? wire.getNetwork() : null;
+        if (network == null) {
+            context.fail("Expected the wires to form a network!", new BlockPos(0, 1, 0));
+            return;
+        }
+        try (Transaction transaction = Transaction.openOuter()) {
+            if (network.insert(1, transaction) == 0) {
+                context.fail("Expected the wires to connect to the furnaces!", new BlockPos(0, 2, 0));
+                return;
+            }
+        }
+
+        this.measure(context, "wires", () -> {
+            // empty the consumers outside the timed section so that every tick has somewhere to send the energy
+            for (MachineBlockEntity consumer : consumers) consumer.energyStorage().setEnergy(0);
+        }, () -> {
+            try (Transaction transaction = Transaction.openOuter()) {
+                network.insert(Long.MAX_VALUE / 2, transaction);
+                transaction.commit();
+            }
+        }, () -> {});
+    }
+
+    @GameTest(template = STRESS_AREA, batch = "stress_solar_panels", timeoutTicks = TIMEOUT_TICKS)
+    public void solarPanelFieldStressTest(GameTestHelper context) {
+        // a 25x20 field of 500 solar panels
+        List<Runnable> panels = new ArrayList<>();
+        for (int x = 0; x < 25; x++) {
+            for (int z = 0; z < 20; z++) {
+                BlockPos pos = new BlockPos(x, 1, z);
+                context.setBlock(pos, GCBlocks.BASIC_SOLAR_PANEL);
+                panels.add(this.ticker(context, pos));
+            }
+        }
+
+        this.measure(context, "solar_panels", () -> {
+            for (Runnable panel : panels) panel.run();
+        });
+    }
+
+    @GameTest(template = STRESS_AREA, batch = "stress_airlocks", timeoutTicks = TIMEOUT_TICKS)
+    public void airlockStressTest(GameTestHelper context) {
+        // 100 3x3 frames in the x-y plane, 10 across and 10 deep, with the controller at the bottom centre
+        List<Runnable> controllers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                BlockPos controller = new BlockPos(2 + i * 4, 1, 1 + j * 3);
+                for (int x = -1; x <= 1; x++) {
+                    for (int y = 0; y <= 2; y++) {
+                        if (x == 0 && y == 1) continue;
+                        context.setBlock(controller.offset(x, y, 0), x == 0 && y == 0 ? GCBlocks.AIR_LOCK_CONTROLLER : GCBlocks.AIR_LOCK_FRAME);
+                    }
+                }
+                controllers.add(this.ticker(context, controller));
+            }
+        }
+
+        this.measure(context, "airlocks", () -> {
+            for (Runnable controller : controllers) controller.run();
+        });
+    }
+
+    @GameTest(template = STRESS_AREA, batch = "stress_mobs", timeoutTicks = TIMEOUT_TICKS)
+    public void mobBreathingStressTest(GameTestHelper context) {
+        // 200 pigs on a stone floor, every other one with its head in a pocket without oxygen
+        for (int x = 0; x < 41; x++) {
+            for (int z = 0; z < 21; z++) {
+                context.setBlock(new BlockPos(x, 0, z), Blocks.STONE);
+            }
+        }
+
+        ServerLevel level = context.getLevel();
+        List<Pig> pigs = new ArrayList<>();
+        List<BlockPos> vacuum = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 10; j++) {
+                Pig pig = context.spawnWithNoFreeWill(EntityType.PIG, new BlockPos(1 + i * 2, 1, 1 + j * 2));
+                // keep the pigs alive through the run; they still go through all of the breathing checks
+                pig.setInvulnerable(true);
+                pigs.add(pig);
+                if ((i + j) % 2 == 1) {
+                    BlockPos eyes = pig.blockPosition().relative(Direction.UP, (int) Math.floor(pig.getEyeHeight(pig.getPose())));
+                    level.setBreathable(eyes, false);
+                    vacuum.add(eyes);
+                }
+            }
+        }
+
+        this.measure(context, "mobs", () -> {}, () -> {
+            for (Pig pig : pigs) pig.baseTick();
+        }, () -> {
+            for (BlockPos pos : vacuum) level.setBreathable(pos, true);
+            for (Pig pig : pigs) pig.discard();
+        });
+    }
+
+    private void measure(GameTestHelper context, String scenario, Runnable tick) {
+        this.measure(context, scenario, () -> {}, tick, () -> {});
+    }
+
+    /**
+     * Runs {@code tick} once per game tick, first to warm up and then while timing it, and checks the median against
+     * the scenario's budget.
+     *
+     * @param prepare untimed work to do before each tick, such as emptying what the scenario fills
+     * @param tick the work to time
+     * @param cleanup runs once the samples are taken
+     */
+    private void measure(GameTestHelper context, String scenario, Runnable prepare, Runnable tick, Runnable cleanup) {
+        String threshold = THRESHOLDS.getProperty(scenario);
+        if (threshold == null) {
+            context.fail(String.format("No budget for stress scenario '%s' in stress_thresholds.properties!", scenario));
+            return;
+        }
+
+        long budget = (long) (Long.parseLong(threshold) * SCALE);
+        this.runNext(context, () -> this.sample(context, scenario, budget, prepare, tick, cleanup, new long[SAMPLE_TICKS], -WARMUP_TICKS));
+    }
+
+    private void sample(GameTestHelper context, String scenario, long budget, Runnable prepare, Runnable tick, Runnable cleanup, long[] samples, int index) {
+        prepare.run();
+        long start = System.nanoTime();
+        tick.run();
+        long elapsed = System.nanoTime() - start;
+
+        if (index >= 0) samples[index] = elapsed;
+        if (index + 1 < samples.length) {
+            this.runNext(context, () -> this.sample(context, scenario, budget, prepare, tick, cleanup, samples, index + 1));
+            return;
+        }
+
+        cleanup.run();
+        Arrays.sort(samples);
+        long median = samples[samples.length / 2] / 1000;
+        long max = samples[samples.length - 1] / 1000;
+        Constant.LOGGER.info("Stress scenario '{}': median {} µs, max {} µs per tick (budget {} µs)", scenario, median, max, budget);
+        if (median > budget) {
+            context.fail(String.format("Stress scenario '%s' took a median of %d µs per tick, over its budget of %d µs!", scenario, median, budget));
+        } else {
+            context.succeed();
+        }
+    }
+
+    /**
+     * Looks up the ticker the level would run for the block entity at {@code pos}, so that a scenario can time exactly
+     * that work.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends BlockEntity> Runnable ticker(GameTestHelper context, BlockPos pos) {
+        ServerLevel level = context.getLevel();
+        T blockEntity = context.getBlockEntity(pos);
+        BlockEntityTicker<T> ticker = blockEntity.getBlockState().getTicker(level, (BlockEntityType<T>) blockEntity.getType());
+        if (ticker == null) {
+            context.fail(String.format("Expected %s to tick!", blockEntity), pos);
+        }
+        BlockPos absolute = blockEntity.getBlockPos();
+        return () -> ticker.tick(level, absolute, blockEntity.getBlockState(), blockEntity);
+    }
+
+    private static Properties loadThresholds() {
+        Properties thresholds = new Properties();
+        try (InputStream stream = StressTestSuite.class.getResourceAsStream("/stress_thresholds.properties")) {
+            if (stream != null) thresholds.load(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return thresholds;
+    }
+}
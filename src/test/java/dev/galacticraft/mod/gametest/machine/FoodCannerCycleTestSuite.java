@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest.machine;
+
+import dev.galacticraft.machinelib.api.storage.slot.ItemResourceSlot;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.block.entity.machine.FoodCannerBlockEntity;
+import dev.galacticraft.mod.content.item.CannedFoodItem;
+import dev.galacticraft.mod.content.item.GCItems;
+import dev.galacticraft.mod.gametest.GalacticraftGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs full food canner cycles and compares the result with filling a can directly through {@link CannedFoodItem}.
+ */
+public class FoodCannerCycleTestSuite implements GalacticraftGameTest {
+    private static final BlockPos CANNER = new BlockPos(1, 1, 1);
+    private static final int CYCLE_TIMEOUT = Constant.FoodCanner.MAX_PROGRESS * 2 + 40;
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = CYCLE_TIMEOUT)
+    public void foodCannerFirstAndThirdRowTest(GameTestHelper context) {
+        ItemStack[] grid = new ItemStack[16];
+        grid[0] = new ItemStack(Items.APPLE, 8);
+        grid[1] = new ItemStack(Items.BREAD, 8);
+        grid[8] = new ItemStack(Items.CARROT, 5);
+        this.runCycle(context, grid);
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = CYCLE_TIMEOUT)
+    public void foodCannerSecondAndFourthRowTest(GameTestHelper context) {
+        ItemStack[] grid = new ItemStack[16];
+        grid[5] = new ItemStack(Items.COOKED_BEEF, 3);
+        grid[6] = new ItemStack(Items.BAKED_POTATO, 9);
+        grid[12] = new ItemStack(Items.COOKIE, 7);
+        grid[15] = new ItemStack(Items.MELON_SLICE, 2);
+        this.runCycle(context, grid);
+    }
+
+    private void runCycle(GameTestHelper context, ItemStack[] grid) {
+        context.setBlock(CANNER, GCBlocks.FOOD_CANNER);
+        FoodCannerBlockEntity canner = context.getBlockEntity(CANNER);
+        canner.itemStorage().slot(FoodCannerBlockEntity.CHARGE_SLOT).insert(GCItems.INFINITE_BATTERY, 1);
+        canner.itemStorage().slot(FoodCannerBlockEntity.INPUT_SLOT).insert(GCItems.EMPTY_CAN, 1);
+
+        // what the canner has always done: spread the food of every occupied row evenly into a new can
+        List<ItemStack> rows = new ArrayList<>();
+        for (int row = 0; row < 4; row++) {
+            boolean occupied = false;
+            for (int col = 0; col < 4; col++) {
+                occupied |= grid[row * 4 + col] != null;
+            }
+            for (int col = 0; occupied && col < 4; col++) {
+                ItemStack stack = grid[row * 4 + col];
+                rows.add(stack == null ? ItemStack.EMPTY : stack.copy());
+            }
+        }
+        ItemStack expectedCan = GCItems.CANNED_FOOD.getDefaultInstance();
+        List<ItemStack> expectedRows = CannedFoodItem.addToCanEvenly(rows, expectedCan);
+
+        for (int i = 0; i < grid.length; i++) {
+            if (grid[i] != null) {
+                canner.itemStorage().slot(FoodCannerBlockEntity.GRID_START + i).insert(grid[i].getItem(), grid[i].getCount());
+            }
+        }
+
+        this.runFinalTaskAt(context, Constant.FoodCanner.MAX_PROGRESS, () -> {
+            ItemResourceSlot output = canner.itemStorage().slot(FoodCannerBlockEntity.OUTPUT_SLOT);
+            if (output.isEmpty()) {
+                throw new GameTestAssertException("Expected a canned food item in the output slot");
+            }
+            if (output.getResource() != GCItems.CANNED_FOOD || !output.getComponents().equals(expectedCan.getComponentsPatch())) {
+                throw new GameTestAssertException(String.format("Expected %s but the canner produced %s with %s", expectedCan, output.getResource(), output.getComponents()));
+            }
+
+            int i = 0;
+            for (int row = 0; row < 4; row++) {
+                boolean occupied = false;
+                for (int col = 0; col < 4; col++) {
+                    occupied |= grid[row * 4 + col] != null;
+                }
+                for (int col = 0; occupied && col < 4; col++) {
+                    long expected = expectedRows.get(i++).getCount();
+                    long actual = canner.itemStorage().slot(FoodCannerBlockEntity.GRID_START + row * 4 + col).getAmount();
+                    if (actual != expected) {
+                        throw new GameTestAssertException(String.format("Expected %d items left in row %d column %d but found %d", expected, row, col, actual));
+                    }
+                }
+            }
+        });
+    }
+}
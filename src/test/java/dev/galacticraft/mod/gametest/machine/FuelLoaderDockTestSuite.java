@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest.machine;
+
+import dev.galacticraft.api.rocket.RocketPrefabs;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.GCEntityTypes;
+import dev.galacticraft.mod.content.GCFluids;
+import dev.galacticraft.mod.content.block.entity.machine.FuelLoaderBlockEntity;
+import dev.galacticraft.mod.content.block.special.launchpad.LaunchPadBlockEntity;
+import dev.galacticraft.mod.content.entity.vehicle.RocketEntity;
+import dev.galacticraft.mod.content.item.GCItems;
+import dev.galacticraft.mod.gametest.GalacticraftGameTest;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.block.Blocks;
+
+/**
+ * Checks that fuel loaders follow their launch pad through dock and undock events instead of polling it.
+ */
+public class FuelLoaderDockTestSuite implements GalacticraftGameTest {
+    private static final BlockPos CENTER = new BlockPos(2, 1, 2);
+    private static final BlockPos LOADER = new BlockPos(4, 1, 2);
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void fuelLoaderFollowsDockAndUndockTest(GameTestHelper context) {
+        this.build(context);
+        this.runAt(context, 2, () -> {
+            FuelLoaderBlockEntity loader = context.getBlockEntity(LOADER);
+            LaunchPadBlockEntity pad = context.getBlockEntity(CENTER);
+            if (loader.getLaunchPad() != pad) {
+                throw new GameTestAssertException("Expected the fuel loader to link to the adjacent launch pad");
+            }
+            if (loader.linkedRocket != null) {
+                throw new GameTestAssertException("Expected no rocket before docking");
+            }
+
+            RocketEntity rocket = this.dock(context, pad);
+            if (loader.linkedRocket != rocket) {
+                throw new GameTestAssertException("Expected the dock event to reach the fuel loader");
+            }
+
+            pad.setDockedEntity(null);
+            if (loader.linkedRocket != null) {
+                throw new GameTestAssertException("Expected the undock event to reach the fuel loader");
+            }
+            context.succeed();
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void fuelLoaderUnlinksWhenPadBreaksTest(GameTestHelper context) {
+        this.build(context);
+        this.runAt(context, 2, () -> {
+            FuelLoaderBlockEntity loader = context.getBlockEntity(LOADER);
+            RocketEntity rocket = this.dock(context, context.getBlockEntity(CENTER));
+
+            context.destroyBlock(CENTER);
+            if (loader.getLaunchPad() != null || loader.linkedRocket != null) {
+                throw new GameTestAssertException("Expected the fuel loader to drop the broken launch pad");
+            }
+
+            this.runFinalTaskAt(context, 2, () -> {
+                if (!rocket.isRemoved()) {
+                    throw new GameTestAssertException("Expected the docked rocket to be dropped with its pad");
+                }
+                if (loader.getConnectionPos() != BlockPos.ZERO) {
+                    throw new GameTestAssertException("Expected the fuel loader to forget the broken launch pad");
+                }
+            });
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = FuelLoaderBlockEntity.RELINK_INTERVAL + 40)
+    public void fuelLoaderRelinksAfterChunkUnloadTest(GameTestHelper context) {
+        this.build(context);
+        this.runAt(context, 2, () -> {
+            FuelLoaderBlockEntity loader = context.getBlockEntity(LOADER);
+            LaunchPadBlockEntity pad = context.getBlockEntity(CENTER);
+            RocketEntity rocket = this.dock(context, pad);
+
+            // this is what the chunk does to its block entities when it unloads
+            pad.setRemoved();
+            if (loader.getLaunchPad() != null || loader.linkedRocket != null) {
+                throw new GameTestAssertException("Expected the fuel loader to drop the unloaded launch pad");
+            }
+
+            // and this is the pad coming back with the chunk
+            context.getLevel().setBlockEntity(pad);
+            this.runFinalTaskAt(context, FuelLoaderBlockEntity.RELINK_INTERVAL + 2, () -> {
+                if (loader.getLaunchPad() != pad) {
+                    throw new GameTestAssertException("Expected the fuel loader to relink to the reloaded launch pad");
+                }
+                if (loader.linkedRocket != rocket) {
+                    throw new GameTestAssertException("Expected the fuel loader to pick up the rocket still docked on the reloaded pad");
+                }
+            });
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = FuelLoaderBlockEntity.MAX_PROGRESS + 60)
+    public void sleepingFuelLoaderWakesWhenRocketDocksTest(GameTestHelper context) {
+        this.build(context);
+        FuelLoaderBlockEntity loader = context.getBlockEntity(LOADER);
+        loader.itemStorage().slot(FuelLoaderBlockEntity.CHARGE_SLOT).insert(GCItems.INFINITE_BATTERY, 1);
+        loader.fluidStorage().slot(FuelLoaderBlockEntity.FUEL_TANK).insert(GCFluids.FUEL, FluidConstants.BUCKET);
+
+        // without a rocket the loader goes to sleep; docking has to wake it up
+        this.runAt(context, 10, () -> {
+            RocketEntity rocket = this.dock(context, context.getBlockEntity(CENTER));
+            this.runFinalTaskAt(context, FuelLoaderBlockEntity.MAX_PROGRESS + 5, () -> {
+                if (rocket.getFuelTankAmount() <= 0) {
+                    throw new GameTestAssertException("Expected the fuel loader to wake up and fuel the docked rocket");
+                }
+            });
+        });
+    }
+
+    private void build(GameTestHelper context) {
+        for (int x = -1; x < 2; x++) {
+            for (int z = -1; z < 2; z++) {
+                context.setBlock(CENTER.offset(x, -1, z), Blocks.STONE);
+            }
+        }
+        for (int x = -1; x < 2; x++) {
+            for (int z = -1; z < 2; z++) {
+                context.setBlock(CENTER.offset(x, 0, z), GCBlocks.ROCKET_LAUNCH_PAD);
+            }
+        }
+        context.setBlock(LOADER.below(), Blocks.STONE);
+        context.setBlock(LOADER, GCBlocks.FUEL_LOADER);
+    }
+
+    private RocketEntity dock(GameTestHelper context, LaunchPadBlockEntity pad) {
+        BlockPos pos = context.absolutePos(CENTER);
+        RocketEntity rocket = new RocketEntity(GCEntityTypes.ROCKET, context.getLevel());
+        rocket.setData(RocketPrefabs.TIER_1);
+        rocket.setPad(pad);
+        rocket.absMoveTo(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D);
+        context.getLevel().addFreshEntity(rocket);
+        pad.setDockedEntity(rocket);
+        return rocket;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest.machine;
+
+import dev.galacticraft.api.gas.Gases;
+import dev.galacticraft.machinelib.api.storage.slot.FluidResourceSlot;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.GCFluids;
+import dev.galacticraft.mod.content.block.entity.machine.OxygenCompressorBlockEntity;
+import dev.galacticraft.mod.content.block.entity.machine.RefineryBlockEntity;
+import dev.galacticraft.mod.content.item.GCItems;
+import dev.galacticraft.mod.gametest.GalacticraftGameTest;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+
+/**
+ * Lets machines fall asleep on a blocked status and checks that a change to their storages wakes them up again.
+ */
+public class MachineSleepTestSuite implements GalacticraftGameTest {
+    private static final BlockPos MACHINE = new BlockPos(1, 1, 1);
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void oxygenCompressorWakesOnOxygenTest(GameTestHelper context) {
+        context.setBlock(MACHINE, GCBlocks.OXYGEN_COMPRESSOR);
+        OxygenCompressorBlockEntity compressor = context.getBlockEntity(MACHINE);
+        compressor.itemStorage().slot(OxygenCompressorBlockEntity.CHARGE_SLOT).insert(GCItems.INFINITE_BATTERY, 1);
+        compressor.itemStorage().slot(OxygenCompressorBlockEntity.OXYGEN_OUTPUT_SLOT).insert(GCItems.SMALL_OXYGEN_TANK, 1);
+
+        // with no oxygen to compress the machine goes to sleep
+        this.runAt(context, 10, () -> {
+            if (!compressor.isAsleep()) {
+                throw new GameTestAssertException("Expected the oxygen compressor to sleep without oxygen");
+            }
+            FluidResourceSlot tank = compressor.fluidStorage().slot(OxygenCompressorBlockEntity.OXYGEN_TANK);
+            tank.insert(Gases.OXYGEN, FluidConstants.BUCKET);
+            this.runFinalTaskNext(context, () -> {
+                if (compressor.isAsleep()) {
+                    throw new GameTestAssertException("Expected the oxygen compressor to wake up once oxygen arrived");
+                }
+                if (tank.getAmount() >= FluidConstants.BUCKET) {
+                    throw new GameTestAssertException("Expected the oxygen compressor to wake up and fill the tank");
+                }
+            });
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void sleepingOxygenCompressorDoesNoWorkTest(GameTestHelper context) {
+        context.setBlock(MACHINE, GCBlocks.OXYGEN_COMPRESSOR);
+        OxygenCompressorBlockEntity compressor = context.getBlockEntity(MACHINE);
+        compressor.itemStorage().slot(OxygenCompressorBlockEntity.CHARGE_SLOT).insert(GCItems.INFINITE_BATTERY, 1);
+        FluidResourceSlot tank = compressor.fluidStorage().slot(OxygenCompressorBlockEntity.OXYGEN_TANK);
+        tank.insert(Gases.OXYGEN, FluidConstants.BUCKET);
+
+        // with oxygen but no oxygen tank to fill the machine goes to sleep and leaves its oxygen alone
+        this.runFinalTaskAt(context, 10, () -> {
+            if (!compressor.isAsleep()) {
+                throw new GameTestAssertException("Expected the oxygen compressor to sleep without an oxygen tank");
+            }
+            if (tank.getAmount() != FluidConstants.BUCKET) {
+                throw new GameTestAssertException("Expected the sleeping oxygen compressor to leave its oxygen untouched, but it holds " + tank.getAmount());
+            }
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void refineryWakesOnOilTest(GameTestHelper context) {
+        context.setBlock(MACHINE, GCBlocks.REFINERY);
+        RefineryBlockEntity refinery = context.getBlockEntity(MACHINE);
+        refinery.itemStorage().slot(RefineryBlockEntity.CHARGE_SLOT).insert(GCItems.INFINITE_BATTERY, 1);
+
+        // with no oil and no fuel left to spread the refinery goes to sleep
+        this.runAt(context, 10, () -> {
+            if (!refinery.isAsleep()) {
+                throw new GameTestAssertException("Expected the refinery to sleep without oil");
+            }
+            refinery.fluidStorage().slot(RefineryBlockEntity.OIL_TANK).insert(GCFluids.CRUDE_OIL, FluidConstants.BUCKET);
+            this.runNext(context, () -> {
+                if (refinery.isAsleep()) {
+                    throw new GameTestAssertException("Expected the refinery to wake up once oil arrived");
+                }
+            });
+            this.runFinalTaskAt(context, RefineryBlockEntity.BATCH_TICKS + 5, () -> {
+                if (refinery.fluidStorage().slot(RefineryBlockEntity.FUEL_TANK).isEmpty()) {
+                    throw new GameTestAssertException("Expected the refinery to wake up and refine the oil");
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest.machine;
+
+import dev.galacticraft.machinelib.api.storage.slot.FluidResourceSlot;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.GCFluids;
+import dev.galacticraft.mod.content.block.entity.machine.RefineryBlockEntity;
+import dev.galacticraft.mod.content.item.GCItems;
+import dev.galacticraft.mod.gametest.GalacticraftGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+
+/**
+ * Runs a batching refinery next to one that moves its fluids every tick and checks that both refine the same amount.
+ */
+public class RefineryBatchTestSuite implements GalacticraftGameTest {
+    private static final BlockPos BATCHED = new BlockPos(1, 1, 1);
+    private static final BlockPos PER_TICK = new BlockPos(4, 1, 1);
+    private static final int HALF = 600;
+    private static final long HALF_OIL = HALF * RefineryBlockEntity.FUEL_PER_TICK;
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 1400)
+    public void batchedThroughputMatchesPerTickTest(GameTestHelper context) {
+        RefineryBlockEntity batched = this.placeRefinery(context, BATCHED);
+        RefineryBlockEntity perTick = this.placeRefinery(context, PER_TICK);
+        perTick.setBatchTicks(1);
+        long[] drained = new long[2];
+
+        // halfway through, the batched refinery may only be behind by the batch it has not moved yet
+        this.runAt(context, HALF, () -> {
+            long batchedFuel = this.fuel(batched).getAmount();
+            long perTickFuel = this.fuel(perTick).getAmount();
+            if (Math.abs(batchedFuel - perTickFuel) > RefineryBlockEntity.BATCH_TICKS * RefineryBlockEntity.FUEL_PER_TICK) {
+                throw new GameTestAssertException("Expected both refineries to keep the same pace, got " + batchedFuel + " and " + perTickFuel + " fuel");
+            }
+            drained[0] = this.fuel(batched).extract(GCFluids.FUEL, Long.MAX_VALUE);
+            drained[1] = this.fuel(perTick).extract(GCFluids.FUEL, Long.MAX_VALUE);
+            this.oil(batched).insert(GCFluids.CRUDE_OIL, HALF_OIL);
+            this.oil(perTick).insert(GCFluids.CRUDE_OIL, HALF_OIL);
+
+            this.runFinalTaskAt(context, HALF, () -> {
+                this.assertRefinedAll(context, batched, drained[0], BATCHED);
+                this.assertRefinedAll(context, perTick, drained[1], PER_TICK);
+            });
+        });
+    }
+
+    private RefineryBlockEntity placeRefinery(GameTestHelper context, BlockPos pos) {
+        context.setBlock(pos, GCBlocks.REFINERY);
+        RefineryBlockEntity refinery = context.getBlockEntity(pos);
+        refinery.itemStorage().slot(RefineryBlockEntity.CHARGE_SLOT).insert(GCItems.INFINITE_BATTERY, 1);
+        this.oil(refinery).insert(GCFluids.CRUDE_OIL, HALF_OIL);
+        return refinery;
+    }
+
+    private void assertRefinedAll(GameTestHelper context, RefineryBlockEntity refinery, long drained, BlockPos pos) {
+        long fuel = drained + this.fuel(refinery).getAmount();
+        if (!this.oil(refinery).isEmpty() || fuel != 2 * HALF_OIL) {
+            context.fail("Expected " + 2 * HALF_OIL + " fuel to be refined, got " + fuel, pos);
+        }
+    }
+
+    private FluidResourceSlot oil(RefineryBlockEntity refinery) {
+        return refinery.fluidStorage().slot(RefineryBlockEntity.OIL_TANK);
+    }
+
+    private FluidResourceSlot fuel(RefineryBlockEntity refinery) {
+        return refinery.fluidStorage().slot(RefineryBlockEntity.FUEL_TANK);
+    }
+}
@@ -54,7 +54,7 @@ public RefineryTestSuite() {
         return tests;
     }
 
-    @MachineTest
+    @MachineTest(workTime = RefineryBlockEntity.BATCH_TICKS)
     public Runnable crafting(RefineryBlockEntity machine) {
         FluidResourceSlot fuel = machine.fluidStorage().slot(RefineryBlockEntity.FUEL_TANK);
         FluidResourceSlot oil = machine.fluidStorage().slot(RefineryBlockEntity.OIL_TANK);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest.machine;
+
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.block.entity.machine.AbstractSolarPanelBlockEntity;
+import dev.galacticraft.mod.gametest.GalacticraftGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Blocks;
+
+/**
+ * Checks that the light-driven sky cache of solar panels agrees with {@link net.minecraft.world.level.Level#canSeeSky(BlockPos)},
+ * including under see-through blocks.
+ */
+public class SolarPanelSkyCacheTestSuite implements GalacticraftGameTest {
+    private static final BlockPos PANEL = new BlockPos(3, 1, 3);
+    private static final int ROUNDS = 8;
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = ROUNDS * 10 + 20)
+    public void solarPanelSkyCacheMatchesCanSeeSkyTest(GameTestHelper context) {
+        context.setBlock(PANEL, GCBlocks.BASIC_SOLAR_PANEL);
+        this.runRound(context, RandomSource.create(0x5012A7L), 0);
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 30)
+    public void solarPanelUnderGlassRoofTest(GameTestHelper context) {
+        context.setBlock(PANEL, GCBlocks.BASIC_SOLAR_PANEL);
+        for (int x = -1; x < 2; x++) {
+            for (int z = -1; z < 2; z++) {
+                context.setBlock(PANEL.offset(x, 4, z), Blocks.GLASS);
+            }
+        }
+
+        // a sealed base is roofed with glass, which lets sky light through
+        this.runFinalTaskAt(context, 10, () -> {
+            AbstractSolarPanelBlockEntity panel = context.getBlockEntity(PANEL);
+            boolean[] blockage = panel.getBlockage();
+            for (int i = 0; i < blockage.length; i++) {
+                if (blockage[i]) {
+                    context.fail(String.format("Expected column (%d, %d) under the glass roof to be clear!", i % 3 - 1, i / 3 - 1), PANEL.offset(i % 3 - 1, 4, i / 3 - 1));
+                }
+            }
+        });
+    }
+
+    private void runRound(GameTestHelper context, RandomSource random, int round) {
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (int x = -1; x < 2; x++) {
+            for (int z = -1; z < 2; z++) {
+                for (int y = 3; y < 6; y++) {
+                    mutable.set(PANEL.getX() + x, PANEL.getY() + y, PANEL.getZ() + z);
+                    int block = random.nextInt(6);
+                    context.setBlock(mutable, block == 0 ? Blocks.STONE : block == 1 ? Blocks.GLASS : Blocks.AIR);
+                }
+            }
+        }
+
+        // give the light engine time to catch up before comparing against canSeeSky
+        this.runAt(context, 5, () -> {
+            AbstractSolarPanelBlockEntity panel = context.getBlockEntity(PANEL);
+            boolean[] blockage = panel.getBlockage();
+            BlockPos absolute = context.absolutePos(PANEL);
+            for (int x = -1; x < 2; x++) {
+                for (int z = -1; z < 2; z++) {
+                    boolean expected = !context.getLevel().canSeeSky(absolute.offset(x, 2, z));
+                    if (blockage[(z + 1) * 3 + (x + 1)] != expected) {
+                        context.fail(String.format("Round %d: expected column (%d, %d) to be %s but the cache disagreed!", round, x, z, expected ? "blocked" : "clear"), PANEL.offset(x, 2, z));
+                        return;
+                    }
+                }
+            }
+
+            if (round + 1 < ROUNDS) {
+                this.runRound(context, random, round + 1);
+            } else {
+                context.succeed();
+            }
+        });
+    }
+}
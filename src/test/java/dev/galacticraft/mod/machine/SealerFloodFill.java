@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
+import net.minecraft.world.level.BlockGetter;
+
+import java.util.List;
+
+/**
+ * Runs the flood fill of a {@link SealerManager} seal check for tests in levels that are already breathable, where the
+ * manager itself skips it.
+ */
+public final class SealerFloodFill {
+    private SealerFloodFill() {
+    }
+
+    /**
+     * Flood fills from every sealer with {@link SealerManager#findSpacesToSeal}, the same fill a seal check runs.
+     *
+     * @return the number of blocks in the spaces that would be sealed
+     */
+    public static int run(BlockGetter level, List<OxygenSealerBlockEntity> sealers) {
+        int sealed = 0;
+        for (SealerManager.SpaceToSeal spaceToSeal : SealerManager.findSpacesToSeal(level, sealers)) {
+            if (spaceToSeal.willSealSucceed()) sealed += spaceToSeal.size();
+        }
+        return sealed;
+    }
+}
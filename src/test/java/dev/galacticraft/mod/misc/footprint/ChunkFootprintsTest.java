@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.footprint;
+
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkFootprintsTest {
+    private static final long CHUNK = ChunkPos.asLong(3, -2);
+    private static final int ORIGIN_X = 3 << 4;
+    private static final int ORIGIN_Z = -2 << 4;
+
+    @Test
+    void keepsInsertionOrderWhileGrowing() {
+        FootprintOwners owners = new FootprintOwners();
+        ChunkFootprints footprints = new ChunkFootprints(CHUNK);
+        UUID owner = UUID.randomUUID();
+        for (int i = 0; i < 40; i++) {
+            footprints.add(ORIGIN_X + (i % 16) + 0.25, 64 + i, ORIGIN_Z + 0.5, i * 0.1F, (short) 0, owners.acquire(owner), owners);
+        }
+
+        assertEquals(40, footprints.size());
+        assertEquals(40, footprints.getNextId());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, footprints.getId(i));
+            assertEquals(ORIGIN_X + (i % 16) + 0.25, footprints.getX(i));
+            assertEquals(64 + i, footprints.getY(i));
+            assertEquals(ORIGIN_Z + 0.5, footprints.getZ(i));
+            assertEquals(i * 0.1F, footprints.getRotation(i));
+        }
+        assertEquals(25, footprints.indexOfId(25));
+        assertEquals(40, footprints.indexOfId(40));
+    }
+
+    @Test
+    void evictsOldestAtCapacity() {
+        FootprintOwners owners = new FootprintOwners();
+        ChunkFootprints footprints = new ChunkFootprints(CHUNK);
+        UUID first = UUID.randomUUID();
+        UUID rest = UUID.randomUUID();
+        footprints.add(ORIGIN_X, 64, ORIGIN_Z, 0, (short) 0, owners.acquire(first), owners);
+        for (int i = 1; i < ChunkFootprints.MAX_FOOTPRINTS + 10; i++) {
+            footprints.add(ORIGIN_X + 1, 64, ORIGIN_Z + 1, 0, (short) 0, owners.acquire(rest), owners);
+        }
+
+        assertEquals(ChunkFootprints.MAX_FOOTPRINTS, footprints.size());
+        assertEquals(10, footprints.getId(0));
+        assertEquals(ChunkFootprints.MAX_FOOTPRINTS + 9, footprints.getId(footprints.size() - 1));
+        assertEquals(-1, owners.getId(first), "the owner of the evicted footprint should be released");
+        assertEquals(0, footprints.indexOfId(3));
+    }
+
+    @Test
+    void agingKeepsGivenAgesAndDropsExpiredFootprints() {
+        FootprintOwners owners = new FootprintOwners();
+        ChunkFootprints footprints = new ChunkFootprints(CHUNK);
+        UUID owner = UUID.randomUUID();
+        footprints.add(ORIGIN_X, 64, ORIGIN_Z, 0, (short) 0, owners.acquire(owner), owners);
+        // synced footprints keep their age even when they are older than the ones added before them
+        footprints.add(ORIGIN_X, 64, ORIGIN_Z, 0, (short) (Footprint.MAX_AGE - 20), owners.acquire(owner), owners);
+        footprints.add(ORIGIN_X, 64, ORIGIN_Z, 0, (short) 100, owners.acquire(owner), owners);
+        assertEquals(Footprint.MAX_AGE - 20, footprints.getAge(1));
+        assertEquals(100, footprints.getAge(2));
+
+        footprints.age((short) 20, owners);
+        assertEquals(2, footprints.size());
+        assertEquals(0, footprints.getId(0));
+        assertEquals(20, footprints.getAge(0));
+        assertEquals(2, footprints.getId(1));
+        assertEquals(120, footprints.getAge(1));
+        assertEquals(1, footprints.indexOfId(1));
+    }
+
+    @Test
+    void removesOnlyTheGivenColumn() {
+        FootprintOwners owners = new FootprintOwners();
+        ChunkFootprints footprints = new ChunkFootprints(CHUNK);
+        UUID owner = UUID.randomUUID();
+        for (int i = 0; i < 6; i++) {
+            footprints.add(ORIGIN_X + (i % 2) + 0.5, 64, ORIGIN_Z + 4.5, 0, (short) 0, owners.acquire(owner), owners);
+        }
+
+        assertFalse(footprints.removeColumn(ORIGIN_X + 7, ORIGIN_Z + 4, owners));
+        assertTrue(footprints.removeColumn(ORIGIN_X, ORIGIN_Z + 4, owners));
+        assertEquals(3, footprints.size());
+        for (int n = 0; n < 3; n++) {
+            assertEquals(n * 2 + 1, footprints.getId(n));
+            assertEquals(ORIGIN_X + 1.5, footprints.getX(n));
+        }
+        assertFalse(footprints.removeColumn(ORIGIN_X, ORIGIN_Z + 4, owners));
+
+        footprints.clear(owners);
+        assertTrue(footprints.isEmpty());
+        assertEquals(-1, owners.getId(owner));
+    }
+}
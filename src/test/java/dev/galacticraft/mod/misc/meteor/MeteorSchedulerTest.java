@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.meteor;
+
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteorSchedulerTest {
+    private static final long TICKS = 20_000_000L;
+
+    @Test
+    void chanceMatchesLegacyFormula() {
+        assertEquals(3750, MeteorScheduler.chance(0.0f, 1.0f));
+        assertEquals(75000, MeteorScheduler.chance(1.0f, 1.0f));
+        assertEquals(37500, MeteorScheduler.chance(1.0f, 2.0f));
+        assertEquals(1, MeteorScheduler.chance(0.0f, Float.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void scheduledRateMatchesPerTickRoll() {
+        for (int chance : new int[]{2, 50, 3750, 11250}) {
+            RandomSource random = RandomSource.create(chance);
+            long scheduled = 0;
+            for (long t = MeteorScheduler.ticksUntilNext(random, chance); t <= TICKS; t += MeteorScheduler.ticksUntilNext(random, chance)) {
+                scheduled++;
+            }
+
+            long rolled = 0;
+            for (long t = 0; t < TICKS; t++) {
+                if (random.nextInt(chance) == 0) rolled++;
+            }
+
+            double expected = (double) TICKS / chance;
+            double tolerance = 5.0 * Math.sqrt(expected) + 1.0;
+            assertEquals(expected, scheduled, tolerance, "scheduled meteors for chance " + chance);
+            assertEquals(expected, rolled, tolerance, "rolled meteors for chance " + chance);
+        }
+    }
+
+    @Test
+    void certainRollFiresEveryTick() {
+        RandomSource random = RandomSource.create(0);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, MeteorScheduler.ticksUntilNext(random, 1));
+        }
+    }
+
+    @Test
+    void playersInRangeShareAStreamAimedAtTheLowestId() {
+        TestHost host = new TestHost();
+        TestLevel moon = host.addLevel(50);
+        // 5 and 7 are too far apart to cluster directly, but both are in range of 2
+        host.addPlayer(moon, 5, 0, 0);
+        TestPlayer anchor = host.addPlayer(moon, 2, 90, 0);
+        host.addPlayer(moon, 7, 180, 0);
+        TestPlayer loner = host.addPlayer(moon, 9, 1000, 0);
+        // spectators neither join a cluster nor anchor one
+        host.addPlayer(moon, 1, 0, 0).spectator = true;
+
+        Map<TestPlayer, Integer> throwsAt = new HashMap<>();
+        MeteorScheduler<TestLevel, TestPlayer> scheduler = new MeteorScheduler<>();
+        for (int t = 0; t < 20_000; t++) {
+            scheduler.tick(host, 1.0f, (level, target, size) -> throwsAt.merge(target, 1, Integer::sum));
+        }
+
+        assertEquals(Set.of(anchor, loner), throwsAt.keySet());
+    }
+
+    @Test
+    void anchorIsReselectedWhenItLeaves() {
+        TestHost host = new TestHost();
+        TestLevel moon = host.addLevel(50);
+        TestPlayer anchor = host.addPlayer(moon, 2, 0, 0);
+        TestPlayer other = host.addPlayer(moon, 5, 50, 0);
+
+        List<TestPlayer> targets = new ArrayList<>();
+        MeteorScheduler<TestLevel, TestPlayer> scheduler = new MeteorScheduler<>();
+        MeteorScheduler.MeteorThrower<TestLevel, TestPlayer> thrower = (level, target, size) -> targets.add(target);
+        for (int t = 0; t < 2_000; t++) scheduler.tick(host, 1.0f, thrower);
+        assertFalse(targets.isEmpty(), "expected meteors before the anchor left");
+        assertTrue(targets.stream().allMatch(target -> target == anchor), "expected every meteor to target the anchor");
+
+        host.players.remove(anchor);
+        for (int t = 0; t < MeteorScheduler.CLUSTER_INTERVAL; t++) scheduler.tick(host, 1.0f, thrower);
+        targets.clear();
+        for (int t = 0; t < 2_000; t++) scheduler.tick(host, 1.0f, thrower);
+        assertFalse(targets.isEmpty(), "expected meteors after the anchor left");
+        assertTrue(targets.stream().allMatch(target -> target == other), "expected every meteor to target the new anchor");
+    }
+
+    @Test
+    void staleImpactsArePurgedOnceTheyAreMostOfTheQueue() {
+        TestHost host = new TestHost();
+        // rare enough that no impact lands during the test
+        TestLevel moon = host.addLevel(1_000_000);
+        List<TestPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 10; i++) players.add(host.addPlayer(moon, i, i * 1000, 0));
+
+        MeteorScheduler<TestLevel, TestPlayer> scheduler = new MeteorScheduler<>();
+        MeteorScheduler.MeteorThrower<TestLevel, TestPlayer> thrower = (level, target, size) -> fail("no meteor should land");
+        scheduler.tick(host, 1.0f, thrower);
+        assertEquals(20, scheduler.pendingImpacts());
+
+        // 4 stale impacts out of 20 are left for the queue to skip
+        host.players.removeAll(players.subList(0, 2));
+        for (int t = 0; t < MeteorScheduler.CLUSTER_INTERVAL; t++) scheduler.tick(host, 1.0f, thrower);
+        assertEquals(20, scheduler.pendingImpacts());
+
+        // 18 stale impacts out of 20 are purged
+        host.players.removeAll(players.subList(2, 9));
+        for (int t = 0; t < MeteorScheduler.CLUSTER_INTERVAL; t++) scheduler.tick(host, 1.0f, thrower);
+        assertEquals(2, scheduler.pendingImpacts());
+    }
+
+    @Test
+    void impactsPerClusterMatchTheRate() {
+        int chance = 50;
+        TestHost host = new TestHost();
+        TestLevel moon = host.addLevel(chance);
+        TestLevel earth = host.addLevel(0);
+        List<TestPlayer> anchors = List.of(host.addPlayer(moon, 1, 0, 0), host.addPlayer(moon, 2, 1000, 0));
+        host.addPlayer(earth, 3, 0, 0);
+
+        Map<TestPlayer, int[]> impacts = new HashMap<>();
+        MeteorScheduler<TestLevel, TestPlayer> scheduler = new MeteorScheduler<>();
+        for (long t = 0; t < TICKS / 100; t++) {
+            scheduler.tick(host, 1.0f, (level, target, size) -> {
+                assertSame(moon, level);
+                impacts.computeIfAbsent(target, k -> new int[2])[size == MeteorScheduler.SMALL_METEOR ? 0 : 1]++;
+            });
+        }
+
+        assertEquals(Set.copyOf(anchors), impacts.keySet());
+        for (TestPlayer anchor : anchors) {
+            double small = (double) (TICKS / 100) / chance;
+            double large = small / MeteorScheduler.LARGE_METEOR_RARITY;
+            assertEquals(small, impacts.get(anchor)[0], 5.0 * Math.sqrt(small) + 1.0, "small meteors at " + anchor.id);
+            assertEquals(large, impacts.get(anchor)[1], 5.0 * Math.sqrt(large) + 1.0, "large meteors at " + anchor.id);
+        }
+    }
+
+    private record TestLevel(int chance, RandomSource random) {
+    }
+
+    private static final class TestPlayer {
+        private final UUID uuid;
+        private final int id;
+        private final TestLevel level;
+        private final Vec3 position;
+        private boolean spectator;
+
+        private TestPlayer(int id, TestLevel level, Vec3 position) {
+            this.uuid = new UUID(0, id);
+            this.id = id;
+            this.level = level;
+            this.position = position;
+        }
+    }
+
+    private static final class TestHost implements MeteorScheduler.Host<TestLevel, TestPlayer> {
+        private final List<TestLevel> levels = new ArrayList<>();
+        private final List<TestPlayer> players = new ArrayList<>();
+
+        private TestLevel addLevel(int chance) {
+            TestLevel level = new TestLevel(chance, RandomSource.create(this.levels.size()));
+            this.levels.add(level);
+            return level;
+        }
+
+        private TestPlayer addPlayer(TestLevel level, int id, double x, double z) {
+            TestPlayer player = new TestPlayer(id, level, new Vec3(x, 64, z));
+            this.players.add(player);
+            return player;
+        }
+
+        @Override
+        public Iterable<TestLevel> levels() {
+            return this.levels;
+        }
+
+        @Override
+        public List<TestPlayer> players(TestLevel level) {
+            return this.players.stream().filter(player -> player.level == level).toList();
+        }
+
+        @Override
+        public int chance(TestLevel level, float multiplier) {
+            return level.chance();
+        }
+
+        @Override
+        public RandomSource random(TestLevel level) {
+            return level.random();
+        }
+
+        @Override
+        public @Nullable TestPlayer player(UUID uuid) {
+            for (TestPlayer player : this.players) {
+                if (player.uuid.equals(uuid)) return player;
+            }
+            return null;
+        }
+
+        @Override
+        public TestLevel level(TestPlayer player) {
+            return player.level;
+        }
+
+        @Override
+        public UUID uuid(TestPlayer player) {
+            return player.uuid;
+        }
+
+        @Override
+        public int id(TestPlayer player) {
+            return player.id;
+        }
+
+        @Override
+        public Vec3 position(TestPlayer player) {
+            return player.position;
+        }
+
+        @Override
+        public boolean isSpectator(TestPlayer player) {
+            return player.spectator;
+        }
+    }
+}
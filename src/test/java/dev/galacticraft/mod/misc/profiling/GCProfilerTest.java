@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.profiling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GCProfilerTest {
+    @AfterEach
+    void stop() {
+        GCProfiler.stop();
+    }
+
+    @Test
+    void disabledRecordsNothing() {
+        GCProfiler.start();
+        GCProfiler.stop();
+        GCProfiler.push(null, "ignored");
+        GCProfiler.count(null, "ignored", 1);
+        GCProfiler.pop();
+        assertFalse(GCProfiler.report().contains("ignored"));
+    }
+
+    @Test
+    void nestedSectionsAndCounters() {
+        GCProfiler.start();
+        for (int i = 0; i < 3; i++) {
+            GCProfiler.push(null, "outer");
+            GCProfiler.push(null, "inner");
+            GCProfiler.count(null, "items", 2);
+            GCProfiler.pop();
+            GCProfiler.pop();
+        }
+        GCProfiler.stop();
+
+        String[] lines = GCProfiler.report().split("\\R");
+        int outer = indexOf(lines, "outer: 3 calls");
+        int inner = indexOf(lines, "  inner: 3 calls");
+        int items = indexOf(lines, "    #items: 6");
+        assertTrue(outer >= 0 && outer < inner && inner < items, String.join("\n", lines));
+    }
+
+    @Test
+    void otherThreadsAreIgnored() throws InterruptedException {
+        GCProfiler.start();
+        Thread thread = new Thread(() -> {
+            GCProfiler.push(null, "elsewhere");
+            GCProfiler.pop();
+        });
+        thread.start();
+        thread.join();
+        assertFalse(GCProfiler.report().contains("elsewhere"));
+    }
+
+    private static int indexOf(String[] lines, String prefix) {
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].startsWith(prefix)) return i;
+        }
+        return -1;
+    }
+}
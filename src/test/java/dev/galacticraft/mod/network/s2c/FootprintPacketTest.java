@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.network.s2c;
+
+import dev.galacticraft.mod.misc.footprint.ChunkFootprints;
+import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import dev.galacticraft.mod.misc.footprint.FootprintOwners;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FootprintPacketTest {
+    private static final long CHUNK = ChunkPos.asLong(-5, 9);
+    private static final int ORIGIN_X = -5 << 4;
+    private static final int ORIGIN_Z = 9 << 4;
+    private static final UUID SELF = UUID.randomUUID();
+    private static final UUID OTHER = UUID.randomUUID();
+
+    @Test
+    void snapshotReplacesTheChunkIncludingOwnFootprints() {
+        FootprintOwners owners = new FootprintOwners();
+        ChunkFootprints server = new ChunkFootprints(CHUNK);
+        add(server, owners, ORIGIN_X + 1, ORIGIN_Z + 1, SELF);
+        add(server, owners, ORIGIN_X + 2, ORIGIN_Z + 2, OTHER);
+
+        FootprintManager client = new FootprintManager();
+        client.addFootprint(CHUNK, ORIGIN_X + 9, 70, ORIGIN_Z + 9, 0, (short) 0, OTHER);
+        roundTrip(FootprintPacket.create(CHUNK, server, -1, owners)).apply(client, SELF);
+
+        ChunkFootprints synced = client.getFootprints().get(CHUNK);
+        assertEquals(2, synced.size());
+        assertEquals(ORIGIN_X + 1, synced.getX(0));
+        assertEquals(SELF, client.getOwners().getOwner(synced.getOwner(0)));
+        assertEquals(ORIGIN_X + 2, synced.getX(1));
+        assertEquals(OTHER, client.getOwners().getOwner(synced.getOwner(1)));
+    }
+
+    @Test
+    void deltaAddsNewFootprintsOfOthersOnly() {
+        FootprintOwners owners = new FootprintOwners();
+        ChunkFootprints server = new ChunkFootprints(CHUNK);
+        add(server, owners, ORIGIN_X + 1, ORIGIN_Z + 1, OTHER);
+        int baseline = server.getNextId();
+        add(server, owners, ORIGIN_X + 2, ORIGIN_Z + 2, SELF);
+        add(server, owners, ORIGIN_X + 3, ORIGIN_Z + 3, OTHER);
+
+        FootprintManager client = new FootprintManager();
+        client.addFootprint(CHUNK, ORIGIN_X + 1, 64, ORIGIN_Z + 1, 0, (short) 0, OTHER);
+        // the client recorded its own footprint when it stepped there
+        client.addFootprint(CHUNK, ORIGIN_X + 2, 64, ORIGIN_Z + 2, 0, (short) 0, SELF);
+        roundTrip(FootprintPacket.create(CHUNK, server, baseline, owners)).apply(client, SELF);
+
+        ChunkFootprints synced = client.getFootprints().get(CHUNK);
+        assertEquals(3, synced.size());
+        assertEquals(ORIGIN_X + 3, synced.getX(2));
+        assertEquals(OTHER, client.getOwners().getOwner(synced.getOwner(2)));
+    }
+
+    @Test
+    void quantizationStaysWithinBounds() {
+        FootprintOwners owners = new FootprintOwners();
+        ChunkFootprints server = new ChunkFootprints(CHUNK);
+        float rotation = Mth.TWO_PI - 0.001F;
+        server.add(ORIGIN_X, -2048, ORIGIN_Z, 0, (short) 0, owners.acquire(OTHER), owners);
+        server.add(ORIGIN_X + 15.99999, 2047.9, ORIGIN_Z + 15.99999, rotation, (short) 3199, owners.acquire(OTHER), owners);
+        server.add(ORIGIN_X + 7.3, 65.03, ORIGIN_Z + 0.123, 1.0F, (short) 40, owners.acquire(OTHER), owners);
+
+        FootprintManager client = new FootprintManager();
+        roundTrip(FootprintPacket.create(CHUNK, server, -1, owners)).apply(client, SELF);
+        ChunkFootprints synced = client.getFootprints().get(CHUNK);
+        assertEquals(3, synced.size());
+
+        // the chunk origin and the lowest height are exact
+        assertEquals(ORIGIN_X, synced.getX(0));
+        assertEquals(ORIGIN_Z, synced.getZ(0));
+        assertEquals(-2048, synced.getY(0));
+        assertEquals(0, synced.getRotation(0));
+
+        // the far edge stays inside the chunk
+        for (int n = 0; n < 3; n++) {
+            assertTrue(synced.getX(n) >= ORIGIN_X && synced.getX(n) < ORIGIN_X + 16);
+            assertTrue(synced.getZ(n) >= ORIGIN_Z && synced.getZ(n) < ORIGIN_Z + 16);
+            assertEquals(server.getX(n), synced.getX(n), 1 / 4096.0);
+            assertEquals(server.getZ(n), synced.getZ(n), 1 / 4096.0);
+            assertEquals(server.getY(n), synced.getY(n), 1 / 16.0);
+            assertEquals(server.getRotation(n), synced.getRotation(n), Mth.TWO_PI / 256);
+            assertEquals(server.getAge(n), synced.getAge(n));
+        }
+        assertTrue(synced.getRotation(1) < Mth.TWO_PI);
+    }
+
+    private static void add(ChunkFootprints footprints, FootprintOwners owners, double x, double z, UUID owner) {
+        footprints.add(x, 64, z, 0, (short) 0, owners.acquire(owner), owners);
+    }
+
+    private static FootprintPacket roundTrip(FootprintPacket packet) {
+        ByteBuf buf = Unpooled.buffer();
+        FootprintPacket.STREAM_CODEC.encode(buf, packet);
+        FootprintPacket decoded = FootprintPacket.STREAM_CODEC.decode(buf);
+        assertEquals(packet.chunk(), decoded.chunk());
+        assertArrayEquals(packet.data(), decoded.data());
+        return decoded;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2019-2026 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.world.gen.carver;
+
+import com.mojang.serialization.Lifecycle;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.biome.*;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.CarvingMask;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.LegacyRandomSource;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CraterCarverTest {
+    private static final long SEED = 0x6A1AC71CL;
+    // the moon crater carver configuration
+    private static final int Y = 128;
+    private static final int MIN_RADIUS = 8;
+    private static final int MAX_RADIUS = 27;
+    private static final int IDEAL_RANGE_OFFSET = 8;
+    // vanilla carves every chunk with the carvers that start up to 8 chunks away
+    private static final int RANGE = 8;
+    private static final LevelHeightAccessor HEIGHT = LevelHeightAccessor.create(-64, 384);
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    // leaves some floors uncovered, like a biome without a top material would
+    private static final Function<BlockPos, Optional<BlockState>> TOP_MATERIAL = pos -> Math.floorMod(pos.getX() + pos.getZ(), 5) == 0
+            ? Optional.empty() : Optional.of(Blocks.DIRT.defaultBlockState());
+
+    private static Registry<Biome> biomes;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        MappedRegistry<Biome> registry = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        Registry.register(registry, Biomes.PLAINS, new Biome.BiomeBuilder()
+                .hasPrecipitation(false)
+                .temperature(0.5F)
+                .downfall(0.5F)
+                .specialEffects(new BiomeSpecialEffects.Builder().fogColor(0).waterColor(0).waterFogColor(0).skyColor(0).build())
+                .mobSpawnSettings(MobSpawnSettings.EMPTY)
+                .generationSettings(BiomeGenerationSettings.EMPTY)
+                .build());
+        biomes = registry.freeze();
+    }
+
+    @Test
+    void carvedColumnsMatchLegacyCarver() {
+        long dug = 0;
+        for (int startX = -4; startX < 4; startX++) {
+            for (int startZ = -4; startZ < 4; startZ++) {
+                ChunkPos start = new ChunkPos(startX, startZ);
+                for (int x = startX - RANGE; x <= startX + RANGE; x++) {
+                    for (int z = startZ - RANGE; z <= startZ + RANGE; z++) {
+                        ChunkPos chunk = new ChunkPos(x, z);
+                        Long2DoubleMap expected = legacyColumns(random(start), start, chunk);
+                        Long2DoubleMap actual = plannedColumns(random(start), start, chunk);
+                        assertEquals(expected, actual, "columns dug in " + chunk + " by the crater starting in " + start);
+                        dug += expected.size();
+                    }
+                }
+            }
+        }
+        assertTrue(dug > 0, "expected the craters to dig something");
+    }
+
+    @Test
+    void carvedTerrainMatchesLegacyCarver() {
+        for (ChunkPos pos : new ChunkPos[]{new ChunkPos(0, 0), new ChunkPos(-1, 2), new ChunkPos(5, -3)}) {
+            ChunkAccess expected = terrain(pos);
+            ChunkAccess actual = terrain(pos);
+            CarvingMask expectedMask = new CarvingMask(HEIGHT.getHeight(), HEIGHT.getMinBuildHeight());
+            CarvingMask actualMask = new CarvingMask(HEIGHT.getHeight(), HEIGHT.getMinBuildHeight());
+
+            // every chunk in range starts a crater, so that they overlap far more than they would in a world
+            for (int x = pos.x - RANGE; x <= pos.x + RANGE; x++) {
+                for (int z = pos.z - RANGE; z <= pos.z + RANGE; z++) {
+                    ChunkPos start = new ChunkPos(x, z);
+                    legacyCarve(random(start), start, expected, expectedMask);
+                    CraterCarver.Crater crater = CraterCarver.Crater.plan(random(start), start, Y, MIN_RADIUS, MAX_RADIUS, IDEAL_RANGE_OFFSET);
+                    if (crater.reaches(pos)) {
+                        CraterCarver.dig(crater, actual, actualMask, TOP_MATERIAL);
+                    }
+                }
+            }
+
+            int carved = 0;
+            for (BlockPos block : BlockPos.betweenClosed(0, Y - 24, 0, 15, Y + 1, 15)) {
+                assertEquals(expected.getBlockState(block), actual.getBlockState(block), "block at " + block.immutable() + " in " + pos);
+                if (block.getY() < Y - 3 && expected.getBlockState(block).isAir()) carved++;
+            }
+            assertArrayEquals(expectedMask.toArray(), actualMask.toArray(), "carving mask of " + pos);
+            assertTrue(carved > 0, "expected the craters to dig into " + pos);
+        }
+    }
+
+    @Test
+    void planIsDeterministic() {
+        ChunkPos start = new ChunkPos(3, -7);
+        assertEquals(CraterCarver.Crater.plan(random(start), start, Y, MIN_RADIUS, MAX_RADIUS, IDEAL_RANGE_OFFSET),
+                CraterCarver.Crater.plan(random(start), start, Y, MIN_RADIUS, MAX_RADIUS, IDEAL_RANGE_OFFSET));
+    }
+
+    private static RandomSource random(ChunkPos start) {
+        WorldgenRandom random = new WorldgenRandom(new LegacyRandomSource(0));
+        random.setLargeFeatureSeed(SEED, start.x, start.z);
+        return random;
+    }
+
+    /**
+     * Builds uneven stone ground just below {@link #Y}, with a few pockets of air under the surface.
+     */
+    private static ChunkAccess terrain(ChunkPos pos) {
+        ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.EMPTY, HEIGHT, biomes, null);
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int blockX = pos.getBlockX(x);
+                int blockZ = pos.getBlockZ(z);
+                int surface = Y - 1 - Math.floorMod(blockX * 7 + blockZ * 13, 4);
+                for (int y = Y - 24; y <= surface; y++) {
+                    chunk.setBlockState(mutable.set(x, y, z), Blocks.STONE.defaultBlockState(), false);
+                }
+                if (Math.floorMod(blockX + blockZ, 9) == 0) {
+                    chunk.setBlockState(mutable.set(x, surface - 4, z), AIR, false);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private static Long2DoubleMap plannedColumns(RandomSource random, ChunkPos start, ChunkPos chunk) {
+        CraterCarver.Crater crater = CraterCarver.Crater.plan(random, start, Y, MIN_RADIUS, MAX_RADIUS, IDEAL_RANGE_OFFSET);
+        Long2DoubleMap columns = new Long2DoubleOpenHashMap();
+        for (int x = crater.minX(chunk); x <= crater.maxX(chunk); x++) {
+            for (int z = crater.minZ(chunk); z <= crater.maxZ(chunk); z++) {
+                double toDig = crater.depth(chunk.getBlockX(x), chunk.getBlockZ(z));
+                if (toDig > 0) columns.put(BlockPos.asLong(x, Y, z), toDig);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * The column depths of the carver as it was before craters were planned, which scanned every column of every chunk.
+     */
+    private static Long2DoubleMap legacyColumns(RandomSource random, ChunkPos pos, ChunkPos chunk) {
+        BlockPos craterCenter = pos.getBlockAt(random.nextInt(16), Y, random.nextInt(16));
+        double radius = 8 + (random.nextDouble() * (MAX_RADIUS - MIN_RADIUS));
+        if (random.nextBoolean() && radius < (MIN_RADIUS + IDEAL_RANGE_OFFSET) || radius > (MAX_RADIUS - IDEAL_RANGE_OFFSET))
+            radius = 8 + (random.nextDouble() * (MAX_RADIUS - MIN_RADIUS));
+        double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
+        boolean fresh = random.nextInt(16) == 1;
+
+        Long2DoubleMap columns = new Long2DoubleOpenHashMap();
+        for (int innerChunkX = 0; innerChunkX < 16; innerChunkX++) {
+            for (int innerChunkZ = 0; innerChunkZ < 16; innerChunkZ++) {
+                double toDig = legacyDepth(chunk, innerChunkX, innerChunkZ, craterCenter, radius, depthMultiplier, fresh);
+                if (toDig > 0) columns.put(BlockPos.asLong(innerChunkX, Y, innerChunkZ), toDig);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * The digging loop of the carver as it was before craters were planned, with the biome's top material replaced by
+     * {@link #TOP_MATERIAL}.
+     */
+    private static void legacyCarve(RandomSource random, ChunkPos pos, ChunkAccess chunk, CarvingMask carvingMask) {
+        BlockPos craterCenter = pos.getBlockAt(random.nextInt(16), Y, random.nextInt(16));
+        BlockPos.MutableBlockPos mutable = craterCenter.mutable();
+
+        double radius = 8 + (random.nextDouble() * (MAX_RADIUS - MIN_RADIUS));
+        if (random.nextBoolean() && radius < (MIN_RADIUS + IDEAL_RANGE_OFFSET) || radius > (MAX_RADIUS - IDEAL_RANGE_OFFSET))
+            radius = 8 + (random.nextDouble() * (MAX_RADIUS - MIN_RADIUS));
+        double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
+        boolean fresh = random.nextInt(16) == 1;
+        for (int innerChunkX = 0; innerChunkX < 16; innerChunkX++) {
+            for (int innerChunkZ = 0; innerChunkZ < 16; innerChunkZ++) {
+                double toDig = legacyDepth(chunk.getPos(), innerChunkX, innerChunkZ, craterCenter, radius, depthMultiplier, fresh);
+                if (toDig < 0) continue;
+
+                BlockPos.MutableBlockPos copy = new BlockPos.MutableBlockPos();
+                mutable.set(innerChunkX, Y, innerChunkZ);
+                for (int dug = 0; dug < toDig; dug++) {
+                    mutable.move(Direction.DOWN);
+                    if (!chunk.getBlockState(mutable).isAir() || carvingMask.get(innerChunkX, mutable.getY() + 64, innerChunkZ) || dug > 0) {
+                        chunk.setBlockState(mutable, AIR, false);
+                        if (dug == 0) {
+                            carvingMask.set(innerChunkX, mutable.getY() + 64, innerChunkZ);
+                        }
+                        if (!fresh && dug + 1 >= toDig && !chunk.getBlockState(copy.set(mutable).move(Direction.DOWN, 2)).isAir()) {
+                            TOP_MATERIAL.apply(mutable).ifPresent(state -> chunk.setBlockState(mutable.move(Direction.DOWN), state, false));
+                        }
+                    } else {
+                        dug--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@return the legacy depth of a column, or {@code -1} for columns outside of the 32 block square it looked at}
+     */
+    private static double legacyDepth(ChunkPos chunk, int innerChunkX, int innerChunkZ, BlockPos craterCenter, double radius, double depthMultiplier, boolean fresh) {
+        double toDig = 0;
+
+        double xDev = Math.abs((chunk.getBlockX(innerChunkX)) - craterCenter.getX());
+        double zDev = Math.abs((chunk.getBlockZ(innerChunkZ)) - craterCenter.getZ());
+        if (xDev >= 0 && xDev < 32 && zDev >= 0 && zDev < 32) {
+            if (xDev * xDev + zDev * zDev < radius * radius) {
+                xDev /= radius;
+                zDev /= radius;
+                final double sqrtY = xDev * xDev + zDev * zDev;
+                double yDev = sqrtY * sqrtY * 6;
+                double craterDepth = 5 - yDev;
+                craterDepth *= depthMultiplier;
+                if (craterDepth > 0.0) {
+                    toDig = craterDepth;
+                }
+            }
+
+            if (toDig >= 1) {
+                toDig++;
+                if (fresh) toDig++;
+            }
+            return toDig;
+        }
+        return -1;
+    }
+}